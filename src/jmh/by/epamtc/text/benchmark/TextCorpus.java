@@ -0,0 +1,47 @@
+package by.epamtc.text.benchmark;
+
+import java.util.Random;
+
+public enum TextCorpus {
+
+    LATIN(new String[]{"ra", "da", "word", "the", "sec", "ond", "th", "ird", "str", "ing", "pro", "ces", "ba", "ku"}),
+    CYRILLIC(new String[]{"ра", "да", "сло", "во", "пе", "ре", "ход", "ёж", "тек", "ст", "про", "цесс", "ба", "ку"}),
+    MIXED(new String[]{"ra", "da", "word", "th", "ird", "pro", "ces", "ра", "да", "сло", "во", "ёж", "тек", "ст"});
+
+    private static final String[] SEPARATORS = {" ", " ", " ", " ", ", ", ". ", " - ", "(1) ", "! ", "\n"};
+    private static final int MAX_SYLLABLES_PER_WORD = 4;
+    private static final int UPPER_CASE_WORDS_RATIO = 8;
+
+    private final String[] syllables;
+
+    TextCorpus(String[] syllables) {
+        this.syllables = syllables;
+    }
+
+    public String generate(int length, long seed) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Length cannot be negative.");
+        }
+        Random random = new Random(seed);
+        StringBuilder builder = new StringBuilder(length);
+        while (builder.length() < length) {
+            int syllablesCount = random.nextInt(MAX_SYLLABLES_PER_WORD) + 1;
+            for (int i = 0; i < syllablesCount; i++) {
+                String syllable = syllables[random.nextInt(syllables.length)];
+                if (i == 0 && random.nextInt(UPPER_CASE_WORDS_RATIO) == 0) {
+                    syllable = Character.toUpperCase(syllable.charAt(0)) + syllable.substring(1);
+                }
+                appendUpTo(builder, syllable, length);
+            }
+            appendUpTo(builder, SEPARATORS[random.nextInt(SEPARATORS.length)], length);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Appends as much of the part as fits in the length, so the builder never grows over its initial capacity.
+     */
+    private static void appendUpTo(StringBuilder builder, String part, int length) {
+        builder.append(part, 0, Math.min(part.length(), length - builder.length()));
+    }
+}
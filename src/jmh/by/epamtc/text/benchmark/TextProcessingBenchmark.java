@@ -0,0 +1,176 @@
+package by.epamtc.text.benchmark;
+
+import by.epamtc.text.util.processors.RegexMatcherBackend;
+import by.epamtc.text.util.processors.TextProcessingCharArrayUtils;
+import by.epamtc.text.util.processors.TextProcessingException;
+import by.epamtc.text.util.processors.TextProcessingRegexUtils;
+import by.epamtc.text.util.processors.TextProcessingStringUtils;
+import by.epamtc.text.util.processors.WordPredicate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Compares the regex, string and char array engines on every text operation.
+ * <p>
+ * Throughput and sample time modes are reported together, the latter gives p99 latency. Allocation rate is
+ * collected by the gc profiler, which {@link #main(String[])} attaches. Sizes are of the text in UTF-16, so 1 GB is
+ * 512M chars, which every corpus can hold in a single string. Sizes up to 1 GB need a large heap, so every fork is
+ * started with {@code -Xmx16g}.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx16g"})
+@State(Scope.Thread)
+public class TextProcessingBenchmark {
+
+    private static final long CORPUS_SEED = 20210406L;
+    private static final int POSITION_IN_WORD = 2;
+    private static final char LETTER_REPLACEMENT = '_';
+    private static final String WORD_REPLACEMENT = "replacement";
+    private static final char[] WORD_REPLACEMENT_ARRAY = WORD_REPLACEMENT.toCharArray();
+
+    @Param({"1KB", "1MB", "64MB", "1GB"})
+    private String size;
+
+    @Param({"LATIN", "CYRILLIC", "MIXED"})
+    private TextCorpus corpus;
+
+    @Param({"JDK", "DFA"})
+    private RegexMatcherBackend regexBackend;
+
+    private String text;
+    private char[] textArray;
+    private char[] workArray;
+    private char charBehind;
+    private char charToReplace;
+    private char charReplacement;
+    private Predicate<String> stringPredicate;
+    private Predicate<char[]> charArrayPredicate;
+
+    @Setup
+    public void setUp() {
+        TextProcessingRegexUtils.setMatcherBackend(regexBackend);
+        text = corpus.generate(parseSize(size) / Character.BYTES, CORPUS_SEED);
+        textArray = text.toCharArray();
+        workArray = new char[textArray.length];
+        boolean cyrillic = corpus == TextCorpus.CYRILLIC;
+        charBehind = cyrillic ? 'р' : 'r';
+        charToReplace = cyrillic ? 'а' : 'a';
+        charReplacement = cyrillic ? 'о' : 'o';
+        stringPredicate = WordPredicate.specifyWordAsStringLength(4)
+                                       .and(WordPredicate.CONSONANT_PREFIX_PREDICATE_STRING_IMPLEMENTATION);
+        charArrayPredicate = WordPredicate.specifyWordAsCharArrayLength(4)
+                                          .and(WordPredicate.CONSONANT_PREFIX_PREDICATE_CHAR_ARRAY_IMPLEMENTATION);
+    }
+
+    @Benchmark
+    public String replaceLetterByPositionInWordRegex() throws TextProcessingException {
+        return TextProcessingRegexUtils.replaceLetterByPositionInWord(text, POSITION_IN_WORD, LETTER_REPLACEMENT);
+    }
+
+    @Benchmark
+    public String replaceLetterByPositionInWordString() throws TextProcessingException {
+        return TextProcessingStringUtils.replaceLetterByPositionInWord(text, POSITION_IN_WORD, LETTER_REPLACEMENT);
+    }
+
+    @Benchmark
+    public char[] replaceLetterByPositionInWordCharArray() throws TextProcessingException {
+        char[] editedText = resetWorkArray();
+        TextProcessingCharArrayUtils.replaceLetterByPositionInWord(editedText, POSITION_IN_WORD, LETTER_REPLACEMENT);
+        return editedText;
+    }
+
+    @Benchmark
+    public String replaceEachLetterAfterRegex() throws TextProcessingException {
+        return TextProcessingRegexUtils.replaceEachLetterAfter(text, charBehind, charToReplace, charReplacement);
+    }
+
+    @Benchmark
+    public String replaceEachLetterAfterString() throws TextProcessingException {
+        return TextProcessingStringUtils.replaceEachLetterAfter(text, charBehind, charToReplace, charReplacement);
+    }
+
+    @Benchmark
+    public char[] replaceEachLetterAfterCharArray() throws TextProcessingException {
+        char[] editedText = resetWorkArray();
+        TextProcessingCharArrayUtils.replaceEachLetterAfter(editedText, charBehind, charToReplace, charReplacement);
+        return editedText;
+    }
+
+    @Benchmark
+    public String replaceEachWordByPredicateRegex() throws TextProcessingException {
+        return TextProcessingRegexUtils.replaceEachWordByPredicate(text, stringPredicate, WORD_REPLACEMENT);
+    }
+
+    @Benchmark
+    public String replaceEachWordByPredicateString() throws TextProcessingException {
+        return TextProcessingStringUtils.replaceEachWordByPredicate(text, stringPredicate, WORD_REPLACEMENT);
+    }
+
+    @Benchmark
+    public char[] replaceEachWordByPredicateCharArray() throws TextProcessingException {
+        return TextProcessingCharArrayUtils.replaceEachWordByPredicate(textArray, charArrayPredicate,
+                                                                       WORD_REPLACEMENT_ARRAY);
+    }
+
+    @Benchmark
+    public String removeAllNotAlphabeticExceptSpacesRegex() throws TextProcessingException {
+        return TextProcessingRegexUtils.removeAllNotAlphabeticExceptSpaces(text);
+    }
+
+    @Benchmark
+    public String removeAllNotAlphabeticExceptSpacesString() throws TextProcessingException {
+        return TextProcessingStringUtils.removeAllNotAlphabeticExceptSpaces(text);
+    }
+
+    @Benchmark
+    public char[] removeAllNotAlphabeticExceptSpacesCharArray() throws TextProcessingException {
+        return TextProcessingCharArrayUtils.removeAllNotAlphabeticExceptSpaces(textArray);
+    }
+
+    private char[] resetWorkArray() {
+        System.arraycopy(textArray, 0, workArray, 0, textArray.length);
+        return workArray;
+    }
+
+    private static int parseSize(String size) {
+        String unit = size.substring(size.length() - 2);
+        int value = Integer.parseInt(size.substring(0, size.length() - 2));
+        switch (unit) {
+            case "KB":
+                return value << 10;
+            case "MB":
+                return value << 20;
+            case "GB":
+                return Math.toIntExact((long) value << 30);
+            default:
+                throw new IllegalArgumentException("Unknown size unit: " + unit);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder().include(TextProcessingBenchmark.class.getSimpleName())
+                                              .addProfiler(GCProfiler.class)
+                                              .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,199 @@
+package by.epamtc.text.runner;
+
+import by.epamtc.text.util.processors.Alphabet;
+import by.epamtc.text.util.processors.CharacterClassifier;
+import by.epamtc.text.util.processors.FirstLetterClass;
+import by.epamtc.text.util.processors.TextOperation;
+import by.epamtc.text.util.processors.TextOperations;
+import by.epamtc.text.util.processors.TextPipeline;
+import by.epamtc.text.util.processors.TextProcessingException;
+import by.epamtc.text.util.processors.WordCondition;
+import by.epamtc.text.util.providers.FileException;
+import by.epamtc.text.util.providers.FileTreeProcessingStatistics;
+import by.epamtc.text.util.providers.TextFileTreeUtils;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Command line mode that processes a whole directory tree:
+ * <pre>
+ * Runner &lt;input directory&gt; &lt;output directory&gt; [--glob=&lt;pattern&gt;] [--charset=&lt;name&gt;]
+ *        [--threads=&lt;count&gt;] [--alphabet=&lt;name&gt;[+&lt;name&gt;...]] &lt;operation&gt;...
+ * </pre>
+ * Alphabets are {@code default} (every letter, with Latin and Russian vowels and consonants), {@code latin},
+ * {@code russian}, {@code belarusian}, {@code ukrainian} and {@code unicode}. Operations are applied in the given
+ * order:
+ * <ul>
+ * <li>{@code letter-by-position=<position>,<replacement char>}</li>
+ * <li>{@code letter-after=<char behind><char to replace><replacement char>}</li>
+ * <li>{@code word-by-length=<length>,<replacement>}</li>
+ * <li>{@code consonant-word-by-length=<length>,<replacement>}</li>
+ * <li>{@code remove-not-alphabetic}</li>
+ * </ul>
+ */
+public final class DirectoryRunner {
+
+    private static final String USAGE = "Usage: Runner <input directory> <output directory> [--glob=<pattern>] "
+                                         + "[--charset=<name>] [--threads=<count>] [--alphabet=<name>[+<name>...]] "
+                                         + "<operation>...\n"
+                                         + "Alphabets: default, latin, russian, belarusian, ukrainian, unicode\n"
+                                         + "Operations: letter-by-position=<position>,<char>, "
+                                         + "letter-after=<three chars>, word-by-length=<length>,<replacement>, "
+                                         + "consonant-word-by-length=<length>,<replacement>, remove-not-alphabetic";
+    private static final int IN_FLIGHT_FILES_PER_THREAD = 4;
+
+    private DirectoryRunner() {
+    }
+
+    public static void run(String[] args) throws FileException, TextProcessingException {
+        if (args.length < 3) {
+            System.err.println(USAGE);
+            return;
+        }
+        Path inputRoot = Paths.get(args[0]);
+        Path outputRoot = Paths.get(args[1]);
+        String glob = TextFileTreeUtils.DEFAULT_GLOB;
+        Charset charset = StandardCharsets.UTF_8;
+        int threadsCount = Runtime.getRuntime().availableProcessors();
+        Alphabet alphabet = Alphabet.DEFAULT;
+        List<String> operationArguments = new ArrayList<>();
+        TextPipeline pipeline = new TextPipeline();
+        try {
+            for (int i = 2; i < args.length; i++) {
+                String argument = args[i];
+                if (argument.startsWith("--glob=")) {
+                    glob = valueOf(argument);
+                } else if (argument.startsWith("--charset=")) {
+                    charset = Charset.forName(valueOf(argument));
+                } else if (argument.startsWith("--threads=")) {
+                    threadsCount = Integer.parseInt(valueOf(argument));
+                } else if (argument.startsWith("--alphabet=")) {
+                    alphabet = parseAlphabet(valueOf(argument));
+                } else {
+                    operationArguments.add(argument);
+                }
+            }
+            CharacterClassifier.setAlphabet(alphabet);
+            for (String operationArgument : operationArguments) {
+                pipeline = pipeline.then(parseOperation(operationArgument));
+            }
+            if (pipeline.getOperations().isEmpty()) {
+                throw new IllegalArgumentException("No operation is specified.");
+            }
+            if (threadsCount <= 0) {
+                throw new IllegalArgumentException("Threads count must be positive.");
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            return;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(threadsCount);
+        try {
+            int maxInFlight = threadsCount * IN_FLIGHT_FILES_PER_THREAD;
+            FileTreeProcessingStatistics statistics = TextFileTreeUtils.processFileTree(inputRoot, outputRoot, glob,
+                                                                                        charset, pipeline, executor,
+                                                                                        maxInFlight);
+            for (FileException failure : statistics.getFailures()) {
+                System.err.println(failure.getMessage() + " " + failure.getCause());
+            }
+            System.out.println(statistics);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static TextOperation parseOperation(String argument) {
+        String name = argument.contains("=") ? argument.substring(0, argument.indexOf('=')) : argument;
+        switch (name) {
+            case "letter-by-position": {
+                String[] values = splitValues(argument);
+                return TextOperations.replaceLetterByPositionInWord(Integer.parseInt(values[0]),
+                                                                    parseChar(values[1]));
+            }
+            case "letter-after": {
+                String value = valueOf(argument);
+                if (value.length() != 3) {
+                    throw new IllegalArgumentException("Three chars are expected: " + argument);
+                }
+                return TextOperations.replaceEachLetterAfter(value.charAt(0), value.charAt(1), value.charAt(2));
+            }
+            case "word-by-length": {
+                String[] values = splitValues(argument);
+                return TextOperations.replaceEachWordByPredicate(
+                        WordCondition.lengthEquals(Integer.parseInt(values[0])).compile(), values[1]);
+            }
+            case "consonant-word-by-length": {
+                String[] values = splitValues(argument);
+                WordCondition condition = WordCondition.lengthEquals(Integer.parseInt(values[0]))
+                                                       .and(WordCondition.firstLetterIs(FirstLetterClass.CONSONANT));
+                return TextOperations.replaceEachWordByPredicate(condition.compile(), values[1]);
+            }
+            case "remove-not-alphabetic":
+                return TextOperations.removeAllNotAlphabeticExceptSpaces();
+            default:
+                throw new IllegalArgumentException("Unknown operation: " + argument);
+        }
+    }
+
+    private static Alphabet parseAlphabet(String value) {
+        Alphabet alphabet = null;
+        for (String name : value.split("\\+")) {
+            Alphabet namedAlphabet;
+            switch (name) {
+                case "default":
+                    namedAlphabet = Alphabet.DEFAULT;
+                    break;
+                case "latin":
+                    namedAlphabet = Alphabet.LATIN;
+                    break;
+                case "russian":
+                    namedAlphabet = Alphabet.RUSSIAN;
+                    break;
+                case "belarusian":
+                    namedAlphabet = Alphabet.BELARUSIAN;
+                    break;
+                case "ukrainian":
+                    namedAlphabet = Alphabet.UKRAINIAN;
+                    break;
+                case "unicode":
+                    namedAlphabet = Alphabet.UNICODE;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown alphabet: " + name);
+            }
+            alphabet = alphabet == null ? namedAlphabet : alphabet.union(namedAlphabet);
+        }
+        return alphabet;
+    }
+
+    private static String valueOf(String argument) {
+        int separatorPosition = argument.indexOf('=');
+        if (separatorPosition < 0) {
+            throw new IllegalArgumentException("Value is expected: " + argument);
+        }
+        return argument.substring(separatorPosition + 1);
+    }
+
+    private static String[] splitValues(String argument) {
+        String[] values = valueOf(argument).split(",", 2);
+        if (values.length != 2) {
+            throw new IllegalArgumentException("Two comma separated values are expected: " + argument);
+        }
+        return values;
+    }
+
+    private static char parseChar(String value) {
+        if (value.length() != 1) {
+            throw new IllegalArgumentException("Single char is expected: " + value);
+        }
+        return value.charAt(0);
+    }
+}
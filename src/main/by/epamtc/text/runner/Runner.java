@@ -5,15 +5,19 @@ import by.epamtc.text.util.processors.TextProcessingException;
 import by.epamtc.text.util.processors.TextProcessingRegexUtils;
 import by.epamtc.text.util.processors.TextProcessingStringUtils;
 import by.epamtc.text.util.processors.WordPredicate;
+import by.epamtc.text.util.processors.WordSlicePredicate;
 import by.epamtc.text.util.providers.FileException;
 import by.epamtc.text.util.providers.TextProvidingUtils;
 
 import java.io.File;
-import java.util.function.Predicate;
 
 public class Runner {
 
     public static void main(String[] args) throws FileException, TextProcessingException {
+        if (args.length > 0) {
+            DirectoryRunner.run(args);
+            return;
+        }
         	    String text = TextProvidingUtils.readTextFromConsole();
 //        String text = TextProvidingUtils.readTextFromFile(new File("input.txt"));
         text = text.trim();
@@ -40,13 +44,11 @@ public class Runner {
         System.out.println("Char array result 2: " + editedTextViaCharArray);
         System.out.println();
 
-        Predicate<String> stringPredicate = WordPredicate.specifyWordAsStringLength(3);
-        Predicate<char[]> charArrayPredicate = WordPredicate.specifyWordAsCharArrayLength(3);
-        editedTextViaRegex = TextProcessingRegexUtils.replaceEachWordByPredicate(text, stringPredicate, "replacement");
-        editedTextViaString = TextProcessingStringUtils.replaceEachWordByPredicate(text, stringPredicate,
-                                                                                   "replacement");
+        WordSlicePredicate predicate = WordPredicate.specifyWordAsSliceLength(3);
+        editedTextViaRegex = TextProcessingRegexUtils.replaceEachWordByPredicate(text, predicate, "replacement");
+        editedTextViaString = TextProcessingStringUtils.replaceEachWordByPredicate(text, predicate, "replacement");
         char[] textArrayCopy = text.toCharArray();
-        editedTextArray = TextProcessingCharArrayUtils.replaceEachWordByPredicate(textArrayCopy, charArrayPredicate,
+        editedTextArray = TextProcessingCharArrayUtils.replaceEachWordByPredicate(textArrayCopy, predicate,
                                                                                   "replacement".toCharArray());
         editedTextViaCharArray = new String(editedTextArray);
         System.out.println("Regex result 3:      " + editedTextViaRegex);
@@ -64,14 +66,12 @@ public class Runner {
         System.out.println("Char array result 4: " + editedTextViaCharArray);
         System.out.println();
 
-        stringPredicate = WordPredicate.specifyWordAsStringLength(4)
-                                       .and(WordPredicate.CONSONANT_PREFIX_PREDICATE_STRING_IMPLEMENTATION);
-        charArrayPredicate = WordPredicate.specifyWordAsCharArrayLength(4)
-                                          .and(WordPredicate.CONSONANT_PREFIX_PREDICATE_CHAR_ARRAY_IMPLEMENTATION);
-        editedTextViaRegex = TextProcessingRegexUtils.replaceEachWordByPredicate(text, stringPredicate, "");
-        editedTextViaString = TextProcessingStringUtils.replaceEachWordByPredicate(text, stringPredicate, "");
+        predicate = WordPredicate.specifyWordAsSliceLength(4)
+                                 .and(WordPredicate.CONSONANT_PREFIX_PREDICATE_SLICE_IMPLEMENTATION);
+        editedTextViaRegex = TextProcessingRegexUtils.replaceEachWordByPredicate(text, predicate, "");
+        editedTextViaString = TextProcessingStringUtils.replaceEachWordByPredicate(text, predicate, "");
         textArrayCopy = text.toCharArray();
-        editedTextArray = TextProcessingCharArrayUtils.replaceEachWordByPredicate(textArrayCopy, charArrayPredicate,
+        editedTextArray = TextProcessingCharArrayUtils.replaceEachWordByPredicate(textArrayCopy, predicate,
                                                                                   "".toCharArray());
         editedTextViaCharArray = new String(editedTextArray);
         System.out.println("Regex result 5:      " + editedTextViaRegex);
@@ -0,0 +1,167 @@
+package by.epamtc.text.util.processors;
+
+/**
+ * Set of letters the processors treat as word characters, together with its vowels and consonants. An alphabet is
+ * compiled into a class table over every {@code char}, so classifying a character takes a single array load. Digits
+ * and whitespace are classified the same way in every alphabet.
+ * <p>
+ * Alphabets are immutable; the default one is set with {@link CharacterClassifier#setAlphabet}, others can be given
+ * to the operations explicitly.
+ */
+public final class Alphabet {
+
+    private static final byte LETTER = 1;
+    private static final byte DIGIT = 1 << 1;
+    private static final byte WHITESPACE = 1 << 2;
+    private static final byte VOWEL = 1 << 3;
+    private static final byte CONSONANT = 1 << 4;
+
+    private static final String LATIN_VOWELS = "aeiou";
+    private static final String LATIN_CONSONANTS = "bcdfghjklmnpqrstvwxyz";
+    private static final String RUSSIAN_VOWELS = "аеёиоуыэюя";
+    private static final String RUSSIAN_CONSONANTS = "бвгджзйклмнпрстфхцчшщъь";
+    private static final String BELARUSIAN_VOWELS = "аеёіоуыэюя";
+    private static final String BELARUSIAN_CONSONANTS = "бвгджзйклмнпрстўфхцчшь";
+    private static final String UKRAINIAN_VOWELS = "аеєиіїоуюя";
+    private static final String UKRAINIAN_CONSONANTS = "бвгґджзйклмнпрстфхцчшщь";
+
+    public static final Alphabet LATIN = new Alphabet(LATIN_VOWELS, LATIN_CONSONANTS, false);
+    public static final Alphabet RUSSIAN = new Alphabet(RUSSIAN_VOWELS, RUSSIAN_CONSONANTS, false);
+    public static final Alphabet BELARUSIAN = new Alphabet(BELARUSIAN_VOWELS, BELARUSIAN_CONSONANTS, false);
+    public static final Alphabet UKRAINIAN = new Alphabet(UKRAINIAN_VOWELS, UKRAINIAN_CONSONANTS, false);
+
+    /**
+     * Every Unicode letter, with the Latin and Russian vowels and consonants only. This is how the processors
+     * classified characters before alphabets became configurable, so it is the default alphabet.
+     */
+    public static final Alphabet DEFAULT = new Alphabet(LATIN_VOWELS + RUSSIAN_VOWELS,
+                                                        LATIN_CONSONANTS + RUSSIAN_CONSONANTS, true);
+
+    /**
+     * Every Unicode letter, with the vowels and consonants of the other predefined alphabets.
+     */
+    public static final Alphabet UNICODE = new Alphabet(LATIN_VOWELS + RUSSIAN_VOWELS + BELARUSIAN_VOWELS +
+                                                        UKRAINIAN_VOWELS,
+                                                        LATIN_CONSONANTS + RUSSIAN_CONSONANTS +
+                                                        BELARUSIAN_CONSONANTS + UKRAINIAN_CONSONANTS, true);
+
+    private final byte[] characterClasses;
+    private final boolean allLetters;
+
+    private Alphabet(String vowels, String consonants, boolean allLetters) {
+        this.characterClasses = new byte[Character.MAX_VALUE + 1];
+        this.allLetters = allLetters;
+        for (int i = 0; i <= Character.MAX_VALUE; i++) {
+            char character = (char) i;
+            int characterClass = 0;
+            if (Character.isDigit(character)) {
+                characterClass |= DIGIT;
+            }
+            if (Character.isWhitespace(character)) {
+                characterClass |= WHITESPACE;
+            }
+            if (Character.isLetter(character)) {
+                char lowerCaseCharacter = Character.toLowerCase(character);
+                if (vowels.indexOf(lowerCaseCharacter) >= 0) {
+                    characterClass |= LETTER | VOWEL;
+                }
+                if (consonants.indexOf(lowerCaseCharacter) >= 0) {
+                    characterClass |= LETTER | CONSONANT;
+                }
+                if (allLetters) {
+                    characterClass |= LETTER;
+                }
+            }
+            characterClasses[i] = (byte) characterClass;
+        }
+    }
+
+    private Alphabet(byte[] characterClasses, boolean allLetters) {
+        this.characterClasses = characterClasses;
+        this.allLetters = allLetters;
+    }
+
+    /**
+     * Creates an alphabet of the given letters in all their cases. The letters may be given in any case.
+     */
+    public static Alphabet of(String vowels, String consonants) {
+        if (vowels == null || consonants == null) {
+            throw new IllegalArgumentException("Letters cannot be null.");
+        }
+        return new Alphabet(toLowerCaseLetters(vowels), toLowerCaseLetters(consonants), false);
+    }
+
+    private static String toLowerCaseLetters(String letters) {
+        char[] lowerCaseLetters = new char[letters.length()];
+        for (int i = 0; i < lowerCaseLetters.length; i++) {
+            char letter = letters.charAt(i);
+            if (!Character.isLetter(letter)) {
+                throw new IllegalArgumentException("Alphabet can contain only letters.");
+            }
+            lowerCaseLetters[i] = Character.toLowerCase(letter);
+        }
+        return new String(lowerCaseLetters);
+    }
+
+    public Alphabet union(Alphabet other) {
+        if (other == null) {
+            throw new IllegalArgumentException("Alphabet cannot be null.");
+        }
+        byte[] unitedCharacterClasses = new byte[characterClasses.length];
+        for (int i = 0; i < unitedCharacterClasses.length; i++) {
+            unitedCharacterClasses[i] = (byte) (characterClasses[i] | other.characterClasses[i]);
+        }
+        return new Alphabet(unitedCharacterClasses, allLetters || other.allLetters);
+    }
+
+    public boolean isLetter(char character) {
+        return (characterClasses[character] & LETTER) != 0;
+    }
+
+    public boolean isWhitespace(char character) {
+        return (characterClasses[character] & WHITESPACE) != 0;
+    }
+
+    public boolean isAlphabeticOrDigit(char character) {
+        return (characterClasses[character] & (LETTER | DIGIT)) != 0;
+    }
+
+    public boolean isAlphabeticOrSpace(char character) {
+        return (characterClasses[character] & (LETTER | WHITESPACE)) != 0;
+    }
+
+    public boolean isVowel(char character) {
+        return (characterClasses[character] & VOWEL) != 0;
+    }
+
+    public boolean isConsonant(char character) {
+        return (characterClasses[character] & CONSONANT) != 0;
+    }
+
+    /**
+     * Returns the letters as items of a regular expression character class, for example {@code a-zA-Z}.
+     */
+    String toLetterClassItems() {
+        if (allLetters) {
+            return "\\p{javaLetter}";
+        }
+        StringBuilder builder = new StringBuilder();
+        int i = 0;
+        while (i <= Character.MAX_VALUE) {
+            if (!isLetter((char) i)) {
+                i++;
+                continue;
+            }
+            int rangeStart = i;
+            while (i < Character.MAX_VALUE && isLetter((char) (i + 1))) {
+                i++;
+            }
+            builder.append((char) rangeStart);
+            if (i > rangeStart) {
+                builder.append('-').append((char) i);
+            }
+            i++;
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,7 @@
+package by.epamtc.text.util.processors;
+
+@FunctionalInterface
+public interface CharArrayTextOperation {
+
+    void applyTo(CharArrayTextProcessor processor) throws TextProcessingException;
+}
@@ -0,0 +1,200 @@
+package by.epamtc.text.util.processors;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * Reusable char array processor. It owns growable text buffers, a span buffer and a word cursor, so once the buffers
+ * have grown to the size of the largest document, processing more documents allocates nothing. An instance is not
+ * thread-safe: keep one per thread, e.g. the one returned by {@link #forCurrentThread()}, or take it from a pool and
+ * {@link #reset()} it before returning.
+ * <p>
+ * Every operation is reported to the {@link ProcessingMetrics} listener as a {@link ProcessingEngine#CHAR_ARRAY} call.
+ */
+public final class CharArrayTextProcessor {
+
+    private static final int DEFAULT_CAPACITY = 1 << 10;
+    private static final ThreadLocal<CharArrayTextProcessor> THREAD_PROCESSOR =
+            ThreadLocal.withInitial(CharArrayTextProcessor::new);
+
+    private final WordSpanCursor wordCursor = new WordSpanCursor();
+    private final SpanBuffer wordsPositions = new SpanBuffer();
+    private char[] text;
+    private char[] editedText;
+    private int length;
+
+    public CharArrayTextProcessor() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public CharArrayTextProcessor(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative.");
+        }
+        text = new char[capacity];
+        editedText = new char[capacity];
+    }
+
+    public static CharArrayTextProcessor forCurrentThread() {
+        return THREAD_PROCESSOR.get().reset();
+    }
+
+    public CharArrayTextProcessor load(CharSequence text) throws TextProcessingException {
+        if (text == null) {
+            throw new TextProcessingException("Text cannot be null.");
+        }
+        int textLength = text.length();
+        this.text = ensureCapacity(this.text, textLength);
+        if (text instanceof String) {
+            ((String) text).getChars(0, textLength, this.text, 0);
+        } else {
+            for (int i = 0; i < textLength; i++) {
+                this.text[i] = text.charAt(i);
+            }
+        }
+        length = textLength;
+        return this;
+    }
+
+    public CharArrayTextProcessor load(char[] text, int fromIndex, int toIndex) throws TextProcessingException {
+        if (text == null) {
+            throw new TextProcessingException("Text cannot be null.");
+        }
+        if (fromIndex < 0 || fromIndex > toIndex || toIndex > text.length) {
+            throw new TextProcessingException("Text range is out of bounds.");
+        }
+        int textLength = toIndex - fromIndex;
+        this.text = ensureCapacity(this.text, textLength);
+        System.arraycopy(text, fromIndex, this.text, 0, textLength);
+        length = textLength;
+        return this;
+    }
+
+    public CharArrayTextProcessor reset() {
+        length = 0;
+        wordsPositions.clear();
+        return this;
+    }
+
+    public CharArrayTextProcessor replaceLetterByPositionInWord(int positionInWord, char replacement)
+            throws TextProcessingException {
+        if (positionInWord < 0) {
+            throw new TextProcessingException("Replacement position cannot be negative.");
+        }
+        ProcessingMetricsListener metricsListener = ProcessingMetrics.getListener();
+        long startTime = ProcessingMetrics.startTime(metricsListener);
+        int replacementsCount = TextProcessingCharArrayUtils.replaceLetterByPositionInWord(
+                text, 0, length, positionInWord, replacement, wordCursor, CharacterClassifier.getAlphabet());
+        ProcessingMetrics.record(metricsListener, ProcessingEngine.CHAR_ARRAY,
+                                 ProcessingOperation.REPLACE_LETTER_BY_POSITION_IN_WORD, length, length,
+                                 wordCursor.getSpansCount(), 0, replacementsCount, startTime);
+        return this;
+    }
+
+    public CharArrayTextProcessor replaceEachLetterAfter(char charBehind, char charToReplace, char replacement)
+            throws TextProcessingException {
+        ProcessingMetricsListener metricsListener = ProcessingMetrics.getListener();
+        long startTime = ProcessingMetrics.startTime(metricsListener);
+        int replacementsCount = TextProcessingCharArrayUtils.replaceLettersAfter(text, 0, length, charBehind,
+                                                                                 charToReplace, replacement);
+        ProcessingMetrics.record(metricsListener, ProcessingEngine.CHAR_ARRAY,
+                                 ProcessingOperation.REPLACE_EACH_LETTER_AFTER, length, length, 0, 0,
+                                 replacementsCount, startTime);
+        return this;
+    }
+
+    public CharArrayTextProcessor replaceEachLetterAfter(LetterAfterRuleSet rules) throws TextProcessingException {
+        TextProcessingStringUtils.checkRulesOnNull(rules);
+        ProcessingMetricsListener metricsListener = ProcessingMetrics.getListener();
+        long startTime = ProcessingMetrics.startTime(metricsListener);
+        int replacementsCount = TextProcessingCharArrayUtils.replaceLettersAfter(text, 0, length, rules);
+        ProcessingMetrics.record(metricsListener, ProcessingEngine.CHAR_ARRAY,
+                                 ProcessingOperation.REPLACE_EACH_LETTER_AFTER, length, length, 0, 0,
+                                 replacementsCount, startTime);
+        return this;
+    }
+
+    public CharArrayTextProcessor replaceEachWordByPredicate(WordSlicePredicate predicate, char[] replacement)
+            throws TextProcessingException {
+        if (predicate == null) {
+            throw new TextProcessingException("Predicate cannot be null.");
+        }
+        if (replacement == null) {
+            throw new TextProcessingException("Replacement cannot be null.");
+        }
+        ProcessingMetricsListener metricsListener = ProcessingMetrics.getListener();
+        long startTime = ProcessingMetrics.startTime(metricsListener);
+        int textLength = length;
+        wordsPositions.clear();
+        TextProcessingCharArrayUtils.findWordsPositionsByPredicate(text, 0, length, predicate, wordCursor,
+                                                                   CharacterClassifier.getAlphabet(), wordsPositions);
+        if (!wordsPositions.isEmpty()) {
+            int editedTextLength = TextProcessingCharArrayUtils.computeEditedTextLength(length, replacement,
+                                                                                        wordsPositions);
+            editedText = ensureCapacity(editedText, editedTextLength);
+            length = TextProcessingCharArrayUtils.copyWordsReplaced(text, 0, length, wordsPositions, replacement,
+                                                                    editedText);
+            swapBuffers();
+        }
+        ProcessingMetrics.record(metricsListener, ProcessingEngine.CHAR_ARRAY,
+                                 ProcessingOperation.REPLACE_EACH_WORD_BY_PREDICATE, textLength, length,
+                                 wordCursor.getSpansCount(), wordsPositions.size(), wordsPositions.size(),
+                                 startTime);
+        return this;
+    }
+
+    public CharArrayTextProcessor removeAllNotAlphabeticExceptSpaces() {
+        ProcessingMetricsListener metricsListener = ProcessingMetrics.getListener();
+        long startTime = ProcessingMetrics.startTime(metricsListener);
+        int textLength = length;
+        length = TextProcessingCharArrayUtils.compactNotAlphabeticExceptSpaces(text, 0, length, text, 0, wordCursor,
+                                                                              CharacterClassifier.getAlphabet());
+        ProcessingMetrics.record(metricsListener, ProcessingEngine.CHAR_ARRAY,
+                                 ProcessingOperation.REMOVE_ALL_NOT_ALPHABETIC_EXCEPT_SPACES, textLength, length, 0,
+                                 0, wordCursor.getSpansCount(), startTime);
+        return this;
+    }
+
+    /**
+     * Returns the internal buffer, valid up to {@link #getLength()} and only until the next call on this processor.
+     */
+    public char[] getBuffer() {
+        return text;
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    public char[] toCharArray() {
+        return Arrays.copyOf(text, length);
+    }
+
+    public void writeTo(Writer writer) throws IOException {
+        writer.write(text, 0, length);
+    }
+
+    public void appendTo(StringBuilder builder) {
+        builder.append(text, 0, length);
+    }
+
+    @Override
+    public String toString() {
+        return new String(text, 0, length);
+    }
+
+    private void swapBuffers() {
+        char[] swap = text;
+        text = editedText;
+        editedText = swap;
+    }
+
+    private static char[] ensureCapacity(char[] buffer, int capacity) {
+        if (buffer.length >= capacity) {
+            return buffer;
+        }
+        int grownCapacity = Math.max(capacity, (int) Math.min(Integer.MAX_VALUE - 8, buffer.length * 2L));
+        return new char[grownCapacity];
+    }
+}
@@ -0,0 +1,276 @@
+package by.epamtc.text.util.processors;
+
+import java.util.function.IntPredicate;
+import java.util.regex.Pattern;
+
+/**
+ * Pattern of the form {@code [class]+} compiled into a deterministic automaton. The automaton has two states,
+ * outside and inside a run, and moves between them by the membership of the next char in the class, so its
+ * transition table reduces to a bit set over all chars and matching takes one table lookup per char without any
+ * backtracking. Members are computed with the {@link Pattern} rules for {@link Pattern#CASE_INSENSITIVE} and
+ * {@link Pattern#UNICODE_CASE}, so the matches are the same as with {@link Pattern}.
+ * <p>
+ * The class may be negated and consist of chars, ranges, the {@code \d}, {@code \s} and {@code \w} classes and the
+ * {@code \p{javaLetter}}, {@code \p{javaDigit}} and {@code \p{javaWhitespace}} properties. The automaton takes
+ * every char of a surrogate pair on its own, while {@link Pattern} takes the pair as one code point, so for texts
+ * with supplementary chars the matches are only the same if the class ends with {@value #BMP_INTERSECTION}.
+ */
+final class CharClassRunPattern implements SpanPattern {
+
+    private static final int CHAR_SET_LENGTH = (Character.MAX_VALUE + 1) / Long.SIZE;
+    private static final int SUPPORTED_FLAGS = Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE;
+    private static final String RUN_SUFFIX = "]+";
+    static final String BMP_INTERSECTION = "&&[\\x{0}-\\x{FFFF}]";
+    private static final String WHITESPACE_CHARS = " \t\n\u000B\f\r";
+
+    private final long[] members;
+
+    private CharClassRunPattern(long[] members) {
+        this.members = members;
+    }
+
+    /**
+     * Returns the compiled pattern, or null if the pattern or the flags are not supported.
+     */
+    static CharClassRunPattern tryCompile(String regex, int flags) {
+        long[] members = parseMembers(regex, flags);
+        return members != null ? new CharClassRunPattern(members) : null;
+    }
+
+    @Override
+    public SpanMatcher matcher(CharSequence text) {
+        return new RunMatcher(text);
+    }
+
+    private boolean isMember(char character) {
+        return (members[character >>> 6] & (1L << character)) != 0;
+    }
+
+    private static long[] parseMembers(String regex, int flags) {
+        if ((flags & ~SUPPORTED_FLAGS) != 0 || !regex.startsWith("[") || !regex.endsWith(RUN_SUFFIX)) {
+            return null;
+        }
+        int classEnd = regex.length() - RUN_SUFFIX.length();
+        if (regex.startsWith(BMP_INTERSECTION, classEnd - BMP_INTERSECTION.length())) {
+            classEnd -= BMP_INTERSECTION.length();
+        }
+        int position = 1;
+        boolean negated = position < classEnd && regex.charAt(position) == '^';
+        if (negated) {
+            position++;
+        }
+        if (position == classEnd) {
+            return null;
+        }
+        long[] ranges = new long[CHAR_SET_LENGTH];
+        long[] singleChars = new long[CHAR_SET_LENGTH];
+        long[] predefinedClasses = new long[CHAR_SET_LENGTH];
+        while (position < classEnd) {
+            char itemChar = regex.charAt(position);
+            if (itemChar == '[' || itemChar == ']' || itemChar == '&') {
+                return null;
+            }
+            if (itemChar == '\\') {
+                if (position + 1 >= classEnd) {
+                    return null;
+                }
+                char escapedChar = regex.charAt(position + 1);
+                position += 2;
+                if (escapedChar == 'p') {
+                    int nameEnd = regex.indexOf('}', position);
+                    if (position >= classEnd || regex.charAt(position) != '{' || nameEnd < 0 || nameEnd >= classEnd ||
+                        !addPropertyClass(regex.substring(position + 1, nameEnd), predefinedClasses)) {
+                        return null;
+                    }
+                    position = nameEnd + 1;
+                    if (position < classEnd && regex.charAt(position) == '-') {
+                        return null;
+                    }
+                    continue;
+                }
+                if (position < classEnd && regex.charAt(position) == '-') {
+                    return null;
+                }
+                if (!addPredefinedClass(escapedChar, predefinedClasses)) {
+                    if (Character.isLetterOrDigit(escapedChar)) {
+                        return null;
+                    }
+                    addRange(singleChars, escapedChar, escapedChar);
+                }
+                continue;
+            }
+            boolean range = position + 2 < classEnd && regex.charAt(position + 1) == '-';
+            if (range) {
+                char rangeEnd = regex.charAt(position + 2);
+                if (rangeEnd == '\\' || rangeEnd == '[' || rangeEnd == ']' || rangeEnd < itemChar) {
+                    return null;
+                }
+                addRange(ranges, itemChar, rangeEnd);
+                position += 3;
+            } else {
+                addRange(singleChars, itemChar, itemChar);
+                position++;
+            }
+        }
+        return computeMembers(ranges, singleChars, predefinedClasses, flags, negated);
+    }
+
+    private static boolean addPredefinedClass(char escapedChar, long[] predefinedClasses) {
+        switch (escapedChar) {
+            case 'd':
+                addRange(predefinedClasses, '0', '9');
+                return true;
+            case 's':
+                for (int i = 0; i < WHITESPACE_CHARS.length(); i++) {
+                    char whitespace = WHITESPACE_CHARS.charAt(i);
+                    addRange(predefinedClasses, whitespace, whitespace);
+                }
+                return true;
+            case 'w':
+                addRange(predefinedClasses, 'a', 'z');
+                addRange(predefinedClasses, 'A', 'Z');
+                addRange(predefinedClasses, '0', '9');
+                addRange(predefinedClasses, '_', '_');
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static boolean addPropertyClass(String propertyName, long[] predefinedClasses) {
+        IntPredicate property;
+        switch (propertyName) {
+            case "javaLetter":
+                property = Character::isLetter;
+                break;
+            case "javaDigit":
+                property = Character::isDigit;
+                break;
+            case "javaWhitespace":
+                property = Character::isWhitespace;
+                break;
+            default:
+                return false;
+        }
+        for (int i = 0; i <= Character.MAX_VALUE; i++) {
+            if (property.test(i)) {
+                predefinedClasses[i >>> 6] |= 1L << i;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Follows the {@link Pattern} rules: predefined classes are never case folded, ranges match a char, its upper
+     * case or the lower case of its upper case, and a single char matches the chars with the same lower case of
+     * the upper case. Without {@link Pattern#UNICODE_CASE} only ASCII letters are folded.
+     */
+    private static long[] computeMembers(long[] ranges, long[] singleChars, long[] predefinedClasses, int flags,
+                                         boolean negated) {
+        boolean caseInsensitive = (flags & Pattern.CASE_INSENSITIVE) != 0;
+        boolean unicodeCase = caseInsensitive && (flags & Pattern.UNICODE_CASE) != 0;
+        long[] foldedSingleChars = new long[CHAR_SET_LENGTH];
+        if (unicodeCase) {
+            for (int i = 0; i <= Character.MAX_VALUE; i++) {
+                char character = (char) i;
+                char upperCaseChar = Character.toUpperCase(character);
+                char foldedChar = Character.toLowerCase(upperCaseChar);
+                if (contains(singleChars, character) && upperCaseChar != foldedChar) {
+                    addRange(foldedSingleChars, foldedChar, foldedChar);
+                }
+            }
+        }
+        long[] members = new long[CHAR_SET_LENGTH];
+        for (int i = 0; i <= Character.MAX_VALUE; i++) {
+            char character = (char) i;
+            boolean member = contains(predefinedClasses, character) || contains(ranges, character) ||
+                             contains(singleChars, character);
+            if (!member && unicodeCase) {
+                char upperCaseChar = Character.toUpperCase(character);
+                char foldedChar = Character.toLowerCase(upperCaseChar);
+                member = contains(ranges, upperCaseChar) || contains(ranges, foldedChar) ||
+                         contains(foldedSingleChars, character) || contains(foldedSingleChars, foldedChar);
+            } else if (!member && caseInsensitive && character < 0x80) {
+                char upperCaseChar = toAsciiUpperCase(character);
+                char lowerCaseChar = toAsciiLowerCase(character);
+                member = contains(ranges, upperCaseChar) || contains(ranges, lowerCaseChar) ||
+                         contains(singleChars, upperCaseChar) || contains(singleChars, lowerCaseChar);
+            }
+            if (member != negated) {
+                members[i >>> 6] |= 1L << i;
+            }
+        }
+        return members;
+    }
+
+    private static char toAsciiUpperCase(char character) {
+        return character >= 'a' && character <= 'z' ? (char) (character - 'a' + 'A') : character;
+    }
+
+    private static char toAsciiLowerCase(char character) {
+        return character >= 'A' && character <= 'Z' ? (char) (character - 'A' + 'a') : character;
+    }
+
+    private static void addRange(long[] charSet, char rangeStart, char rangeEnd) {
+        for (int i = rangeStart; i <= rangeEnd; i++) {
+            charSet[i >>> 6] |= 1L << i;
+        }
+    }
+
+    private static boolean contains(long[] charSet, char character) {
+        return (charSet[character >>> 6] & (1L << character)) != 0;
+    }
+
+    private final class RunMatcher implements SpanMatcher {
+
+        private final CharSequence text;
+        private int position;
+        private int start = -1;
+        private int end = -1;
+
+        RunMatcher(CharSequence text) {
+            this.text = text;
+        }
+
+        @Override
+        public boolean find() {
+            int length = text.length();
+            int runStart = position;
+            while (runStart < length && !isMember(text.charAt(runStart))) {
+                runStart++;
+            }
+            if (runStart >= length) {
+                position = length;
+                start = -1;
+                end = -1;
+                return false;
+            }
+            int runEnd = runStart + 1;
+            while (runEnd < length && isMember(text.charAt(runEnd))) {
+                runEnd++;
+            }
+            start = runStart;
+            end = runEnd;
+            position = runEnd;
+            return true;
+        }
+
+        @Override
+        public int start() {
+            checkMatch();
+            return start;
+        }
+
+        @Override
+        public int end() {
+            checkMatch();
+            return end;
+        }
+
+        private void checkMatch() {
+            if (start < 0) {
+                throw new IllegalStateException("No match available");
+            }
+        }
+    }
+}
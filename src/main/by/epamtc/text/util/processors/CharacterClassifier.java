@@ -0,0 +1,53 @@
+package by.epamtc.text.util.processors;
+
+/**
+ * Default {@link Alphabet} of the processors and character classes taken from it. The engines take the default
+ * alphabet once at the start of every call, so they agree on the word boundaries, vowels and consonants. Operations,
+ * views and indexed texts keep the alphabet given on creation, or else the default one current at that moment. The
+ * word predicates classify the first letters with the default alphabet.
+ */
+public final class CharacterClassifier {
+
+    private static volatile Alphabet alphabet = Alphabet.DEFAULT;
+
+    private CharacterClassifier() {
+    }
+
+    public static Alphabet getAlphabet() {
+        return alphabet;
+    }
+
+    /**
+     * Sets the default alphabet. Calls already running and objects already created keep the alphabet they took.
+     */
+    public static void setAlphabet(Alphabet alphabet) {
+        if (alphabet == null) {
+            throw new IllegalArgumentException("Alphabet cannot be null.");
+        }
+        CharacterClassifier.alphabet = alphabet;
+    }
+
+    public static boolean isLetter(char character) {
+        return alphabet.isLetter(character);
+    }
+
+    public static boolean isWhitespace(char character) {
+        return alphabet.isWhitespace(character);
+    }
+
+    public static boolean isAlphabeticOrDigit(char character) {
+        return alphabet.isAlphabeticOrDigit(character);
+    }
+
+    public static boolean isAlphabeticOrSpace(char character) {
+        return alphabet.isAlphabeticOrSpace(character);
+    }
+
+    public static boolean isVowel(char character) {
+        return alphabet.isVowel(character);
+    }
+
+    public static boolean isConsonant(char character) {
+        return alphabet.isConsonant(character);
+    }
+}
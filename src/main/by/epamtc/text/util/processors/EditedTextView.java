@@ -0,0 +1,128 @@
+package by.epamtc.text.util.processors;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazy result of a per-character operation: a view over the source text that computes every edited char on demand
+ * from the chars around it. Creating a view and taking its subsequences copies nothing. The view reads the source
+ * each time, so the source must not be modified while the view is in use.
+ * <p>
+ * Whole view traversals ({@link #toString}, {@link #writeTo}, {@link #chars}) go through the chars in one forward
+ * pass, carrying what the edit depends on from one char to the next.
+ */
+public abstract class EditedTextView implements CharSequence {
+
+    private static final int WRITE_BUFFER_LENGTH = 1 << 13;
+
+    final CharSequence source;
+    private final int start;
+    private final int end;
+
+    EditedTextView(CharSequence source, int start, int end) {
+        this.source = source;
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public int length() {
+        return end - start;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", length: " + length());
+        }
+        return editedCharAt(start + index);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || start > end || end > length()) {
+            throw new IndexOutOfBoundsException("Range: [" + start + ", " + end + "), length: " + length());
+        }
+        return withRange(this.start + start, this.start + end);
+    }
+
+    @Override
+    public IntStream chars() {
+        EditedCharsCursor cursor = cursorAt(start);
+        PrimitiveIterator.OfInt iterator = new PrimitiveIterator.OfInt() {
+            private int position = start;
+
+            @Override
+            public boolean hasNext() {
+                return position < end;
+            }
+
+            @Override
+            public int nextInt() {
+                if (position >= end) {
+                    throw new NoSuchElementException();
+                }
+                position++;
+                return cursor.nextEditedChar();
+            }
+        };
+        return StreamSupport.intStream(Spliterators.spliterator(iterator, length(), Spliterator.ORDERED), false);
+    }
+
+    public void writeTo(Writer writer) throws IOException {
+        char[] buffer = new char[Math.min(length(), WRITE_BUFFER_LENGTH)];
+        EditedCharsCursor cursor = cursorAt(start);
+        int position = start;
+        while (position < end) {
+            int chunkLength = Math.min(buffer.length, end - position);
+            for (int i = 0; i < chunkLength; i++) {
+                buffer[i] = cursor.nextEditedChar();
+            }
+            writer.write(buffer, 0, chunkLength);
+            position += chunkLength;
+        }
+    }
+
+    @Override
+    public String toString() {
+        char[] editedText = new char[length()];
+        EditedCharsCursor cursor = cursorAt(start);
+        for (int i = 0; i < editedText.length; i++) {
+            editedText[i] = cursor.nextEditedChar();
+        }
+        return new String(editedText);
+    }
+
+    /**
+     * Returns the edited char at the given index of the whole source, which may depend on the chars before it.
+     */
+    abstract char editedCharAt(int sourceIndex);
+
+    /**
+     * Returns a cursor over the edited chars of the whole source, starting at the given index. By default every char
+     * is edited on its own.
+     */
+    EditedCharsCursor cursorAt(int sourceIndex) {
+        return new EditedCharsCursor() {
+            private int position = sourceIndex;
+
+            @Override
+            public char nextEditedChar() {
+                return editedCharAt(position++);
+            }
+        };
+    }
+
+    abstract EditedTextView withRange(int start, int end);
+
+    interface EditedCharsCursor {
+
+        char nextEditedChar();
+    }
+}
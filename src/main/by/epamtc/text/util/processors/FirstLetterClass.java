@@ -0,0 +1,22 @@
+package by.epamtc.text.util.processors;
+
+public enum FirstLetterClass {
+
+    VOWEL,
+    CONSONANT,
+    OTHER;
+
+    public static FirstLetterClass of(char firstLetter) {
+        return of(firstLetter, CharacterClassifier.getAlphabet());
+    }
+
+    public static FirstLetterClass of(char firstLetter, Alphabet alphabet) {
+        if (alphabet.isVowel(firstLetter)) {
+            return VOWEL;
+        }
+        if (alphabet.isConsonant(firstLetter)) {
+            return CONSONANT;
+        }
+        return OTHER;
+    }
+}
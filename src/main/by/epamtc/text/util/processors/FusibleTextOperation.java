@@ -0,0 +1,58 @@
+package by.epamtc.text.util.processors;
+
+/**
+ * Operation applied with the alphabet it was created with, so neither its result nor its fusion in a
+ * {@link TextPipeline} changes when the default alphabet is changed afterwards.
+ */
+abstract class FusibleTextOperation implements TextOperation {
+
+    private final Alphabet alphabet;
+
+    FusibleTextOperation(Alphabet alphabet) {
+        this.alphabet = alphabet;
+    }
+
+    @Override
+    public String apply(String text) throws TextProcessingException {
+        if (text == null) {
+            throw new TextProcessingException("Text cannot be null.");
+        }
+        validate();
+        ProcessingMetricsListener metricsListener = ProcessingMetrics.getListener();
+        long startTime = ProcessingMetrics.startTime(metricsListener);
+        StringBuilder builder = new StringBuilder(text.length());
+        WordSpanCursor wordCursor = new WordSpanCursor();
+        int replacementsCount = appendProcessed(text, builder, wordCursor);
+        ProcessingMetrics.record(metricsListener, ProcessingEngine.STRING, getProcessingOperation(), text.length(),
+                                 builder.length(), wordCursor.getSpansCount(), countPredicateHits(replacementsCount),
+                                 replacementsCount, startTime);
+        return builder.toString();
+    }
+
+    Alphabet getAlphabet() {
+        return alphabet;
+    }
+
+    abstract ProcessingOperation getProcessingOperation();
+
+    boolean scansWords() {
+        return getProcessingOperation() != ProcessingOperation.REPLACE_EACH_LETTER_AFTER;
+    }
+
+    int countPredicateHits(int replacementsCount) {
+        return getProcessingOperation() == ProcessingOperation.REPLACE_EACH_WORD_BY_PREDICATE ? replacementsCount : 0;
+    }
+
+    /**
+     * Tells whether processing every word on its own gives the same result as processing the whole text, which lets
+     * {@link TextPipeline} run several such operations in one pass.
+     */
+    abstract boolean isWordLocal();
+
+    abstract void validate() throws TextProcessingException;
+
+    /**
+     * Appends the processed text to the builder and returns the replacements count.
+     */
+    abstract int appendProcessed(CharSequence text, StringBuilder builder, WordSpanCursor wordCursor);
+}
@@ -0,0 +1,138 @@
+package by.epamtc.text.util.processors;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps a document cut into blocks at safe split positions together with the processed block texts, so that after
+ * an edit only the blocks touched by it are processed again. The result always equals applying the operation to the
+ * whole edited text.
+ * <p>
+ * A block boundary stays safe as long as the chars before it do not change, so the boundaries before the edit are
+ * kept. The block after the edited range is taken in as well when the edit makes its start boundary unsafe.
+ */
+public final class IncrementalTextProcessor {
+
+    public static final int DEFAULT_BLOCK_LENGTH = 1 << 14;
+
+    private final TextOperation operation;
+    private final int blockLength;
+    private final StringBuilder text = new StringBuilder();
+    private final List<Block> blocks = new ArrayList<>();
+    private int processedTextLength;
+
+    public IncrementalTextProcessor(TextOperation operation) throws TextProcessingException {
+        this(operation, DEFAULT_BLOCK_LENGTH);
+    }
+
+    public IncrementalTextProcessor(TextOperation operation, int blockLength) throws TextProcessingException {
+        if (operation == null) {
+            throw new TextProcessingException("Operation cannot be null.");
+        }
+        if (blockLength <= 0) {
+            throw new TextProcessingException("Block length must be positive.");
+        }
+        this.operation = operation;
+        this.blockLength = blockLength;
+        blocks.add(new Block(0, operation.apply("")));
+        processedTextLength = blocks.get(0).processedText.length();
+    }
+
+    public void load(String text) throws TextProcessingException {
+        if (text == null) {
+            throw new TextProcessingException("Text cannot be null.");
+        }
+        String previousText = this.text.toString();
+        this.text.setLength(0);
+        this.text.append(text);
+        try {
+            replaceBlocks(0, blocks.size() - 1, 0, text.length());
+        } catch (TextProcessingException e) {
+            this.text.setLength(0);
+            this.text.append(previousText);
+            throw e;
+        }
+    }
+
+    /**
+     * Replaces {@code removedLength} chars starting at {@code offset} with {@code insertedText} and processes again
+     * the blocks the edit affects.
+     */
+    public void edit(int offset, int removedLength, String insertedText) throws TextProcessingException {
+        if (insertedText == null) {
+            throw new TextProcessingException("Inserted text cannot be null.");
+        }
+        if (offset < 0 || removedLength < 0 || offset > text.length() - removedLength) {
+            throw new TextProcessingException("Edit is out of bounds.");
+        }
+        int editEnd = offset + removedLength;
+        int firstBlock = 0;
+        int regionStart = 0;
+        while (firstBlock < blocks.size() - 1 && regionStart + blocks.get(firstBlock).length <= offset) {
+            regionStart += blocks.get(firstBlock).length;
+            firstBlock++;
+        }
+        int lastBlock = firstBlock;
+        int regionEnd = regionStart + blocks.get(firstBlock).length;
+        while (lastBlock < blocks.size() - 1 && regionEnd <= editEnd) {
+            lastBlock++;
+            regionEnd += blocks.get(lastBlock).length;
+        }
+        String removedText = text.substring(offset, editEnd);
+        text.replace(offset, editEnd, insertedText);
+        regionEnd += insertedText.length() - removedLength;
+        while (lastBlock < blocks.size() - 1 && !operation.isSafeSplitPosition(text, regionEnd)) {
+            lastBlock++;
+            regionEnd += blocks.get(lastBlock).length;
+        }
+        try {
+            replaceBlocks(firstBlock, lastBlock, regionStart, regionEnd);
+        } catch (TextProcessingException e) {
+            text.replace(offset, offset + insertedText.length(), removedText);
+            throw e;
+        }
+    }
+
+    public String getText() {
+        return text.toString();
+    }
+
+    public String getResult() {
+        StringBuilder builder = new StringBuilder(processedTextLength);
+        for (Block block : blocks) {
+            builder.append(block.processedText);
+        }
+        return builder.toString();
+    }
+
+    private void replaceBlocks(int firstBlock, int lastBlock, int regionStart, int regionEnd)
+            throws TextProcessingException {
+        int[] blockBounds = TextProcessingParallelUtils.findSegmentBounds(text, regionStart, regionEnd, operation,
+                                                                          blockLength);
+        List<Block> processedBlocks = new ArrayList<>(blockBounds.length - 1);
+        for (int i = 0; i < blockBounds.length - 1; i++) {
+            String blockText = text.substring(blockBounds[i], blockBounds[i + 1]);
+            processedBlocks.add(new Block(blockText.length(), operation.apply(blockText)));
+        }
+        List<Block> replacedBlocks = blocks.subList(firstBlock, lastBlock + 1);
+        for (Block block : replacedBlocks) {
+            processedTextLength -= block.processedText.length();
+        }
+        replacedBlocks.clear();
+        for (Block block : processedBlocks) {
+            processedTextLength += block.processedText.length();
+        }
+        blocks.addAll(firstBlock, processedBlocks);
+    }
+
+    private static final class Block {
+
+        private final int length;
+        private final String processedText;
+
+        Block(int length, String processedText) {
+            this.length = length;
+            this.processedText = processedText;
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package by.epamtc.text.util.processors;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Text tokenized once, with its words grouped by length and by the class of the first letter. Queries by length and
+ * first letter go straight to the matching words, so a replacement costs O(matches + output) instead of a new pass
+ * over the whole text. Other predicates are tested against the stored word spans without tokenizing again.
+ * <p>
+ * Groups of short words are addressed by the word length directly. Longer lengths are numbered in the order they
+ * occur, so a single huge token does not make the index grow with its length.
+ * <p>
+ * The text is split into words and the first letters are classified with the alphabet given on creation, or else
+ * with the default one current at that moment.
+ */
+public final class IndexedText {
+
+    private static final FirstLetterClass[] FIRST_LETTER_CLASSES = FirstLetterClass.values();
+    private static final int MAX_DIRECT_WORD_LENGTH = 64;
+
+    private final String text;
+    private final Alphabet alphabet;
+    private final SpanBuffer wordsPositions = new SpanBuffer();
+    private final Map<Integer, Integer> longWordLengthsNumbers = new HashMap<>();
+    private final int[] groupsOffsets;
+    private final int[] groupedWords;
+
+    private IndexedText(String text, Alphabet alphabet) {
+        this.text = text;
+        this.alphabet = alphabet;
+        WordSpanCursor wordCursor = new WordSpanCursor().reset(text, 0, text.length(), alphabet);
+        while (wordCursor.nextWord()) {
+            wordsPositions.add(wordCursor.getSpanStart(), wordCursor.getSpanEnd());
+            int wordLength = wordCursor.getSpanLength();
+            if (wordLength > MAX_DIRECT_WORD_LENGTH) {
+                longWordLengthsNumbers.putIfAbsent(wordLength, longWordLengthsNumbers.size());
+            }
+        }
+        int lengthSlotsCount = MAX_DIRECT_WORD_LENGTH + 1 + longWordLengthsNumbers.size();
+        int groupsCount = lengthSlotsCount * FIRST_LETTER_CLASSES.length;
+        groupsOffsets = new int[groupsCount + 1];
+        for (int i = 0; i < wordsPositions.size(); i++) {
+            groupsOffsets[findGroup(i) + 1]++;
+        }
+        for (int group = 0; group < groupsCount; group++) {
+            groupsOffsets[group + 1] += groupsOffsets[group];
+        }
+        groupedWords = new int[wordsPositions.size()];
+        int[] groupsFillPositions = new int[groupsCount];
+        System.arraycopy(groupsOffsets, 0, groupsFillPositions, 0, groupsCount);
+        for (int i = 0; i < wordsPositions.size(); i++) {
+            groupedWords[groupsFillPositions[findGroup(i)]++] = i;
+        }
+    }
+
+    public static IndexedText of(String text) throws TextProcessingException {
+        return of(text, CharacterClassifier.getAlphabet());
+    }
+
+    public static IndexedText of(String text, Alphabet alphabet) throws TextProcessingException {
+        if (text == null) {
+            throw new TextProcessingException("Text cannot be null.");
+        }
+        if (alphabet == null) {
+            throw new IllegalArgumentException("Alphabet cannot be null.");
+        }
+        return new IndexedText(text, alphabet);
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public int countWords() {
+        return wordsPositions.size();
+    }
+
+    public int countWords(int wordLength) {
+        return countWords(wordLength, FIRST_LETTER_CLASSES);
+    }
+
+    public int countWords(int wordLength, FirstLetterClass firstLetterClass) throws TextProcessingException {
+        checkFirstLetterClassOnNull(firstLetterClass);
+        return countWords(wordLength, new FirstLetterClass[]{firstLetterClass});
+    }
+
+    public String replaceEachWordByLength(int wordLength, String replacement) throws TextProcessingException {
+        checkReplacementOnNull(replacement);
+        return replaceGroupedWords(wordLength, FIRST_LETTER_CLASSES, replacement);
+    }
+
+    public String replaceEachWordByLength(int wordLength, FirstLetterClass firstLetterClass, String replacement)
+            throws TextProcessingException {
+        checkFirstLetterClassOnNull(firstLetterClass);
+        checkReplacementOnNull(replacement);
+        return replaceGroupedWords(wordLength, new FirstLetterClass[]{firstLetterClass}, replacement);
+    }
+
+    public String replaceEachWordByPredicate(WordSlicePredicate predicate, String replacement)
+            throws TextProcessingException {
+        if (predicate == null) {
+            throw new TextProcessingException("Predicate cannot be null.");
+        }
+        checkReplacementOnNull(replacement);
+        StringBuilder builder = new StringBuilder(text.length());
+        WordPrefilter prefilter = new WordPrefilter(predicate, alphabet);
+        int offset = 0;
+        for (int i = 0; i < wordsPositions.size(); i++) {
+            int wordStartPosition = wordsPositions.getStart(i);
+            int wordEndPosition = wordsPositions.getEnd(i);
+            if (prefilter.accepts(wordEndPosition - wordStartPosition, text.charAt(wordStartPosition)) &&
+                predicate.test(text, wordStartPosition, wordEndPosition)) {
+                builder.append(text, offset, wordStartPosition);
+                builder.append(replacement);
+                offset = wordEndPosition;
+            }
+        }
+        builder.append(text, offset, text.length());
+        return builder.toString();
+    }
+
+    private String replaceGroupedWords(int wordLength, FirstLetterClass[] firstLetterClasses, String replacement) {
+        int matchesCount = countWords(wordLength, firstLetterClasses);
+        if (matchesCount == 0) {
+            return text;
+        }
+        int[] groupsPositions = new int[firstLetterClasses.length];
+        int[] groupsEnds = new int[firstLetterClasses.length];
+        for (int i = 0; i < firstLetterClasses.length; i++) {
+            int group = getGroup(wordLength, firstLetterClasses[i]);
+            groupsPositions[i] = groupsOffsets[group];
+            groupsEnds[i] = groupsOffsets[group + 1];
+        }
+        int editedTextLength = text.length() + matchesCount * (replacement.length() - wordLength);
+        StringBuilder builder = new StringBuilder(editedTextLength);
+        int offset = 0;
+        for (int i = 0; i < matchesCount; i++) {
+            int nextGroup = -1;
+            for (int j = 0; j < groupsPositions.length; j++) {
+                if (groupsPositions[j] < groupsEnds[j] &&
+                    (nextGroup < 0 || groupedWords[groupsPositions[j]] < groupedWords[groupsPositions[nextGroup]])) {
+                    nextGroup = j;
+                }
+            }
+            int word = groupedWords[groupsPositions[nextGroup]++];
+            builder.append(text, offset, wordsPositions.getStart(word));
+            builder.append(replacement);
+            offset = wordsPositions.getEnd(word);
+        }
+        builder.append(text, offset, text.length());
+        return builder.toString();
+    }
+
+    private int countWords(int wordLength, FirstLetterClass[] firstLetterClasses) {
+        if (wordLength <= 0 || findLengthSlot(wordLength) < 0) {
+            return 0;
+        }
+        int wordsCount = 0;
+        for (FirstLetterClass firstLetterClass : firstLetterClasses) {
+            int group = getGroup(wordLength, firstLetterClass);
+            wordsCount += groupsOffsets[group + 1] - groupsOffsets[group];
+        }
+        return wordsCount;
+    }
+
+    private int findGroup(int word) {
+        int wordStartPosition = wordsPositions.getStart(word);
+        int wordLength = wordsPositions.getEnd(word) - wordStartPosition;
+        return getGroup(wordLength, FirstLetterClass.of(text.charAt(wordStartPosition), alphabet));
+    }
+
+    private int getGroup(int wordLength, FirstLetterClass firstLetterClass) {
+        return findLengthSlot(wordLength) * FIRST_LETTER_CLASSES.length + firstLetterClass.ordinal();
+    }
+
+    private int findLengthSlot(int wordLength) {
+        if (wordLength <= MAX_DIRECT_WORD_LENGTH) {
+            return wordLength;
+        }
+        Integer longWordLengthNumber = longWordLengthsNumbers.get(wordLength);
+        return longWordLengthNumber == null ? -1 : MAX_DIRECT_WORD_LENGTH + 1 + longWordLengthNumber;
+    }
+
+    private static void checkFirstLetterClassOnNull(FirstLetterClass firstLetterClass)
+            throws TextProcessingException {
+        if (firstLetterClass == null) {
+            throw new TextProcessingException("First letter class cannot be null.");
+        }
+    }
+
+    private static void checkReplacementOnNull(String replacement) throws TextProcessingException {
+        if (replacement == null) {
+            throw new TextProcessingException("Replacement cannot be null.");
+        }
+    }
+}
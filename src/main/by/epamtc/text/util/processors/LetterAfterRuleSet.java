@@ -0,0 +1,114 @@
+package by.epamtc.text.util.processors;
+
+import java.util.Arrays;
+
+/**
+ * Immutable set of "replace a letter after a letter" rules compiled for a single pass over the text. Since every
+ * pattern is a pair of chars, the matching automaton degenerates to a lookup by the previous char: a bit set tells
+ * whether a char starts any rule, and a sorted table of packed char pairs gives the replacement.
+ */
+public final class LetterAfterRuleSet {
+
+    private static final int NO_REPLACEMENT = -1;
+    private static final int BIT_SET_LENGTH = (Character.MAX_VALUE + 1) / Long.SIZE;
+    private static final LetterAfterRuleSet EMPTY = new LetterAfterRuleSet(new int[0], new char[0]);
+
+    private final int[] charPairs;
+    private final char[] replacements;
+    private final long[] charsBehind = new long[BIT_SET_LENGTH];
+    private final long[] ruleChars = new long[BIT_SET_LENGTH];
+
+    private LetterAfterRuleSet(int[] charPairs, char[] replacements) {
+        this.charPairs = charPairs;
+        this.replacements = replacements;
+        for (int charPair : charPairs) {
+            char charBehind = (char) (charPair >>> Character.SIZE);
+            char charToReplace = (char) charPair;
+            setBit(charsBehind, charBehind);
+            setBit(ruleChars, charBehind);
+            setBit(ruleChars, charToReplace);
+        }
+    }
+
+    public static LetterAfterRuleSet empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a rule set extended with one more rule. A rule for the same pair of chars with another replacement
+     * makes the set ambiguous and is rejected.
+     */
+    public LetterAfterRuleSet with(char charBehind, char charToReplace, char replacement)
+            throws TextProcessingException {
+        int charPair = packCharPair(charBehind, charToReplace);
+        int rulePosition = Arrays.binarySearch(charPairs, charPair);
+        if (rulePosition >= 0) {
+            if (replacements[rulePosition] != replacement) {
+                throw new TextProcessingException("Conflicting rules for '" + charBehind + "' followed by '" +
+                                                  charToReplace + "'.");
+            }
+            return this;
+        }
+        int insertionPosition = -rulePosition - 1;
+        int[] extendedCharPairs = new int[charPairs.length + 1];
+        char[] extendedReplacements = new char[replacements.length + 1];
+        System.arraycopy(charPairs, 0, extendedCharPairs, 0, insertionPosition);
+        System.arraycopy(replacements, 0, extendedReplacements, 0, insertionPosition);
+        extendedCharPairs[insertionPosition] = charPair;
+        extendedReplacements[insertionPosition] = replacement;
+        int tailLength = charPairs.length - insertionPosition;
+        System.arraycopy(charPairs, insertionPosition, extendedCharPairs, insertionPosition + 1, tailLength);
+        System.arraycopy(replacements, insertionPosition, extendedReplacements, insertionPosition + 1, tailLength);
+        return new LetterAfterRuleSet(extendedCharPairs, extendedReplacements);
+    }
+
+    public int size() {
+        return charPairs.length;
+    }
+
+    public boolean isEmpty() {
+        return charPairs.length == 0;
+    }
+
+    boolean isCharBehind(char character) {
+        return isBitSet(charsBehind, character);
+    }
+
+    boolean isRuleChar(char character) {
+        return isBitSet(ruleChars, character);
+    }
+
+    /**
+     * Tells whether every rule char is a word char of the alphabet, so that no rule can match across words.
+     */
+    boolean isWordLocal(Alphabet alphabet) {
+        for (int charPair : charPairs) {
+            if (!alphabet.isAlphabeticOrDigit((char) (charPair >>> Character.SIZE)) ||
+                !alphabet.isAlphabeticOrDigit((char) charPair)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the replacement for {@code charToReplace} after {@code charBehind}, or a negative value if there is no
+     * such rule.
+     */
+    int findReplacement(char charBehind, char charToReplace) {
+        int rulePosition = Arrays.binarySearch(charPairs, packCharPair(charBehind, charToReplace));
+        return rulePosition >= 0 ? replacements[rulePosition] : NO_REPLACEMENT;
+    }
+
+    private static int packCharPair(char charBehind, char charToReplace) {
+        return charBehind << Character.SIZE | charToReplace;
+    }
+
+    private static void setBit(long[] bitSet, char character) {
+        bitSet[character >>> 6] |= 1L << character;
+    }
+
+    private static boolean isBitSet(long[] bitSet, char character) {
+        return (bitSet[character >>> 6] & 1L << character) != 0;
+    }
+}
@@ -0,0 +1,120 @@
+package by.epamtc.text.util.processors;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Striped counters of one operation of one engine. Latencies are kept in a histogram with power of two buckets:
+ * bucket {@code i} counts calls that took from {@code 2^i} to {@code 2^(i + 1) - 1} nanoseconds.
+ */
+public final class OperationStatistics implements OperationStatisticsMBean {
+
+    private static final int LATENCY_BUCKETS_COUNT = Long.SIZE;
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder charsIn = new LongAdder();
+    private final LongAdder charsOut = new LongAdder();
+    private final LongAdder wordsScanned = new LongAdder();
+    private final LongAdder predicateHits = new LongAdder();
+    private final LongAdder replacements = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAdder[] latencyHistogram = new LongAdder[LATENCY_BUCKETS_COUNT];
+
+    OperationStatistics() {
+        for (int i = 0; i < LATENCY_BUCKETS_COUNT; i++) {
+            latencyHistogram[i] = new LongAdder();
+        }
+    }
+
+    void record(int charsIn, int charsOut, int wordsScanned, int predicateHits, int replacements,
+                long elapsedNanos) {
+        calls.increment();
+        this.charsIn.add(charsIn);
+        this.charsOut.add(charsOut);
+        this.wordsScanned.add(wordsScanned);
+        this.predicateHits.add(predicateHits);
+        this.replacements.add(replacements);
+        long nanos = Math.max(elapsedNanos, 1);
+        totalNanos.add(nanos);
+        latencyHistogram[Long.SIZE - 1 - Long.numberOfLeadingZeros(nanos)].increment();
+    }
+
+    @Override
+    public long getCalls() {
+        return calls.sum();
+    }
+
+    @Override
+    public long getCharsIn() {
+        return charsIn.sum();
+    }
+
+    @Override
+    public long getCharsOut() {
+        return charsOut.sum();
+    }
+
+    @Override
+    public long getWordsScanned() {
+        return wordsScanned.sum();
+    }
+
+    @Override
+    public long getPredicateHits() {
+        return predicateHits.sum();
+    }
+
+    @Override
+    public long getReplacements() {
+        return replacements.sum();
+    }
+
+    @Override
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    @Override
+    public long[] getLatencyHistogram() {
+        long[] histogram = new long[LATENCY_BUCKETS_COUNT];
+        for (int i = 0; i < LATENCY_BUCKETS_COUNT; i++) {
+            histogram[i] = latencyHistogram[i].sum();
+        }
+        return histogram;
+    }
+
+    @Override
+    public long getLatencyMedianNanos() {
+        return getLatencyPercentileNanos(0.5);
+    }
+
+    @Override
+    public long getLatencyP99Nanos() {
+        return getLatencyPercentileNanos(0.99);
+    }
+
+    /**
+     * Returns the upper bound of the histogram bucket the percentile falls into, or zero if nothing was recorded.
+     */
+    public long getLatencyPercentileNanos(double percentile) {
+        if (percentile < 0 || percentile > 1) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 1.");
+        }
+        long[] histogram = getLatencyHistogram();
+        long callsCount = 0;
+        for (long bucketCount : histogram) {
+            callsCount += bucketCount;
+        }
+        if (callsCount == 0) {
+            return 0;
+        }
+        long rank = Math.max((long) Math.ceil(percentile * callsCount), 1);
+        long accumulatedCount = 0;
+        for (int i = 0; i < LATENCY_BUCKETS_COUNT; i++) {
+            accumulatedCount += histogram[i];
+            if (accumulatedCount >= rank) {
+                return i == LATENCY_BUCKETS_COUNT - 1 ? Long.MAX_VALUE : (1L << (i + 1)) - 1;
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+}
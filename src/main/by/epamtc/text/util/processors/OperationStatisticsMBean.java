@@ -0,0 +1,24 @@
+package by.epamtc.text.util.processors;
+
+public interface OperationStatisticsMBean {
+
+    long getCalls();
+
+    long getCharsIn();
+
+    long getCharsOut();
+
+    long getWordsScanned();
+
+    long getPredicateHits();
+
+    long getReplacements();
+
+    long getTotalNanos();
+
+    long[] getLatencyHistogram();
+
+    long getLatencyMedianNanos();
+
+    long getLatencyP99Nanos();
+}
@@ -0,0 +1,140 @@
+package by.epamtc.text.util.processors;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Processing result recorded as a sequence of pieces, each a range of the original text or of a replacement. The
+ * text is never copied while it is being built: it can be streamed to a {@link Writer} piece by piece, and the
+ * string is materialized lazily, at its exact size, on the first {@link #toString()}. The sources are referenced,
+ * not copied, so they must not be modified while the table is in use.
+ * <p>
+ * A few short sources can describe a text far longer than any of them, so the length is checked on every appended
+ * piece and a text longer than {@code Integer.MAX_VALUE} chars is rejected.
+ */
+public final class PieceTable implements CharSequence {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final List<CharSequence> sources = new ArrayList<>(2);
+    private int[] pieceSources = new int[DEFAULT_CAPACITY];
+    private int[] pieceStarts = new int[DEFAULT_CAPACITY];
+    private int[] pieceEnds = new int[DEFAULT_CAPACITY];
+    private int[] pieceOffsets = new int[DEFAULT_CAPACITY];
+    private int piecesCount;
+    private int length;
+    private String materializedText;
+
+    PieceTable() {
+    }
+
+    int addSource(CharSequence source) {
+        sources.add(source);
+        return sources.size() - 1;
+    }
+
+    void appendPiece(int sourceIndex, int start, int end) throws TextProcessingException {
+        if (start == end) {
+            return;
+        }
+        int extendedLength;
+        try {
+            extendedLength = Math.addExact(length, end - start);
+        } catch (ArithmeticException e) {
+            throw new TextProcessingException("Result is too long.");
+        }
+        int lastPiece = piecesCount - 1;
+        if (lastPiece >= 0 && pieceSources[lastPiece] == sourceIndex && pieceEnds[lastPiece] == start) {
+            pieceEnds[lastPiece] = end;
+        } else {
+            if (piecesCount == pieceSources.length) {
+                int capacity = piecesCount * 2;
+                pieceSources = Arrays.copyOf(pieceSources, capacity);
+                pieceStarts = Arrays.copyOf(pieceStarts, capacity);
+                pieceEnds = Arrays.copyOf(pieceEnds, capacity);
+                pieceOffsets = Arrays.copyOf(pieceOffsets, capacity);
+            }
+            pieceSources[piecesCount] = sourceIndex;
+            pieceStarts[piecesCount] = start;
+            pieceEnds[piecesCount] = end;
+            pieceOffsets[piecesCount] = length;
+            piecesCount++;
+        }
+        length = extendedLength;
+    }
+
+    public int getPiecesCount() {
+        return piecesCount;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", length: " + length);
+        }
+        if (materializedText != null) {
+            return materializedText.charAt(index);
+        }
+        int piece = findPiece(index);
+        return sources.get(pieceSources[piece]).charAt(pieceStarts[piece] + index - pieceOffsets[piece]);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || start > end || end > length) {
+            throw new IndexOutOfBoundsException("Range: [" + start + ", " + end + "), length: " + length);
+        }
+        if (materializedText != null || start == end) {
+            return toString().substring(start, end);
+        }
+        StringBuilder builder = new StringBuilder(end - start);
+        for (int piece = findPiece(start); piece < piecesCount && pieceOffsets[piece] < end; piece++) {
+            int pieceStart = pieceStarts[piece] + Math.max(start - pieceOffsets[piece], 0);
+            int pieceEnd = Math.min(pieceStarts[piece] + end - pieceOffsets[piece], pieceEnds[piece]);
+            builder.append(sources.get(pieceSources[piece]), pieceStart, pieceEnd);
+        }
+        return builder.toString();
+    }
+
+    public void writeTo(Writer writer) throws IOException {
+        for (int piece = 0; piece < piecesCount; piece++) {
+            CharSequence source = sources.get(pieceSources[piece]);
+            int pieceStart = pieceStarts[piece];
+            int pieceLength = pieceEnds[piece] - pieceStart;
+            if (source instanceof String) {
+                writer.write((String) source, pieceStart, pieceLength);
+            } else if (source instanceof CharBuffer && ((CharBuffer) source).hasArray()) {
+                CharBuffer buffer = (CharBuffer) source;
+                writer.write(buffer.array(), buffer.arrayOffset() + buffer.position() + pieceStart, pieceLength);
+            } else {
+                writer.append(source, pieceStart, pieceEnds[piece]);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        if (materializedText == null) {
+            StringBuilder builder = new StringBuilder(length);
+            for (int piece = 0; piece < piecesCount; piece++) {
+                builder.append(sources.get(pieceSources[piece]), pieceStarts[piece], pieceEnds[piece]);
+            }
+            materializedText = builder.toString();
+        }
+        return materializedText;
+    }
+
+    private int findPiece(int index) {
+        int piece = Arrays.binarySearch(pieceOffsets, 0, piecesCount, index);
+        return piece >= 0 ? piece : -piece - 2;
+    }
+}
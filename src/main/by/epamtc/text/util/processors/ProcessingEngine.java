@@ -0,0 +1,14 @@
+package by.epamtc.text.util.processors;
+
+public enum ProcessingEngine {
+
+    REGEX,
+    STRING,
+    CHAR_ARRAY,
+
+    /**
+     * {@link TextProcessingUtf8Utils}, which reports the lengths of the texts in bytes.
+     */
+    UTF_8,
+    VECTOR
+}
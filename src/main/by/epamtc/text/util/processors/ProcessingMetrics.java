@@ -0,0 +1,55 @@
+package by.epamtc.text.util.processors;
+
+/**
+ * Switch for the engines instrumentation. While no listener is set, an engine call costs one volatile read more
+ * than without instrumentation: neither the clock is read nor the report is built.
+ * <p>
+ * Reports are made by the code that runs an operation over a text, once per run: the public methods of the engine
+ * utils, {@link CharArrayTextProcessor} and the operations of {@link TextOperations}. Internal helpers never report,
+ * so a call that delegates to another engine method is counted once. Compositions such as {@link TextPipeline},
+ * {@link TextProcessingParallelUtils} or the streaming utils do not report on their own: each operation they run
+ * reports once per text, segment or chunk it is applied to.
+ */
+public final class ProcessingMetrics {
+
+    private static volatile ProcessingMetricsListener listener;
+
+    private ProcessingMetrics() {
+    }
+
+    public static ProcessingMetricsListener getListener() {
+        return listener;
+    }
+
+    /**
+     * Sets the listener that receives reports of all engine calls, or disables the instrumentation if it is null.
+     */
+    public static void setListener(ProcessingMetricsListener listener) {
+        ProcessingMetrics.listener = listener;
+    }
+
+    static long startTime(ProcessingMetricsListener listener) {
+        return listener != null ? System.nanoTime() : 0;
+    }
+
+    static void record(ProcessingMetricsListener listener, ProcessingEngine engine, ProcessingOperation operation,
+                       int charsIn, int charsOut, int wordsScanned, int predicateHits, int replacements,
+                       long startTime) {
+        if (listener != null) {
+            listener.operationCompleted(engine, operation, charsIn, charsOut, wordsScanned, predicateHits,
+                                        replacements, System.nanoTime() - startTime);
+        }
+    }
+
+    /**
+     * Reports an operation whose time was measured by the caller, e.g. a share of a pass that ran several operations.
+     */
+    static void recordElapsed(ProcessingMetricsListener listener, ProcessingEngine engine,
+                              ProcessingOperation operation, int charsIn, int charsOut, int wordsScanned,
+                              int predicateHits, int replacements, long elapsedNanos) {
+        if (listener != null) {
+            listener.operationCompleted(engine, operation, charsIn, charsOut, wordsScanned, predicateHits,
+                                        replacements, elapsedNanos);
+        }
+    }
+}
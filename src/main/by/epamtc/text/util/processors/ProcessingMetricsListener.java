@@ -0,0 +1,12 @@
+package by.epamtc.text.util.processors;
+
+/**
+ * Receives a report of every completed engine call. It is called on the processing thread, so it must be
+ * thread-safe and cheap. For operations that do not tokenize or test a predicate the related counts are zero.
+ */
+@FunctionalInterface
+public interface ProcessingMetricsListener {
+
+    void operationCompleted(ProcessingEngine engine, ProcessingOperation operation, int charsIn, int charsOut,
+                            int wordsScanned, int predicateHits, int replacements, long elapsedNanos);
+}
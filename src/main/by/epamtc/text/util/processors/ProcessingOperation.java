@@ -0,0 +1,9 @@
+package by.epamtc.text.util.processors;
+
+public enum ProcessingOperation {
+
+    REPLACE_LETTER_BY_POSITION_IN_WORD,
+    REPLACE_EACH_LETTER_AFTER,
+    REPLACE_EACH_WORD_BY_PREDICATE,
+    REMOVE_ALL_NOT_ALPHABETIC_EXCEPT_SPACES
+}
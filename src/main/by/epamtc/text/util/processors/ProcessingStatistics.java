@@ -0,0 +1,60 @@
+package by.epamtc.text.util.processors;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Metrics listener that keeps {@link OperationStatistics} for every engine and operation. They can be read directly
+ * or registered as MBeans named {@code by.epamtc.text:type=OperationStatistics,engine=...,operation=...}.
+ */
+public final class ProcessingStatistics implements ProcessingMetricsListener {
+
+    private static final String OBJECT_NAME_FORMAT = "by.epamtc.text:type=OperationStatistics,engine=%s,operation=%s";
+
+    private final OperationStatistics[][] statistics;
+
+    public ProcessingStatistics() {
+        statistics = new OperationStatistics[ProcessingEngine.values().length][ProcessingOperation.values().length];
+        for (OperationStatistics[] engineStatistics : statistics) {
+            for (int i = 0; i < engineStatistics.length; i++) {
+                engineStatistics[i] = new OperationStatistics();
+            }
+        }
+    }
+
+    public OperationStatistics getStatistics(ProcessingEngine engine, ProcessingOperation operation) {
+        return statistics[engine.ordinal()][operation.ordinal()];
+    }
+
+    @Override
+    public void operationCompleted(ProcessingEngine engine, ProcessingOperation operation, int charsIn, int charsOut,
+                                   int wordsScanned, int predicateHits, int replacements, long elapsedNanos) {
+        getStatistics(engine, operation).record(charsIn, charsOut, wordsScanned, predicateHits, replacements,
+                                                elapsedNanos);
+    }
+
+    public void registerMBeans(MBeanServer server) throws JMException {
+        for (ProcessingEngine engine : ProcessingEngine.values()) {
+            for (ProcessingOperation operation : ProcessingOperation.values()) {
+                server.registerMBean(getStatistics(engine, operation), createObjectName(engine, operation));
+            }
+        }
+    }
+
+    public void unregisterMBeans(MBeanServer server) throws JMException {
+        for (ProcessingEngine engine : ProcessingEngine.values()) {
+            for (ProcessingOperation operation : ProcessingOperation.values()) {
+                ObjectName name = createObjectName(engine, operation);
+                if (server.isRegistered(name)) {
+                    server.unregisterMBean(name);
+                }
+            }
+        }
+    }
+
+    private static ObjectName createObjectName(ProcessingEngine engine, ProcessingOperation operation)
+            throws JMException {
+        return new ObjectName(String.format(OBJECT_NAME_FORMAT, engine, operation));
+    }
+}
@@ -0,0 +1,50 @@
+package by.epamtc.text.util.processors;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Backends compiling the patterns of {@link TextProcessingRegexUtils}. {@link #JDK} uses the backtracking
+ * {@link Pattern} matcher. {@link #DFA} compiles a run of a single character class into a table-driven automaton
+ * and falls back to {@link #JDK} for the patterns it does not support.
+ */
+public enum RegexMatcherBackend {
+
+    JDK {
+        @Override
+        public SpanPattern compile(String regex, int flags) {
+            Pattern pattern = Pattern.compile(regex, flags);
+            return text -> {
+                Matcher matcher = pattern.matcher(text);
+                return new SpanMatcher() {
+                    @Override
+                    public boolean find() {
+                        return matcher.find();
+                    }
+
+                    @Override
+                    public int start() {
+                        return matcher.start();
+                    }
+
+                    @Override
+                    public int end() {
+                        return matcher.end();
+                    }
+                };
+            };
+        }
+    },
+    DFA {
+        @Override
+        public SpanPattern compile(String regex, int flags) {
+            SpanPattern pattern = CharClassRunPattern.tryCompile(regex, flags);
+            return pattern != null ? pattern : JDK.compile(regex, flags);
+        }
+    };
+
+    /**
+     * Compiles the pattern with the {@link Pattern} syntax and flags.
+     */
+    public abstract SpanPattern compile(String regex, int flags);
+}
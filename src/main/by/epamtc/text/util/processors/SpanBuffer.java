@@ -0,0 +1,63 @@
+package by.epamtc.text.util.processors;
+
+import java.util.Arrays;
+
+/**
+ * Growable list of {@code [start, end)} spans packed into a single {@code int[]}.
+ */
+public final class SpanBuffer {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] spans;
+    private int size;
+
+    public SpanBuffer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public SpanBuffer(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative.");
+        }
+        spans = new int[capacity * 2];
+    }
+
+    public void add(int start, int end) {
+        int index = size * 2;
+        if (index == spans.length) {
+            spans = Arrays.copyOf(spans, Math.max(DEFAULT_CAPACITY * 2, spans.length * 2));
+        }
+        spans[index] = start;
+        spans[index + 1] = end;
+        size++;
+    }
+
+    public int getStart(int spanIndex) {
+        checkSpanIndex(spanIndex);
+        return spans[spanIndex * 2];
+    }
+
+    public int getEnd(int spanIndex) {
+        checkSpanIndex(spanIndex);
+        return spans[spanIndex * 2 + 1];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    private void checkSpanIndex(int spanIndex) {
+        if (spanIndex < 0 || spanIndex >= size) {
+            throw new IndexOutOfBoundsException("Span index: " + spanIndex + ", size: " + size);
+        }
+    }
+}
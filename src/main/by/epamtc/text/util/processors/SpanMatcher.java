@@ -0,0 +1,14 @@
+package by.epamtc.text.util.processors;
+
+/**
+ * Matcher over a text with the {@code find}/{@code start}/{@code end} part of the {@link java.util.regex.Matcher}
+ * contract: {@link #find()} moves to the next match, and {@link #start()} and {@link #end()} return its bounds.
+ */
+public interface SpanMatcher {
+
+    boolean find();
+
+    int start();
+
+    int end();
+}
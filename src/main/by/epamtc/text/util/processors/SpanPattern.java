@@ -0,0 +1,10 @@
+package by.epamtc.text.util.processors;
+
+/**
+ * Compiled pattern that creates {@link SpanMatcher}s, see {@link RegexMatcherBackend}.
+ */
+@FunctionalInterface
+public interface SpanPattern {
+
+    SpanMatcher matcher(CharSequence text);
+}
@@ -0,0 +1,16 @@
+package by.epamtc.text.util.processors;
+
+@FunctionalInterface
+public interface TextOperation {
+
+    String apply(String text) throws TextProcessingException;
+
+    /**
+     * Tells whether the text can be cut right before {@code position}, so that applying the operation to both parts
+     * and concatenating the results gives the same text as applying it to the whole. Only characters before
+     * {@code position} may be inspected, the rest of the text may not be known yet.
+     */
+    default boolean isSafeSplitPosition(CharSequence text, int position) {
+        return position > 0 && position <= text.length() && CharacterClassifier.isWhitespace(text.charAt(position - 1));
+    }
+}
@@ -0,0 +1,254 @@
+package by.epamtc.text.util.processors;
+
+import java.util.function.Predicate;
+
+/**
+ * Factories of the text operations. An operation keeps the alphabet it was created with: the one given explicitly
+ * or else the current default one, so operations for different languages can be used side by side.
+ */
+public final class TextOperations {
+
+    private TextOperations() {
+    }
+
+    public static TextOperation replaceLetterByPositionInWord(int positionInWord, char replacement) {
+        return replaceLetterByPositionInWord(positionInWord, replacement, CharacterClassifier.getAlphabet());
+    }
+
+    public static TextOperation replaceLetterByPositionInWord(int positionInWord, char replacement,
+                                                              Alphabet alphabet) {
+        checkAlphabetOnNull(alphabet);
+        return new LetterByPositionReplacement(positionInWord, replacement, alphabet);
+    }
+
+    public static TextOperation replaceEachLetterAfter(char charBehind, char charToReplace, char replacement) {
+        return replaceEachLetterAfter(charBehind, charToReplace, replacement, CharacterClassifier.getAlphabet());
+    }
+
+    public static TextOperation replaceEachLetterAfter(char charBehind, char charToReplace, char replacement,
+                                                       Alphabet alphabet) {
+        checkAlphabetOnNull(alphabet);
+        return new LetterAfterReplacement(charBehind, charToReplace, replacement, alphabet);
+    }
+
+    public static TextOperation replaceEachLetterAfter(LetterAfterRuleSet rules) {
+        return replaceEachLetterAfter(rules, CharacterClassifier.getAlphabet());
+    }
+
+    public static TextOperation replaceEachLetterAfter(LetterAfterRuleSet rules, Alphabet alphabet) {
+        checkAlphabetOnNull(alphabet);
+        return new LetterAfterRulesReplacement(rules, alphabet);
+    }
+
+    public static TextOperation replaceEachWordByPredicate(Predicate<String> predicate, String replacement) {
+        return replaceEachWordByPredicate(predicate, replacement, CharacterClassifier.getAlphabet());
+    }
+
+    public static TextOperation replaceEachWordByPredicate(Predicate<String> predicate, String replacement,
+                                                           Alphabet alphabet) {
+        WordSlicePredicate slicePredicate = predicate != null ? WordPredicate.adaptStringPredicate(predicate) : null;
+        return replaceEachWordByPredicate(slicePredicate, replacement, alphabet);
+    }
+
+    public static TextOperation replaceEachWordByPredicate(WordSlicePredicate predicate, String replacement) {
+        return replaceEachWordByPredicate(predicate, replacement, CharacterClassifier.getAlphabet());
+    }
+
+    public static TextOperation replaceEachWordByPredicate(WordSlicePredicate predicate, String replacement,
+                                                           Alphabet alphabet) {
+        checkAlphabetOnNull(alphabet);
+        return new WordReplacement(predicate, replacement, alphabet);
+    }
+
+    public static TextOperation removeAllNotAlphabeticExceptSpaces() {
+        return removeAllNotAlphabeticExceptSpaces(CharacterClassifier.getAlphabet());
+    }
+
+    public static TextOperation removeAllNotAlphabeticExceptSpaces(Alphabet alphabet) {
+        checkAlphabetOnNull(alphabet);
+        return new NotAlphabeticRemoval(alphabet);
+    }
+
+    private static void checkAlphabetOnNull(Alphabet alphabet) {
+        if (alphabet == null) {
+            throw new IllegalArgumentException("Alphabet cannot be null.");
+        }
+    }
+
+    private static final class LetterByPositionReplacement extends FusibleTextOperation {
+
+        private final int positionInWord;
+        private final char replacement;
+
+        LetterByPositionReplacement(int positionInWord, char replacement, Alphabet alphabet) {
+            super(alphabet);
+            this.positionInWord = positionInWord;
+            this.replacement = replacement;
+        }
+
+        @Override
+        ProcessingOperation getProcessingOperation() {
+            return ProcessingOperation.REPLACE_LETTER_BY_POSITION_IN_WORD;
+        }
+
+        @Override
+        boolean isWordLocal() {
+            return true;
+        }
+
+        @Override
+        void validate() throws TextProcessingException {
+            TextProcessingStringUtils.checkPositionInWord(positionInWord);
+        }
+
+        @Override
+        int appendProcessed(CharSequence text, StringBuilder builder, WordSpanCursor wordCursor) {
+            return TextProcessingStringUtils.appendLetterReplacedByPositionInWord(text, positionInWord, replacement,
+                                                                                  builder, wordCursor, getAlphabet());
+        }
+    }
+
+    private static final class LetterAfterReplacement extends FusibleTextOperation {
+
+        private final char charBehind;
+        private final char charToReplace;
+        private final char replacement;
+
+        LetterAfterReplacement(char charBehind, char charToReplace, char replacement, Alphabet alphabet) {
+            super(alphabet);
+            this.charBehind = charBehind;
+            this.charToReplace = charToReplace;
+            this.replacement = replacement;
+        }
+
+        @Override
+        ProcessingOperation getProcessingOperation() {
+            return ProcessingOperation.REPLACE_EACH_LETTER_AFTER;
+        }
+
+        @Override
+        boolean isWordLocal() {
+            return getAlphabet().isAlphabeticOrDigit(charBehind) && getAlphabet().isAlphabeticOrDigit(charToReplace);
+        }
+
+        @Override
+        void validate() {
+        }
+
+        @Override
+        int appendProcessed(CharSequence text, StringBuilder builder, WordSpanCursor wordCursor) {
+            return TextProcessingStringUtils.appendEachLetterReplacedAfter(text, charBehind, charToReplace,
+                                                                           replacement, builder);
+        }
+
+        @Override
+        public boolean isSafeSplitPosition(CharSequence text, int position) {
+            if (!super.isSafeSplitPosition(text, position)) {
+                return false;
+            }
+            char charBeforeSplit = text.charAt(position - 1);
+            return charBeforeSplit != charBehind && charBeforeSplit != charToReplace;
+        }
+    }
+
+    private static final class LetterAfterRulesReplacement extends FusibleTextOperation {
+
+        private final LetterAfterRuleSet rules;
+
+        LetterAfterRulesReplacement(LetterAfterRuleSet rules, Alphabet alphabet) {
+            super(alphabet);
+            this.rules = rules;
+        }
+
+        @Override
+        ProcessingOperation getProcessingOperation() {
+            return ProcessingOperation.REPLACE_EACH_LETTER_AFTER;
+        }
+
+        @Override
+        boolean isWordLocal() {
+            return rules != null && rules.isWordLocal(getAlphabet());
+        }
+
+        @Override
+        void validate() throws TextProcessingException {
+            TextProcessingStringUtils.checkRulesOnNull(rules);
+        }
+
+        @Override
+        int appendProcessed(CharSequence text, StringBuilder builder, WordSpanCursor wordCursor) {
+            return TextProcessingStringUtils.appendEachLetterReplacedAfter(text, rules, builder);
+        }
+
+        @Override
+        public boolean isSafeSplitPosition(CharSequence text, int position) {
+            if (!super.isSafeSplitPosition(text, position)) {
+                return false;
+            }
+            return rules == null || !rules.isRuleChar(text.charAt(position - 1));
+        }
+    }
+
+    private static final class WordReplacement extends FusibleTextOperation {
+
+        private final WordSlicePredicate predicate;
+        private final String replacement;
+
+        WordReplacement(WordSlicePredicate predicate, String replacement, Alphabet alphabet) {
+            super(alphabet);
+            this.predicate = predicate;
+            this.replacement = replacement;
+        }
+
+        @Override
+        ProcessingOperation getProcessingOperation() {
+            return ProcessingOperation.REPLACE_EACH_WORD_BY_PREDICATE;
+        }
+
+        @Override
+        boolean isWordLocal() {
+            return true;
+        }
+
+        @Override
+        void validate() throws TextProcessingException {
+            if (predicate == null) {
+                throw new TextProcessingException("Predicate cannot be null.");
+            }
+            if (replacement == null) {
+                throw new TextProcessingException("Replacement cannot be null.");
+            }
+        }
+
+        @Override
+        int appendProcessed(CharSequence text, StringBuilder builder, WordSpanCursor wordCursor) {
+            return TextProcessingStringUtils.appendEachWordReplacedByPredicate(text, predicate, replacement,
+                                                                               builder, wordCursor, getAlphabet());
+        }
+    }
+
+    private static final class NotAlphabeticRemoval implements TextOperation {
+
+        private final Alphabet alphabet;
+
+        NotAlphabeticRemoval(Alphabet alphabet) {
+            this.alphabet = alphabet;
+        }
+
+        @Override
+        public String apply(String text) throws TextProcessingException {
+            if (text == null) {
+                throw new TextProcessingException("Text cannot be null.");
+            }
+            ProcessingMetricsListener metricsListener = ProcessingMetrics.getListener();
+            long startTime = ProcessingMetrics.startTime(metricsListener);
+            StringBuilder builder = new StringBuilder(text.length());
+            WordSpanCursor sequenceCursor = new WordSpanCursor();
+            TextProcessingStringUtils.appendNotAlphabeticExceptSpacesRemoved(text, builder, sequenceCursor, alphabet);
+            ProcessingMetrics.record(metricsListener, ProcessingEngine.STRING,
+                                     ProcessingOperation.REMOVE_ALL_NOT_ALPHABETIC_EXCEPT_SPACES, text.length(),
+                                     builder.length(), 0, 0, sequenceCursor.getSpansCount(), startTime);
+            return builder.toString();
+        }
+    }
+}
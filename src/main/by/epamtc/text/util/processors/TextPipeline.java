@@ -0,0 +1,200 @@
+package by.epamtc.text.util.processors;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Chain of text operations applied one after another. Consecutive operations that only work inside words are fused,
+ * so the whole run of them takes a single tokenizer pass over the text and fills a single output buffer. Only
+ * operations created with the same alphabet are fused, and the pass splits the text into the words of that alphabet.
+ * Each operation is reported to the {@link ProcessingMetrics} listener once per application, fused or not.
+ */
+public final class TextPipeline implements TextOperation {
+
+    private final List<TextOperation> operations;
+    private final List<TextOperation> stages;
+
+    public TextPipeline() {
+        this(Collections.emptyList());
+    }
+
+    private TextPipeline(List<TextOperation> operations) {
+        this.operations = Collections.unmodifiableList(operations);
+        this.stages = fuseOperations(operations);
+    }
+
+    public static TextPipeline of(TextOperation... operations) {
+        TextPipeline pipeline = new TextPipeline();
+        for (TextOperation operation : operations) {
+            pipeline = pipeline.then(operation);
+        }
+        return pipeline;
+    }
+
+    public TextPipeline then(TextOperation operation) {
+        if (operation == null) {
+            throw new IllegalArgumentException("Operation cannot be null.");
+        }
+        List<TextOperation> extendedOperations = new ArrayList<>(operations);
+        if (operation instanceof TextPipeline) {
+            extendedOperations.addAll(((TextPipeline) operation).operations);
+        } else {
+            extendedOperations.add(operation);
+        }
+        return new TextPipeline(extendedOperations);
+    }
+
+    public List<TextOperation> getOperations() {
+        return operations;
+    }
+
+    @Override
+    public String apply(String text) throws TextProcessingException {
+        if (text == null) {
+            throw new TextProcessingException("Text cannot be null.");
+        }
+        String processedText = text;
+        for (TextOperation stage : stages) {
+            processedText = stage.apply(processedText);
+        }
+        return processedText;
+    }
+
+    @Override
+    public boolean isSafeSplitPosition(CharSequence text, int position) {
+        if (!TextOperation.super.isSafeSplitPosition(text, position)) {
+            return false;
+        }
+        for (TextOperation operation : operations) {
+            if (!operation.isSafeSplitPosition(text, position)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<TextOperation> fuseOperations(List<TextOperation> operations) {
+        List<TextOperation> stages = new ArrayList<>();
+        int groupStart = 0;
+        while (groupStart < operations.size()) {
+            int groupEnd = groupStart;
+            Alphabet groupAlphabet = findAlphabet(operations.get(groupStart));
+            while (groupEnd < operations.size() && isWordLocal(operations.get(groupEnd)) &&
+                   findAlphabet(operations.get(groupEnd)) == groupAlphabet) {
+                groupEnd++;
+            }
+            if (groupEnd - groupStart > 1) {
+                List<FusibleTextOperation> group = new ArrayList<>();
+                for (TextOperation operation : operations.subList(groupStart, groupEnd)) {
+                    group.add((FusibleTextOperation) operation);
+                }
+                stages.add(new FusedWordOperations(group, groupAlphabet));
+                groupStart = groupEnd;
+            } else {
+                stages.add(operations.get(groupStart));
+                groupStart++;
+            }
+        }
+        return stages;
+    }
+
+    private static boolean isWordLocal(TextOperation operation) {
+        return operation instanceof FusibleTextOperation && ((FusibleTextOperation) operation).isWordLocal();
+    }
+
+    private static Alphabet findAlphabet(TextOperation operation) {
+        return operation instanceof FusibleTextOperation ? ((FusibleTextOperation) operation).getAlphabet() : null;
+    }
+
+    /**
+     * Runs a group of word-local operations in one pass. Each of them is reported once per pass, with the counts it
+     * would have reported if applied on its own and an equal share of the pass time.
+     */
+    private static final class FusedWordOperations implements TextOperation {
+
+        private final List<FusibleTextOperation> operations;
+        private final Alphabet alphabet;
+
+        FusedWordOperations(List<FusibleTextOperation> operations, Alphabet alphabet) {
+            this.operations = operations;
+            this.alphabet = alphabet;
+        }
+
+        @Override
+        public String apply(String text) throws TextProcessingException {
+            for (FusibleTextOperation operation : operations) {
+                operation.validate();
+            }
+            ProcessingMetricsListener metricsListener = ProcessingMetrics.getListener();
+            long startTime = ProcessingMetrics.startTime(metricsListener);
+            OperationsCounts operationsCounts = metricsListener != null ? new OperationsCounts(operations.size())
+                                                                        : null;
+            StringBuilder builder = new StringBuilder(text.length());
+            StringBuilder word = new StringBuilder();
+            StringBuilder processedWord = new StringBuilder();
+            WordSpanCursor textCursor = new WordSpanCursor().reset(text, 0, text.length(), alphabet);
+            WordSpanCursor wordCursor = new WordSpanCursor();
+            int offset = 0;
+            while (textCursor.nextWord()) {
+                int wordStartPosition = textCursor.getSpanStart();
+                int wordEndPosition = textCursor.getSpanEnd();
+                builder.append(text, offset, wordStartPosition);
+                word.setLength(0);
+                word.append(text, wordStartPosition, wordEndPosition);
+                for (int i = 0; i < operations.size(); i++) {
+                    processedWord.setLength(0);
+                    int replacementsCount = operations.get(i).appendProcessed(word, processedWord, wordCursor);
+                    if (operationsCounts != null) {
+                        operationsCounts.add(i, word.length(), processedWord.length(), replacementsCount);
+                    }
+                    StringBuilder swap = word;
+                    word = processedWord;
+                    processedWord = swap;
+                }
+                builder.append(word);
+                offset = wordEndPosition;
+            }
+            builder.append(text, offset, text.length());
+            if (operationsCounts != null) {
+                operationsCounts.report(metricsListener, text.length(), textCursor.getSpansCount(),
+                                        System.nanoTime() - startTime);
+            }
+            return builder.toString();
+        }
+
+        private final class OperationsCounts {
+
+            private final int[] wordsCharsIn;
+            private final int[] wordsCharsOut;
+            private final int[] replacementsCounts;
+
+            OperationsCounts(int operationsCount) {
+                wordsCharsIn = new int[operationsCount];
+                wordsCharsOut = new int[operationsCount];
+                replacementsCounts = new int[operationsCount];
+            }
+
+            void add(int operation, int wordLength, int processedWordLength, int replacementsCount) {
+                wordsCharsIn[operation] += wordLength;
+                wordsCharsOut[operation] += processedWordLength;
+                replacementsCounts[operation] += replacementsCount;
+            }
+
+            void report(ProcessingMetricsListener metricsListener, int textLength, int wordsCount,
+                        long elapsedNanos) {
+                int notWordsLength = textLength - wordsCharsIn[0];
+                for (int i = 0; i < operations.size(); i++) {
+                    FusibleTextOperation operation = operations.get(i);
+                    ProcessingMetrics.recordElapsed(metricsListener, ProcessingEngine.STRING,
+                                                    operation.getProcessingOperation(),
+                                                    notWordsLength + wordsCharsIn[i],
+                                                    notWordsLength + wordsCharsOut[i],
+                                                    operation.scansWords() ? wordsCount : 0,
+                                                    operation.countPredicateHits(replacementsCounts[i]),
+                                                    replacementsCounts[i], elapsedNanos / operations.size());
+                }
+            }
+        }
+    }
+}
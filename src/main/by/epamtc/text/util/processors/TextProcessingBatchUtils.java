@@ -0,0 +1,169 @@
+package by.epamtc.text.util.processors;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+public final class TextProcessingBatchUtils {
+
+    public static final int DEFAULT_THREADS_COUNT = Runtime.getRuntime().availableProcessors();
+    public static final int DEFAULT_MAX_IN_FLIGHT = DEFAULT_THREADS_COUNT * 4;
+
+    private static final ExecutorService DEFAULT_EXECUTOR = createDefaultExecutor();
+
+    private TextProcessingBatchUtils() {
+    }
+
+    private static ExecutorService createDefaultExecutor() {
+        return Executors.newFixedThreadPool(DEFAULT_THREADS_COUNT, runnable -> {
+            Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Processes the documents on a shared pool of {@link #DEFAULT_THREADS_COUNT} daemon threads, created once and
+     * reused by every call.
+     */
+    public static List<TextProcessingResult<String>> process(Iterable<String> documents, TextOperation operation)
+            throws TextProcessingException {
+        return process(documents, operation, DEFAULT_EXECUTOR, DEFAULT_MAX_IN_FLIGHT);
+    }
+
+    public static List<TextProcessingResult<String>> process(Iterable<String> documents, TextOperation operation,
+                                                             ExecutorService executor, int maxInFlight)
+            throws TextProcessingException {
+        if (documents == null) {
+            throw new TextProcessingException("Documents cannot be null.");
+        }
+        if (operation == null) {
+            throw new TextProcessingException("Operation cannot be null.");
+        }
+        List<TextProcessingResult<String>> results = new ArrayList<>();
+        processDocuments(documents.iterator(), operation::apply, executor, maxInFlight, results::add);
+        return results;
+    }
+
+    /**
+     * Processes the documents with at most {@code maxInFlight} of them submitted to the executor at a time, so a
+     * long stream is pulled only as fast as it is processed. Results are passed to the consumer in the stream order,
+     * on the calling thread. An exception thrown for a document, including a runtime exception of the operation or
+     * its predicate, is reported in its result and does not stop the batch.
+     */
+    public static void process(Stream<String> documents, TextOperation operation, ExecutorService executor,
+                               int maxInFlight, Consumer<TextProcessingResult<String>> consumer)
+            throws TextProcessingException {
+        if (documents == null) {
+            throw new TextProcessingException("Documents cannot be null.");
+        }
+        if (operation == null) {
+            throw new TextProcessingException("Operation cannot be null.");
+        }
+        if (consumer == null) {
+            throw new TextProcessingException("Consumer cannot be null.");
+        }
+        processDocuments(documents.iterator(), operation::apply, executor, maxInFlight, consumer);
+    }
+
+    /**
+     * Char array counterpart of {@link #process(Iterable, TextOperation, ExecutorService, int)}. Every document is
+     * processed by the {@link CharArrayTextProcessor} of the worker thread, so the workers reuse their buffers.
+     */
+    public static List<TextProcessingResult<char[]>> processCharArrays(Iterable<char[]> documents,
+                                                                       CharArrayTextOperation operation,
+                                                                       ExecutorService executor, int maxInFlight)
+            throws TextProcessingException {
+        if (documents == null) {
+            throw new TextProcessingException("Documents cannot be null.");
+        }
+        if (operation == null) {
+            throw new TextProcessingException("Operation cannot be null.");
+        }
+        List<TextProcessingResult<char[]>> results = new ArrayList<>();
+        processDocuments(documents.iterator(), document -> {
+            if (document == null) {
+                throw new TextProcessingException("Text cannot be null.");
+            }
+            CharArrayTextProcessor processor = CharArrayTextProcessor.forCurrentThread();
+            processor.load(document, 0, document.length);
+            operation.applyTo(processor);
+            return processor.toCharArray();
+        }, executor, maxInFlight, results::add);
+        return results;
+    }
+
+    private static <T> void processDocuments(Iterator<T> documents, DocumentProcessor<T> processor,
+                                             ExecutorService executor, int maxInFlight,
+                                             Consumer<TextProcessingResult<T>> consumer)
+            throws TextProcessingException {
+        if (executor == null) {
+            throw new TextProcessingException("Executor cannot be null.");
+        }
+        if (maxInFlight <= 0) {
+            throw new TextProcessingException("Max in-flight documents count must be positive.");
+        }
+        Deque<Future<TextProcessingResult<T>>> inFlightResults = new ArrayDeque<>(maxInFlight);
+        int documentIndex = 0;
+        try {
+            while (documents.hasNext()) {
+                if (inFlightResults.size() == maxInFlight) {
+                    consumer.accept(awaitResult(inFlightResults.poll()));
+                }
+                T document = documents.next();
+                int index = documentIndex++;
+                inFlightResults.add(executor.submit(() -> processDocument(index, document, processor)));
+            }
+            while (!inFlightResults.isEmpty()) {
+                consumer.accept(awaitResult(inFlightResults.poll()));
+            }
+        } finally {
+            for (Future<TextProcessingResult<T>> inFlightResult : inFlightResults) {
+                inFlightResult.cancel(true);
+            }
+        }
+    }
+
+    private static <T> TextProcessingResult<T> processDocument(int index, T document, DocumentProcessor<T> processor) {
+        try {
+            return TextProcessingResult.success(index, processor.process(document));
+        } catch (TextProcessingException e) {
+            return TextProcessingResult.failure(index, e);
+        } catch (RuntimeException e) {
+            return TextProcessingResult.failure(index, new TextProcessingException("Document cannot be processed.", e));
+        }
+    }
+
+    private static <T> TextProcessingResult<T> awaitResult(Future<TextProcessingResult<T>> result)
+            throws TextProcessingException {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TextProcessingException("Batch processing was interrupted.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new TextProcessingException(cause);
+        }
+    }
+
+    @FunctionalInterface
+    private interface DocumentProcessor<T> {
+
+        T process(T document) throws TextProcessingException;
+    }
+}
@@ -1,9 +1,7 @@
 package by.epamtc.text.util.processors;
 
-import java.util.ArrayList;
+import java.nio.CharBuffer;
 import java.util.Arrays;
-import java.util.List;
-import java.util.Optional;
 import java.util.function.Predicate;
 
 public final class TextProcessingCharArrayUtils {
@@ -14,182 +12,351 @@ public final class TextProcessingCharArrayUtils {
     public static void replaceLetterByPositionInWord(char[] text, int positionInWord, char replacement)
             throws TextProcessingException {
         checkTextOnNull(text);
+        replaceLetterByPositionInWord(text, 0, text.length, positionInWord, replacement);
+    }
+
+    public static void replaceLetterByPositionInWord(char[] text, int fromIndex, int toIndex, int positionInWord,
+                                                     char replacement) throws TextProcessingException {
+        checkTextRange(text, fromIndex, toIndex);
         if (positionInWord < 0) {
             throw new TextProcessingException("Replacement position cannot be negative.");
         }
-        int offset = 0;
-        var optionalWordPositions = findFirstWordPositions(text, offset);
-        while (optionalWordPositions.isPresent()) {
-            var wordPositions = optionalWordPositions.get();
-            int wordStartPosition = wordPositions.getFirst();
-            int wordEndPosition = wordPositions.getSecond();
-            int wordLength = wordEndPosition - wordStartPosition;
+        ProcessingMetricsListener metricsListener = ProcessingMetrics.getListener();
+        long startTime = ProcessingMetrics.startTime(metricsListener);
+        WordSpanCursor wordCursor = new WordSpanCursor();
+        int replacementsCount = replaceLetterByPositionInWord(text, fromIndex, toIndex, positionInWord, replacement,
+                                                              wordCursor, CharacterClassifier.getAlphabet());
+        ProcessingMetrics.record(metricsListener, ProcessingEngine.CHAR_ARRAY,
+                                 ProcessingOperation.REPLACE_LETTER_BY_POSITION_IN_WORD, toIndex - fromIndex,
+                                 toIndex - fromIndex, wordCursor.getSpansCount(), 0, replacementsCount, startTime);
+    }
+
+    static int replaceLetterByPositionInWord(char[] text, int fromIndex, int toIndex, int positionInWord,
+                                             char replacement, WordSpanCursor wordCursor, Alphabet alphabet) {
+        int replacementsCount = 0;
+        wordCursor.reset(text, fromIndex, toIndex, alphabet);
+        while (wordCursor.nextWord()) {
+            int wordLength = wordCursor.getSpanLength();
             if (wordLength > positionInWord) {
-                int replacementPosition = wordStartPosition + positionInWord;
+                int replacementPosition = wordCursor.getSpanStart() + positionInWord;
                 text[replacementPosition] = replacement;
+                replacementsCount++;
             }
-            offset = wordEndPosition;
-            optionalWordPositions = findFirstWordPositions(text, offset);
         }
+        return replacementsCount;
     }
 
-    private static Optional<Pair<Integer, Integer>> findFirstWordPositions(char[] text, int offset) {
-        if (offset < 0) {
-            throw new IllegalArgumentException("Offset cannot be negative.");
-        }
-        int wordStartPosition = offset;
-        while (wordStartPosition < text.length) {
-            char textChar = text[wordStartPosition];
-            if (isAlphabeticOrDigit(textChar)) {
-                break;
+    static void findWordsPositionsByPredicate(char[] text, int fromIndex, int toIndex, WordSlicePredicate predicate,
+                                              WordSpanCursor wordCursor, Alphabet alphabet,
+                                              SpanBuffer wordsPositions) {
+        WordPrefilter prefilter = new WordPrefilter(predicate, alphabet);
+        wordCursor.reset(text, fromIndex, toIndex, alphabet);
+        while (wordCursor.nextWord(prefilter)) {
+            int wordStartPosition = wordCursor.getSpanStart();
+            int wordEndPosition = wordCursor.getSpanEnd();
+            if (predicate.test(text, wordStartPosition, wordEndPosition)) {
+                wordsPositions.add(wordStartPosition, wordEndPosition);
             }
-            wordStartPosition++;
-        }
-        if (wordStartPosition >= text.length) {
-            return Optional.empty();
         }
-        int wordEndPosition = wordStartPosition;
-        while (wordEndPosition < text.length) {
-            char textChar = text[wordEndPosition];
-            if (!isAlphabeticOrDigit(textChar)) {
-                break;
-            }
-            wordEndPosition++;
-        }
-        Pair<Integer, Integer> wordPositions = new Pair<>(wordStartPosition, wordEndPosition);
-        return Optional.of(wordPositions);
-    }
-
-    private static List<Pair<Integer, Integer>> findWordsPositionsByPredicate(char[] text,
-                                                                              Predicate<char[]> predicate) {
-        List<Pair<Integer, Integer>> wordsPositionsList = new ArrayList<>();
-        int offset = 0;
-        var optionalWordPositions = findFirstWordPositions(text, offset);
-        while (optionalWordPositions.isPresent()) {
-            var wordPositions = optionalWordPositions.get();
-            int wordStartPosition = wordPositions.getFirst();
-            int wordEndPosition = wordPositions.getSecond();
-            int wordLength = wordEndPosition - wordStartPosition;
-            char[] word = new char[wordLength];
-            System.arraycopy(text, wordStartPosition, word, 0, wordLength);
-            if (predicate.test(word)) {
-                wordsPositionsList.add(wordPositions);
-            }
-            offset = wordEndPosition;
-            optionalWordPositions = findFirstWordPositions(text, offset);
-        }
-        return wordsPositionsList;
     }
 
-    private static boolean isAlphabeticOrDigit(char textChar) {
-        return Character.isLetter(textChar) || Character.isDigit(textChar);
+    public static void replaceEachLetterAfter(char[] text, char charBehind, char charToReplace, char replacement)
+            throws TextProcessingException {
+        checkTextOnNull(text);
+        replaceEachLetterAfter(text, 0, text.length, charBehind, charToReplace, replacement);
     }
 
-    private static Optional<Pair<Integer, Integer>> findFirstNonAlphabeticSequencePositions(char[] text, int offset) {
-        if (offset < 0) {
-            throw new IllegalArgumentException("Offset cannot be negative.");
-        }
-        int sequenceStartPosition = offset;
-        while (sequenceStartPosition < text.length) {
-            char textChar = text[sequenceStartPosition];
-            if (!isAlphabeticOrSpace(textChar)) {
-                break;
-            }
-            sequenceStartPosition++;
-        }
-        if (sequenceStartPosition >= text.length) {
-            return Optional.empty();
-        }
-        int sequenceEndPosition = sequenceStartPosition;
-        while (sequenceEndPosition < text.length) {
-            char textChar = text[sequenceEndPosition];
-            if (isAlphabeticOrSpace(textChar)) {
-                break;
+    public static void replaceEachLetterAfter(char[] text, int fromIndex, int toIndex, char charBehind,
+                                              char charToReplace, char replacement) throws TextProcessingException {
+        checkTextRange(text, fromIndex, toIndex);
+        ProcessingMetricsListener metricsListener = ProcessingMetrics.getListener();
+        long startTime = ProcessingMetrics.startTime(metricsListener);
+        int replacementsCount = replaceLettersAfter(text, fromIndex, toIndex, charBehind, charToReplace, replacement);
+        ProcessingMetrics.record(metricsListener, ProcessingEngine.CHAR_ARRAY,
+                                 ProcessingOperation.REPLACE_EACH_LETTER_AFTER, toIndex - fromIndex,
+                                 toIndex - fromIndex, 0, 0, replacementsCount, startTime);
+    }
+
+    static int replaceLettersAfter(char[] text, int fromIndex, int toIndex, char charBehind, char charToReplace,
+                                   char replacement) {
+        int replacementsCount = 0;
+        for (int i = fromIndex; i < toIndex; i++) {
+            char textChar = text[i];
+            int nextTextCharPosition = i + 1;
+            if (textChar == charBehind && nextTextCharPosition < toIndex) {
+                char nextTextChar = text[nextTextCharPosition];
+                if (nextTextChar == charToReplace) {
+                    text[nextTextCharPosition] = replacement;
+                    replacementsCount++;
+                    i++;
+                }
             }
-            sequenceEndPosition++;
         }
-        Pair<Integer, Integer> sequencePositions = new Pair<>(sequenceStartPosition, sequenceEndPosition);
-        return Optional.of(sequencePositions);
+        return replacementsCount;
     }
 
-    private static boolean isAlphabeticOrSpace(char textChar) {
-        return Character.isLetter(textChar) || Character.isWhitespace(textChar);
+    public static void replaceEachLetterAfter(char[] text, LetterAfterRuleSet rules) throws TextProcessingException {
+        checkTextOnNull(text);
+        replaceEachLetterAfter(text, 0, text.length, rules);
     }
 
-    public static void replaceEachLetterAfter(char[] text, char charBehind, char charToReplace, char replacement)
+    /**
+     * Applies all the rules in a single scan. As with a single rule, a replaced char is skipped and never acts as
+     * the char behind of the next pair.
+     */
+    public static void replaceEachLetterAfter(char[] text, int fromIndex, int toIndex, LetterAfterRuleSet rules)
             throws TextProcessingException {
-        checkTextOnNull(text);
-        for (int i = 0; i < text.length; i++) {
+        checkTextRange(text, fromIndex, toIndex);
+        TextProcessingStringUtils.checkRulesOnNull(rules);
+        ProcessingMetricsListener metricsListener = ProcessingMetrics.getListener();
+        long startTime = ProcessingMetrics.startTime(metricsListener);
+        int replacementsCount = replaceLettersAfter(text, fromIndex, toIndex, rules);
+        ProcessingMetrics.record(metricsListener, ProcessingEngine.CHAR_ARRAY,
+                                 ProcessingOperation.REPLACE_EACH_LETTER_AFTER, toIndex - fromIndex,
+                                 toIndex - fromIndex, 0, 0, replacementsCount, startTime);
+    }
+
+    static int replaceLettersAfter(char[] text, int fromIndex, int toIndex, LetterAfterRuleSet rules) {
+        int replacementsCount = 0;
+        for (int i = fromIndex; i < toIndex - 1; i++) {
             char textChar = text[i];
-            int nextTextCharPosition = i + 1;
-            if (textChar == charBehind && nextTextCharPosition < text.length) {
-                char nextTextChar = text[nextTextCharPosition];
-                if (nextTextChar == charToReplace) {
-                    text[nextTextCharPosition] = replacement;
+            if (rules.isCharBehind(textChar)) {
+                int nextTextCharPosition = i + 1;
+                int replacement = rules.findReplacement(textChar, text[nextTextCharPosition]);
+                if (replacement >= 0) {
+                    text[nextTextCharPosition] = (char) replacement;
+                    replacementsCount++;
                     i++;
                 }
             }
         }
+        return replacementsCount;
     }
 
     public static char[] replaceEachWordByPredicate(char[] text, Predicate<char[]> predicate, char[] replacement)
             throws TextProcessingException {
         checkTextOnNull(text);
+        return replaceEachWordByPredicate(text, 0, text.length, predicate, replacement);
+    }
+
+    public static char[] replaceEachWordByPredicate(char[] text, int fromIndex, int toIndex,
+                                                    Predicate<char[]> predicate, char[] replacement)
+            throws TextProcessingException {
+        if (predicate == null) {
+            throw new TextProcessingException("Predicate cannot be null.");
+        }
+        return replaceEachWordByPredicate(text, fromIndex, toIndex, WordPredicate.adaptCharArrayPredicate(predicate),
+                                          replacement);
+    }
+
+    public static char[] replaceEachWordByPredicate(char[] text, WordSlicePredicate predicate, char[] replacement)
+            throws TextProcessingException {
+        checkTextOnNull(text);
+        return replaceEachWordByPredicate(text, 0, text.length, predicate, replacement);
+    }
+
+    public static char[] replaceEachWordByPredicate(char[] text, int fromIndex, int toIndex,
+                                                    WordSlicePredicate predicate, char[] replacement)
+            throws TextProcessingException {
+        checkTextRange(text, fromIndex, toIndex);
         if (predicate == null) {
             throw new TextProcessingException("Predicate cannot be null.");
         }
         if (replacement == null) {
             throw new TextProcessingException("Replacement cannot be null.");
         }
-        List<Pair<Integer, Integer>> wordsToReplacePositionsList = findWordsPositionsByPredicate(text, predicate);
-        int editedTextLength = computeEditedTextLength(text, replacement, wordsToReplacePositionsList);
+        ProcessingMetricsListener metricsListener = ProcessingMetrics.getListener();
+        long startTime = ProcessingMetrics.startTime(metricsListener);
+        SpanBuffer wordsToReplacePositions = new SpanBuffer();
+        WordSpanCursor wordCursor = new WordSpanCursor();
+        findWordsPositionsByPredicate(text, fromIndex, toIndex, predicate, wordCursor,
+                                      CharacterClassifier.getAlphabet(), wordsToReplacePositions);
+        int editedTextLength = computeEditedTextLength(toIndex - fromIndex, replacement, wordsToReplacePositions);
         char[] editedText = new char[editedTextLength];
-        int textOffset = 0;
+        copyWordsReplaced(text, fromIndex, toIndex, wordsToReplacePositions, replacement, editedText);
+        ProcessingMetrics.record(metricsListener, ProcessingEngine.CHAR_ARRAY,
+                                 ProcessingOperation.REPLACE_EACH_WORD_BY_PREDICATE, toIndex - fromIndex,
+                                 editedTextLength, wordCursor.getSpansCount(), wordsToReplacePositions.size(),
+                                 wordsToReplacePositions.size(), startTime);
+        return editedText;
+    }
+
+    public static PieceTable replaceEachWordByPredicateAsPieces(char[] text, WordSlicePredicate predicate,
+                                                                char[] replacement) throws TextProcessingException {
+        checkTextOnNull(text);
+        return replaceEachWordByPredicateAsPieces(text, 0, text.length, predicate, replacement);
+    }
+
+    /**
+     * Same as {@link #replaceEachWordByPredicate(char[], int, int, WordSlicePredicate, char[])}, but the result
+     * references the arrays instead of copying them, so neither the span list nor the precount pass is needed.
+     */
+    public static PieceTable replaceEachWordByPredicateAsPieces(char[] text, int fromIndex, int toIndex,
+                                                                WordSlicePredicate predicate, char[] replacement)
+            throws TextProcessingException {
+        checkTextRange(text, fromIndex, toIndex);
+        if (predicate == null) {
+            throw new TextProcessingException("Predicate cannot be null.");
+        }
+        if (replacement == null) {
+            throw new TextProcessingException("Replacement cannot be null.");
+        }
+        ProcessingMetricsListener metricsListener = ProcessingMetrics.getListener();
+        long startTime = ProcessingMetrics.startTime(metricsListener);
+        int replacementsCount = 0;
+        PieceTable pieces = new PieceTable();
+        int textSource = pieces.addSource(CharBuffer.wrap(text));
+        int replacementSource = pieces.addSource(CharBuffer.wrap(replacement));
+        Alphabet alphabet = CharacterClassifier.getAlphabet();
+        WordPrefilter prefilter = new WordPrefilter(predicate, alphabet);
+        int offset = fromIndex;
+        WordSpanCursor wordCursor = new WordSpanCursor().reset(text, fromIndex, toIndex, alphabet);
+        while (wordCursor.nextWord(prefilter)) {
+            int wordStartPosition = wordCursor.getSpanStart();
+            int wordEndPosition = wordCursor.getSpanEnd();
+            if (predicate.test(text, wordStartPosition, wordEndPosition)) {
+                pieces.appendPiece(textSource, offset, wordStartPosition);
+                pieces.appendPiece(replacementSource, 0, replacement.length);
+                replacementsCount++;
+                offset = wordEndPosition;
+            }
+        }
+        pieces.appendPiece(textSource, offset, toIndex);
+        ProcessingMetrics.record(metricsListener, ProcessingEngine.CHAR_ARRAY,
+                                 ProcessingOperation.REPLACE_EACH_WORD_BY_PREDICATE, toIndex - fromIndex,
+                                 pieces.length(), wordCursor.getSpansCount(), replacementsCount, replacementsCount,
+                                 startTime);
+        return pieces;
+    }
+
+    static int copyWordsReplaced(char[] text, int fromIndex, int toIndex, SpanBuffer wordsToReplacePositions,
+                                 char[] replacement, char[] editedText) {
+        int textOffset = fromIndex;
         int editedTextOffset = 0;
-        for (var wordPositions : wordsToReplacePositionsList) {
-            int wordStartPosition = wordPositions.getFirst();
-            int wordEndPosition = wordPositions.getSecond();
-            int wordLength = wordEndPosition - wordStartPosition;
+        for (int i = 0; i < wordsToReplacePositions.size(); i++) {
+            int wordStartPosition = wordsToReplacePositions.getStart(i);
+            int wordEndPosition = wordsToReplacePositions.getEnd(i);
             int beforeWordAppendingLength = wordStartPosition - textOffset;
             System.arraycopy(text, textOffset, editedText, editedTextOffset, beforeWordAppendingLength);
             editedTextOffset += beforeWordAppendingLength;
             System.arraycopy(replacement, 0, editedText, editedTextOffset, replacement.length);
             editedTextOffset += replacement.length;
-            textOffset += beforeWordAppendingLength + wordLength;
+            textOffset = wordEndPosition;
         }
-        int tailLength = text.length - textOffset;
+        int tailLength = toIndex - textOffset;
         System.arraycopy(text, textOffset, editedText, editedTextOffset, tailLength);
-        return editedText;
+        return editedTextOffset + tailLength;
+    }
+
+    /**
+     * Replaces matching words directly inside {@code text} and returns the new logical length. Only the first
+     * {@code length} chars are processed. The text can only shrink: if a replacement is longer than the word it
+     * replaces and would overwrite unread text, an exception is thrown before anything is written, so the array is
+     * left unchanged.
+     */
+    public static int replaceEachWordByPredicateInPlace(char[] text, int length, WordSlicePredicate predicate,
+                                                        char[] replacement) throws TextProcessingException {
+        checkTextRange(text, 0, length);
+        if (predicate == null) {
+            throw new TextProcessingException("Predicate cannot be null.");
+        }
+        if (replacement == null) {
+            throw new TextProcessingException("Replacement cannot be null.");
+        }
+        ProcessingMetricsListener metricsListener = ProcessingMetrics.getListener();
+        long startTime = ProcessingMetrics.startTime(metricsListener);
+        SpanBuffer wordsToReplacePositions = new SpanBuffer();
+        WordSpanCursor wordCursor = new WordSpanCursor();
+        findWordsPositionsByPredicate(text, 0, length, predicate, wordCursor, CharacterClassifier.getAlphabet(),
+                                      wordsToReplacePositions);
+        checkReplacementsFitInPlace(wordsToReplacePositions, replacement.length);
+        int editedTextLength = copyWordsReplaced(text, 0, length, wordsToReplacePositions, replacement, text);
+        ProcessingMetrics.record(metricsListener, ProcessingEngine.CHAR_ARRAY,
+                                 ProcessingOperation.REPLACE_EACH_WORD_BY_PREDICATE, length, editedTextLength,
+                                 wordCursor.getSpansCount(), wordsToReplacePositions.size(),
+                                 wordsToReplacePositions.size(), startTime);
+        return editedTextLength;
+    }
+
+    /**
+     * A replacement fits if it ends before the end of the word it replaces, given how much the text before the word
+     * has already shrunk.
+     */
+    private static void checkReplacementsFitInPlace(SpanBuffer wordsToReplacePositions, int replacementLength)
+            throws TextProcessingException {
+        long shrinkLength = 0;
+        for (int i = 0; i < wordsToReplacePositions.size(); i++) {
+            int wordLength = wordsToReplacePositions.getEnd(i) - wordsToReplacePositions.getStart(i);
+            if (replacementLength - wordLength > shrinkLength) {
+                throw new TextProcessingException("Replacement does not fit in place of the word.");
+            }
+            shrinkLength += wordLength - replacementLength;
+        }
     }
 
-    private static int computeEditedTextLength(char[] text, char[] replacement,
-                                               List<Pair<Integer, Integer>> wordsToReplacePositionsList) {
+    static int computeEditedTextLength(int textLength, char[] replacement, SpanBuffer wordsToReplacePositions) {
         int wordsToReplaceTotalLength = 0;
-        for (var wordPositions : wordsToReplacePositionsList) {
-            int wordLength = wordPositions.getSecond() - wordPositions.getFirst();
+        for (int i = 0; i < wordsToReplacePositions.size(); i++) {
+            int wordLength = wordsToReplacePositions.getEnd(i) - wordsToReplacePositions.getStart(i);
             wordsToReplaceTotalLength += wordLength;
         }
-        int replacementTotalLength = replacement.length * wordsToReplacePositionsList.size();
+        int replacementTotalLength = replacement.length * wordsToReplacePositions.size();
         int textLengthDelta = replacementTotalLength - wordsToReplaceTotalLength;
-        int editedTextLength = text.length + textLengthDelta;
+        int editedTextLength = textLength + textLengthDelta;
         return editedTextLength;
     }
 
     public static char[] removeAllNotAlphabeticExceptSpaces(char[] text) throws TextProcessingException {
         checkTextOnNull(text);
-        char[] editedText = new char[text.length];
-        int textOffset = 0;
-        int editedTextOffset = 0;
-        var optionalNotAlphabeticSequencePositions = findFirstNonAlphabeticSequencePositions(text, textOffset);
-        while (optionalNotAlphabeticSequencePositions.isPresent()) {
-            var notAlphabeticSequencePositions = optionalNotAlphabeticSequencePositions.get();
-            int positionBeforeSequence = notAlphabeticSequencePositions.getFirst() - 1;
-            int positionAfterSequence = notAlphabeticSequencePositions.getSecond();
+        return removeAllNotAlphabeticExceptSpaces(text, 0, text.length);
+    }
+
+    public static char[] removeAllNotAlphabeticExceptSpaces(char[] text, int fromIndex, int toIndex)
+            throws TextProcessingException {
+        checkTextRange(text, fromIndex, toIndex);
+        ProcessingMetricsListener metricsListener = ProcessingMetrics.getListener();
+        long startTime = ProcessingMetrics.startTime(metricsListener);
+        char[] editedText = new char[toIndex - fromIndex];
+        WordSpanCursor sequenceCursor = new WordSpanCursor();
+        int editedTextOffset = compactNotAlphabeticExceptSpaces(text, fromIndex, toIndex, editedText, 0,
+                                                                sequenceCursor, CharacterClassifier.getAlphabet());
+        ProcessingMetrics.record(metricsListener, ProcessingEngine.CHAR_ARRAY,
+                                 ProcessingOperation.REMOVE_ALL_NOT_ALPHABETIC_EXCEPT_SPACES, toIndex - fromIndex,
+                                 editedTextOffset, 0, 0, sequenceCursor.getSpansCount(), startTime);
+        return Arrays.copyOf(editedText, editedTextOffset);
+    }
+
+    /**
+     * Removes non-alphabetic sequences directly inside {@code text} and returns the new logical length. Only the
+     * first {@code length} chars are processed, the rest of the array is left as is.
+     */
+    public static int removeAllNotAlphabeticExceptSpacesInPlace(char[] text, int length)
+            throws TextProcessingException {
+        checkTextRange(text, 0, length);
+        ProcessingMetricsListener metricsListener = ProcessingMetrics.getListener();
+        long startTime = ProcessingMetrics.startTime(metricsListener);
+        WordSpanCursor sequenceCursor = new WordSpanCursor();
+        int editedTextLength = compactNotAlphabeticExceptSpaces(text, 0, length, text, 0, sequenceCursor,
+                                                                CharacterClassifier.getAlphabet());
+        ProcessingMetrics.record(metricsListener, ProcessingEngine.CHAR_ARRAY,
+                                 ProcessingOperation.REMOVE_ALL_NOT_ALPHABETIC_EXCEPT_SPACES, length, editedTextLength,
+                                 0, 0, sequenceCursor.getSpansCount(), startTime);
+        return editedTextLength;
+    }
+
+    static int compactNotAlphabeticExceptSpaces(char[] text, int fromIndex, int toIndex, char[] editedText,
+                                                int editedTextOffset, WordSpanCursor sequenceCursor,
+                                                Alphabet alphabet) {
+        int textOffset = fromIndex;
+        sequenceCursor.reset(text, fromIndex, toIndex, alphabet);
+        while (sequenceCursor.nextNonAlphabeticSequence()) {
+            int positionBeforeSequence = sequenceCursor.getSpanStart() - 1;
+            int positionAfterSequence = sequenceCursor.getSpanEnd();
             int beforeSequenceAppendingLength = positionBeforeSequence - textOffset + 1;
-            boolean betweenTwoLetterSequences = isValidIndex(positionBeforeSequence, text.length) &&
-                                                isValidIndex(positionAfterSequence, text.length) &&
-                                                Character.isLetter(text[positionBeforeSequence]) &&
-                                                Character.isLetter(text[positionAfterSequence]);
+            boolean betweenTwoLetterSequences = isValidIndex(positionBeforeSequence, fromIndex, toIndex) &&
+                                                isValidIndex(positionAfterSequence, fromIndex, toIndex) &&
+                                                alphabet.isLetter(text[positionBeforeSequence]) &&
+                                                alphabet.isLetter(text[positionAfterSequence]);
             System.arraycopy(text, textOffset, editedText, editedTextOffset, beforeSequenceAppendingLength);
             textOffset = positionAfterSequence;
             editedTextOffset += beforeSequenceAppendingLength;
@@ -197,28 +364,14 @@ public final class TextProcessingCharArrayUtils {
                 editedText[editedTextOffset] = ' ';
                 editedTextOffset++;
             }
-            optionalNotAlphabeticSequencePositions = findFirstNonAlphabeticSequencePositions(text, textOffset);
         }
-        int tailLength = text.length - textOffset;
+        int tailLength = toIndex - textOffset;
         System.arraycopy(text, textOffset, editedText, editedTextOffset, tailLength);
-        char[] trimmedEditedText = trimEditedText(editedText);
-        return trimmedEditedText;
-    }
-
-    private static char[] trimEditedText(char[] editedText) {
-        int trimPosition = 0;
-        while (trimPosition < editedText.length) {
-            if (editedText[trimPosition] == 0) {
-                break;
-            }
-            trimPosition++;
-        }
-        char[] trimmedEditedText = Arrays.copyOf(editedText, trimPosition);
-        return trimmedEditedText;
+        return editedTextOffset + tailLength;
     }
 
-    private static boolean isValidIndex(int index, int dataLength) {
-        return index >= 0 && index < dataLength;
+    private static boolean isValidIndex(int index, int fromIndex, int toIndex) {
+        return index >= fromIndex && index < toIndex;
     }
 
     private static void checkTextOnNull(char[] text) throws TextProcessingException {
@@ -226,4 +379,11 @@ public final class TextProcessingCharArrayUtils {
             throw new TextProcessingException("Text cannot be null.");
         }
     }
+
+    private static void checkTextRange(char[] text, int fromIndex, int toIndex) throws TextProcessingException {
+        checkTextOnNull(text);
+        if (fromIndex < 0 || fromIndex > toIndex || toIndex > text.length) {
+            throw new TextProcessingException("Text range is out of bounds.");
+        }
+    }
 }
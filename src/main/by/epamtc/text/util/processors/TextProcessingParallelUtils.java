@@ -0,0 +1,174 @@
+package by.epamtc.text.util.processors;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Predicate;
+
+public final class TextProcessingParallelUtils {
+
+    public static final int DEFAULT_SEGMENT_LENGTH = 1 << 16;
+
+    private TextProcessingParallelUtils() {
+    }
+
+    public static String replaceLetterByPositionInWord(String text, int positionInWord, char replacement,
+                                                       ForkJoinPool pool) throws TextProcessingException {
+        TextOperation operation = TextOperations.replaceLetterByPositionInWord(positionInWord, replacement);
+        return apply(text, operation, pool, DEFAULT_SEGMENT_LENGTH);
+    }
+
+    public static String replaceEachLetterAfter(String text, char charBehind, char charToReplace, char replacement,
+                                                ForkJoinPool pool) throws TextProcessingException {
+        TextOperation operation = TextOperations.replaceEachLetterAfter(charBehind, charToReplace, replacement);
+        return apply(text, operation, pool, DEFAULT_SEGMENT_LENGTH);
+    }
+
+    public static String replaceEachWordByPredicate(String text, Predicate<String> predicate, String replacement,
+                                                    ForkJoinPool pool) throws TextProcessingException {
+        TextOperation operation = TextOperations.replaceEachWordByPredicate(predicate, replacement);
+        return apply(text, operation, pool, DEFAULT_SEGMENT_LENGTH);
+    }
+
+    public static String replaceEachWordByPredicate(String text, WordSlicePredicate predicate, String replacement,
+                                                    ForkJoinPool pool) throws TextProcessingException {
+        TextOperation operation = TextOperations.replaceEachWordByPredicate(predicate, replacement);
+        return apply(text, operation, pool, DEFAULT_SEGMENT_LENGTH);
+    }
+
+    public static String removeAllNotAlphabeticExceptSpaces(String text, ForkJoinPool pool)
+            throws TextProcessingException {
+        TextOperation operation = TextOperations.removeAllNotAlphabeticExceptSpaces();
+        return apply(text, operation, pool, DEFAULT_SEGMENT_LENGTH);
+    }
+
+    /**
+     * Cuts the text into segments of about {@code segmentLength} chars at positions the operation marks as safe,
+     * processes the segments on the pool and joins the results, which gives the same text as the sequential
+     * {@code operation.apply(text)}.
+     */
+    public static String apply(String text, TextOperation operation, ForkJoinPool pool, int segmentLength)
+            throws TextProcessingException {
+        if (text == null) {
+            throw new TextProcessingException("Text cannot be null.");
+        }
+        if (operation == null) {
+            throw new TextProcessingException("Operation cannot be null.");
+        }
+        if (pool == null) {
+            throw new TextProcessingException("Pool cannot be null.");
+        }
+        if (segmentLength <= 0) {
+            throw new TextProcessingException("Segment length must be positive.");
+        }
+        int[] segmentBounds = findSegmentBounds(text, 0, text.length(), operation, segmentLength);
+        int segmentsCount = segmentBounds.length - 1;
+        if (segmentsCount == 1) {
+            return operation.apply(text);
+        }
+        String[] processedSegments = new String[segmentsCount];
+        SegmentsProcessingAction action = new SegmentsProcessingAction(text, operation, segmentBounds,
+                                                                       processedSegments, 0, segmentsCount);
+        try {
+            pool.invoke(action);
+        } catch (SegmentProcessingException e) {
+            throw unwrapProcessingException(e);
+        }
+        int processedTextLength = 0;
+        for (String processedSegment : processedSegments) {
+            processedTextLength += processedSegment.length();
+        }
+        StringBuilder builder = new StringBuilder(processedTextLength);
+        for (String processedSegment : processedSegments) {
+            builder.append(processedSegment);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Returns the bounds of segments that cover the {@code [fromIndex, toIndex)} range. Every segment but the last
+     * one is cut at the first safe split position at least {@code segmentLength} chars after its start, so each
+     * char is inspected at most once even where safe positions are rare. The first bound is {@code fromIndex}, the
+     * last one is {@code toIndex}.
+     */
+    static int[] findSegmentBounds(CharSequence text, int fromIndex, int toIndex, TextOperation operation,
+                                   int segmentLength) {
+        int maxSegmentsCount = (toIndex - fromIndex) / segmentLength + 1;
+        int[] segmentBounds = new int[maxSegmentsCount + 1];
+        segmentBounds[0] = fromIndex;
+        int boundsCount = 1;
+        int previousBound = fromIndex;
+        while (toIndex - previousBound > segmentLength) {
+            int bound = previousBound + segmentLength;
+            while (bound < toIndex && !operation.isSafeSplitPosition(text, bound)) {
+                bound++;
+            }
+            if (bound == toIndex) {
+                break;
+            }
+            segmentBounds[boundsCount] = bound;
+            boundsCount++;
+            previousBound = bound;
+        }
+        segmentBounds[boundsCount] = toIndex;
+        boundsCount++;
+        return Arrays.copyOf(segmentBounds, boundsCount);
+    }
+
+    private static TextProcessingException unwrapProcessingException(SegmentProcessingException exception) {
+        Throwable cause = exception;
+        while (cause != null && !(cause instanceof TextProcessingException)) {
+            cause = cause.getCause();
+        }
+        return cause != null ? (TextProcessingException) cause : new TextProcessingException(exception);
+    }
+
+    private static class SegmentsProcessingAction extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String text;
+        private final TextOperation operation;
+        private final int[] segmentBounds;
+        private final String[] processedSegments;
+        private final int fromSegment;
+        private final int toSegment;
+
+        SegmentsProcessingAction(String text, TextOperation operation, int[] segmentBounds,
+                                 String[] processedSegments, int fromSegment, int toSegment) {
+            this.text = text;
+            this.operation = operation;
+            this.segmentBounds = segmentBounds;
+            this.processedSegments = processedSegments;
+            this.fromSegment = fromSegment;
+            this.toSegment = toSegment;
+        }
+
+        @Override
+        protected void compute() {
+            if (toSegment - fromSegment == 1) {
+                String segment = text.substring(segmentBounds[fromSegment], segmentBounds[toSegment]);
+                try {
+                    processedSegments[fromSegment] = operation.apply(segment);
+                } catch (TextProcessingException e) {
+                    throw new SegmentProcessingException(e);
+                }
+                return;
+            }
+            int middleSegment = (fromSegment + toSegment) >>> 1;
+            invokeAll(new SegmentsProcessingAction(text, operation, segmentBounds, processedSegments, fromSegment,
+                                                   middleSegment),
+                      new SegmentsProcessingAction(text, operation, segmentBounds, processedSegments, middleSegment,
+                                                   toSegment));
+        }
+    }
+
+    private static class SegmentProcessingException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        SegmentProcessingException(TextProcessingException cause) {
+            super(cause);
+        }
+    }
+}
@@ -1,47 +1,128 @@
 package by.epamtc.text.util.processors;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 public final class TextProcessingRegexUtils {
 
-    private static final Pattern NON_LETTER_SPACE_SEQUENCE_PATTERN = Pattern
-            .compile("[^a-zа-яё ]+", Pattern.CASE_INSENSITIVE);
-    private static final Pattern WORD_PATTERN = Pattern.compile("[a-zа-яё0-9]+", Pattern.CASE_INSENSITIVE);
+    private static final String DIGIT_CLASS_ITEM = "\\p{javaDigit}";
+    private static final String WHITESPACE_CLASS_ITEM = "\\p{javaWhitespace}";
+    private static final int LETTER_PAIR_PATTERNS_CACHE_LIMIT = 4096;
+    private static final Map<Integer, Pattern> LETTER_PAIR_PATTERNS = new ConcurrentHashMap<>();
+
+    private static volatile CompiledPatterns compiledPatterns = new CompiledPatterns(RegexMatcherBackend.JDK,
+                                                                                     CharacterClassifier.getAlphabet());
 
     private TextProcessingRegexUtils() {
     }
 
+    public static RegexMatcherBackend getMatcherBackend() {
+        return compiledPatterns.backend;
+    }
+
+    /**
+     * Recompiles the word and non-letter patterns with the backend. The matches do not depend on the backend, only
+     * the speed does.
+     */
+    public static synchronized void setMatcherBackend(RegexMatcherBackend backend) {
+        if (backend == null) {
+            throw new IllegalArgumentException("Backend cannot be null.");
+        }
+        if (compiledPatterns.backend != backend) {
+            compiledPatterns = new CompiledPatterns(backend, CharacterClassifier.getAlphabet());
+        }
+    }
+
+    /**
+     * Returns the patterns compiled for the current alphabet, recompiling them once after the alphabet is changed.
+     */
+    private static CompiledPatterns getCompiledPatterns() {
+        CompiledPatterns patterns = compiledPatterns;
+        if (patterns.alphabet == CharacterClassifier.getAlphabet()) {
+            return patterns;
+        }
+        synchronized (TextProcessingRegexUtils.class) {
+            Alphabet alphabet = CharacterClassifier.getAlphabet();
+            if (compiledPatterns.alphabet != alphabet) {
+                compiledPatterns = new CompiledPatterns(compiledPatterns.backend, alphabet);
+            }
+            return compiledPatterns;
+        }
+    }
+
     public static String replaceLetterByPositionInWord(String text, int positionInWord, char replacement)
             throws TextProcessingException {
         checkTextOnNull(text);
         if (positionInWord < 0) {
             throw new TextProcessingException("Replacement position cannot be negative.");
         }
+        ProcessingMetricsListener metricsListener = ProcessingMetrics.getListener();
+        long startTime = ProcessingMetrics.startTime(metricsListener);
+        int wordsCount = 0;
+        int replacementsCount = 0;
         StringBuilder builder = new StringBuilder(text);
-        Matcher wordMatcher = WORD_PATTERN.matcher(text);
+        SpanMatcher wordMatcher = getCompiledPatterns().wordPattern.matcher(text);
         while (wordMatcher.find()) {
+            wordsCount++;
             int wordLength = wordMatcher.end() - wordMatcher.start();
             if (wordLength > positionInWord) {
                 int replacementPosition = wordMatcher.start() + positionInWord;
                 builder.setCharAt(replacementPosition, replacement);
+                replacementsCount++;
             }
         }
+        ProcessingMetrics.record(metricsListener, ProcessingEngine.REGEX,
+                                 ProcessingOperation.REPLACE_LETTER_BY_POSITION_IN_WORD, text.length(),
+                                 builder.length(), wordsCount, 0, replacementsCount, startTime);
         return builder.toString();
     }
 
     public static String replaceEachLetterAfter(String text, char charBehind, char charToReplace, char replacement)
             throws TextProcessingException {
         checkTextOnNull(text);
-        String wrongSequence = String.format("%c%c", charBehind, charToReplace);
-        String rightSequence = String.format("%c%c", charBehind, replacement);
-        String result = text.replaceAll(wrongSequence, rightSequence);
-        return result;
+        ProcessingMetricsListener metricsListener = ProcessingMetrics.getListener();
+        long startTime = ProcessingMetrics.startTime(metricsListener);
+        int replacementsCount = 0;
+        Pattern letterPairPattern = findLetterPairPattern(charBehind, charToReplace);
+        String rightSequence = Matcher.quoteReplacement(new String(new char[]{charBehind, replacement}));
+        StringBuilder builder = new StringBuilder(text.length());
+        Matcher letterPairMatcher = letterPairPattern.matcher(text);
+        while (letterPairMatcher.find()) {
+            letterPairMatcher.appendReplacement(builder, rightSequence);
+            replacementsCount++;
+        }
+        letterPairMatcher.appendTail(builder);
+        ProcessingMetrics.record(metricsListener, ProcessingEngine.REGEX, ProcessingOperation.REPLACE_EACH_LETTER_AFTER,
+                                 text.length(), builder.length(), 0, 0, replacementsCount, startTime);
+        return builder.toString();
+    }
+
+    private static Pattern findLetterPairPattern(char charBehind, char charToReplace) {
+        int letterPairKey = (charBehind << Character.SIZE) | charToReplace;
+        Pattern letterPairPattern = LETTER_PAIR_PATTERNS.get(letterPairKey);
+        if (letterPairPattern == null) {
+            String wrongSequence = new String(new char[]{charBehind, charToReplace});
+            letterPairPattern = Pattern.compile(wrongSequence, Pattern.LITERAL);
+            if (LETTER_PAIR_PATTERNS.size() < LETTER_PAIR_PATTERNS_CACHE_LIMIT) {
+                LETTER_PAIR_PATTERNS.putIfAbsent(letterPairKey, letterPairPattern);
+            }
+        }
+        return letterPairPattern;
     }
 
     public static String replaceEachWordByPredicate(String text, Predicate<String> predicate, String replacement)
             throws TextProcessingException {
+        if (predicate == null) {
+            throw new TextProcessingException("Predicate cannot be null.");
+        }
+        return replaceEachWordByPredicate(text, WordPredicate.adaptStringPredicate(predicate), replacement);
+    }
+
+    public static String replaceEachWordByPredicate(String text, WordSlicePredicate predicate, String replacement)
+            throws TextProcessingException {
         checkTextOnNull(text);
         if (predicate == null) {
             throw new TextProcessingException("Predicate cannot be null.");
@@ -49,32 +130,61 @@ public final class TextProcessingRegexUtils {
         if (replacement == null) {
             throw new TextProcessingException("Replacement cannot be null.");
         }
-        StringBuilder builder = new StringBuilder();
-        Matcher wordMatcher = WORD_PATTERN.matcher(text);
+        ProcessingMetricsListener metricsListener = ProcessingMetrics.getListener();
+        long startTime = ProcessingMetrics.startTime(metricsListener);
+        int wordsCount = 0;
+        int replacementsCount = 0;
+        StringBuilder builder = new StringBuilder(text.length());
+        CompiledPatterns patterns = getCompiledPatterns();
+        WordPrefilter prefilter = new WordPrefilter(predicate, patterns.alphabet);
+        int offset = 0;
+        SpanMatcher wordMatcher = patterns.wordPattern.matcher(text);
         while (wordMatcher.find()) {
-            String word = wordMatcher.group();
-            if (predicate.test(word)) {
-                wordMatcher.appendReplacement(builder, replacement);
+            wordsCount++;
+            int wordStartPosition = wordMatcher.start();
+            int wordEndPosition = wordMatcher.end();
+            if (prefilter.accepts(wordEndPosition - wordStartPosition, text.charAt(wordStartPosition)) &&
+                predicate.test(text, wordStartPosition, wordEndPosition)) {
+                builder.append(text, offset, wordStartPosition);
+                builder.append(replacement);
+                replacementsCount++;
+                offset = wordEndPosition;
             }
         }
-        wordMatcher.appendTail(builder);
+        builder.append(text, offset, text.length());
+        ProcessingMetrics.record(metricsListener, ProcessingEngine.REGEX,
+                                 ProcessingOperation.REPLACE_EACH_WORD_BY_PREDICATE, text.length(), builder.length(),
+                                 wordsCount, replacementsCount, replacementsCount, startTime);
         return builder.toString();
     }
 
     public static String removeAllNotAlphabeticExceptSpaces(String text) throws TextProcessingException {
         checkTextOnNull(text);
-        StringBuilder builder = new StringBuilder();
-        Matcher nonLetterSpaceSequenceMatcher = NON_LETTER_SPACE_SEQUENCE_PATTERN.matcher(text);
+        ProcessingMetricsListener metricsListener = ProcessingMetrics.getListener();
+        long startTime = ProcessingMetrics.startTime(metricsListener);
+        int sequencesCount = 0;
+        StringBuilder builder = new StringBuilder(text.length());
+        int offset = 0;
+        CompiledPatterns patterns = getCompiledPatterns();
+        SpanMatcher nonLetterSpaceSequenceMatcher = patterns.nonLetterSpaceSequencePattern.matcher(text);
         while (nonLetterSpaceSequenceMatcher.find()) {
             int positionBeforeGroup = nonLetterSpaceSequenceMatcher.start() - 1;
             int positionAfterGroup = nonLetterSpaceSequenceMatcher.end();
             boolean betweenTwoLetterSequences = isValidIndex(positionBeforeGroup, text.length()) &&
                                                 isValidIndex(positionAfterGroup, text.length()) &&
-                                                Character.isLetter(text.charAt(positionBeforeGroup)) &&
-                                                Character.isLetter(text.charAt(positionAfterGroup));
-            nonLetterSpaceSequenceMatcher.appendReplacement(builder, betweenTwoLetterSequences ? " " : "");
+                                                patterns.alphabet.isLetter(text.charAt(positionBeforeGroup)) &&
+                                                patterns.alphabet.isLetter(text.charAt(positionAfterGroup));
+            builder.append(text, offset, positionBeforeGroup + 1);
+            if (betweenTwoLetterSequences) {
+                builder.append(' ');
+            }
+            offset = positionAfterGroup;
+            sequencesCount++;
         }
-        nonLetterSpaceSequenceMatcher.appendTail(builder);
+        builder.append(text, offset, text.length());
+        ProcessingMetrics.record(metricsListener, ProcessingEngine.REGEX,
+                                 ProcessingOperation.REMOVE_ALL_NOT_ALPHABETIC_EXCEPT_SPACES, text.length(),
+                                 builder.length(), 0, 0, sequencesCount, startTime);
         return builder.toString();
     }
 
@@ -87,4 +197,22 @@ public final class TextProcessingRegexUtils {
             throw new TextProcessingException("Text cannot be null.");
         }
     }
+
+    private static final class CompiledPatterns {
+
+        private final RegexMatcherBackend backend;
+        private final Alphabet alphabet;
+        private final SpanPattern wordPattern;
+        private final SpanPattern nonLetterSpaceSequencePattern;
+
+        CompiledPatterns(RegexMatcherBackend backend, Alphabet alphabet) {
+            this.backend = backend;
+            this.alphabet = alphabet;
+            String letterClassItems = alphabet.toLetterClassItems();
+            wordPattern = backend.compile("[" + letterClassItems + DIGIT_CLASS_ITEM +
+                                          CharClassRunPattern.BMP_INTERSECTION + "]+", 0);
+            nonLetterSpaceSequencePattern = backend.compile("[^" + letterClassItems + WHITESPACE_CLASS_ITEM +
+                                                            CharClassRunPattern.BMP_INTERSECTION + "]+", 0);
+        }
+    }
 }
@@ -0,0 +1,49 @@
+package by.epamtc.text.util.processors;
+
+/**
+ * Outcome of processing one document of a batch: either the processed text or the exception it failed with.
+ */
+public final class TextProcessingResult<T> {
+
+    private final int index;
+    private final T text;
+    private final TextProcessingException exception;
+
+    private TextProcessingResult(int index, T text, TextProcessingException exception) {
+        this.index = index;
+        this.text = text;
+        this.exception = exception;
+    }
+
+    static <T> TextProcessingResult<T> success(int index, T text) {
+        return new TextProcessingResult<>(index, text, null);
+    }
+
+    static <T> TextProcessingResult<T> failure(int index, TextProcessingException exception) {
+        return new TextProcessingResult<>(index, null, exception);
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public boolean isSuccessful() {
+        return exception == null;
+    }
+
+    public T getText() throws TextProcessingException {
+        if (exception != null) {
+            throw exception;
+        }
+        return text;
+    }
+
+    public TextProcessingException getException() {
+        return exception;
+    }
+
+    @Override
+    public String toString() {
+        return "TextProcessingResult{" + "index=" + index + ", text=" + text + ", exception=" + exception + '}';
+    }
+}
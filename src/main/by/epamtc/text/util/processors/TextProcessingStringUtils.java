@@ -1,6 +1,5 @@
 package by.epamtc.text.util.processors;
 
-import java.util.Optional;
 import java.util.function.Predicate;
 
 public final class TextProcessingStringUtils {
@@ -11,109 +10,112 @@ public final class TextProcessingStringUtils {
     public static String replaceLetterByPositionInWord(String text, int positionInWord, char replacement)
             throws TextProcessingException {
         checkTextOnNull(text);
-        if (positionInWord < 0) {
-            throw new TextProcessingException("Replacement position cannot be negative.");
-        }
-        StringBuilder builder = new StringBuilder(text);
-        int offset = 0;
-        var optionalWordPositions = findFirstWordPositions(text, offset);
-        while (optionalWordPositions.isPresent()) {
-            var wordPositions = optionalWordPositions.get();
-            int wordStartPosition = wordPositions.getFirst();
-            int wordEndPosition = wordPositions.getSecond();
-            int wordLength = wordEndPosition - wordStartPosition;
-            if (wordLength > positionInWord) {
-                int replacementPosition = wordStartPosition + positionInWord;
-                builder.setCharAt(replacementPosition, replacement);
-            }
-            offset = wordEndPosition;
-            optionalWordPositions = findFirstWordPositions(text, offset);
-        }
+        checkPositionInWord(positionInWord);
+        ProcessingMetricsListener metricsListener = ProcessingMetrics.getListener();
+        long startTime = ProcessingMetrics.startTime(metricsListener);
+        StringBuilder builder = new StringBuilder(text.length());
+        WordSpanCursor wordCursor = new WordSpanCursor();
+        int replacementsCount = appendLetterReplacedByPositionInWord(text, positionInWord, replacement, builder,
+                                                                     wordCursor, CharacterClassifier.getAlphabet());
+        ProcessingMetrics.record(metricsListener, ProcessingEngine.STRING,
+                                 ProcessingOperation.REPLACE_LETTER_BY_POSITION_IN_WORD, text.length(),
+                                 builder.length(), wordCursor.getSpansCount(), 0, replacementsCount, startTime);
         return builder.toString();
     }
 
-    private static Optional<Pair<Integer, Integer>> findFirstWordPositions(String text, int offset) {
-        if (offset < 0) {
-            throw new IllegalArgumentException("Offset cannot be negative.");
-        }
-        int wordStartPosition = offset;
-        while (wordStartPosition < text.length()) {
-            char textChar = text.charAt(wordStartPosition);
-            if (isAlphabeticOrDigit(textChar)) {
-                break;
-            }
-            wordStartPosition++;
-        }
-        if (wordStartPosition >= text.length()) {
-            return Optional.empty();
-        }
-        int wordEndPosition = wordStartPosition;
-        while (wordEndPosition < text.length()) {
-            char textChar = text.charAt(wordEndPosition);
-            if (!isAlphabeticOrDigit(textChar)) {
-                break;
-            }
-            wordEndPosition++;
-        }
-        Pair<Integer, Integer> wordPositions = new Pair<>(wordStartPosition, wordEndPosition);
-        return Optional.of(wordPositions);
-    }
-
-    private static boolean isAlphabeticOrDigit(char textChar) {
-        return Character.isLetter(textChar) || Character.isDigit(textChar);
-    }
-
-    private static Optional<Pair<Integer, Integer>> findFirstNonAlphabeticSequencePositions(String text, int offset) {
-        if (offset < 0) {
-            throw new IllegalArgumentException("Offset cannot be negative.");
-        }
-        int sequenceStartPosition = offset;
-        while (sequenceStartPosition < text.length()) {
-            char textChar = text.charAt(sequenceStartPosition);
-            if (!isAlphabeticOrSpace(textChar)) {
-                break;
-            }
-            sequenceStartPosition++;
-        }
-        if (sequenceStartPosition >= text.length()) {
-            return Optional.empty();
-        }
-        int sequenceEndPosition = sequenceStartPosition;
-        while (sequenceEndPosition < text.length()) {
-            char textChar = text.charAt(sequenceEndPosition);
-            if (isAlphabeticOrSpace(textChar)) {
-                break;
+    static int appendLetterReplacedByPositionInWord(CharSequence text, int positionInWord, char replacement,
+                                                    StringBuilder builder, WordSpanCursor wordCursor,
+                                                    Alphabet alphabet) {
+        int replacementsCount = 0;
+        int builderOffset = builder.length();
+        builder.append(text);
+        wordCursor.reset(text, 0, text.length(), alphabet);
+        while (wordCursor.nextWord()) {
+            int wordLength = wordCursor.getSpanLength();
+            if (wordLength > positionInWord) {
+                int replacementPosition = builderOffset + wordCursor.getSpanStart() + positionInWord;
+                builder.setCharAt(replacementPosition, replacement);
+                replacementsCount++;
             }
-            sequenceEndPosition++;
         }
-        Pair<Integer, Integer> sequencePositions = new Pair<>(sequenceStartPosition, sequenceEndPosition);
-        return Optional.of(sequencePositions);
-    }
-
-    private static boolean isAlphabeticOrSpace(char textChar) {
-        return Character.isLetter(textChar) || Character.isWhitespace(textChar);
+        return replacementsCount;
     }
 
     public static String replaceEachLetterAfter(String text, char charBehind, char charToReplace, char replacement)
             throws TextProcessingException {
         checkTextOnNull(text);
-        StringBuilder builder = new StringBuilder(text);
-        for (int i = 0; i < builder.length(); i++) {
+        ProcessingMetricsListener metricsListener = ProcessingMetrics.getListener();
+        long startTime = ProcessingMetrics.startTime(metricsListener);
+        StringBuilder builder = new StringBuilder(text.length());
+        int replacementsCount = appendEachLetterReplacedAfter(text, charBehind, charToReplace, replacement, builder);
+        ProcessingMetrics.record(metricsListener, ProcessingEngine.STRING,
+                                 ProcessingOperation.REPLACE_EACH_LETTER_AFTER, text.length(), builder.length(), 0, 0,
+                                 replacementsCount, startTime);
+        return builder.toString();
+    }
+
+    static int appendEachLetterReplacedAfter(CharSequence text, char charBehind, char charToReplace,
+                                             char replacement, StringBuilder builder) {
+        int replacementsCount = 0;
+        int builderOffset = builder.length();
+        builder.append(text);
+        for (int i = builderOffset; i < builder.length(); i++) {
             char textChar = builder.charAt(i);
             int nextTextCharPosition = i + 1;
             if (textChar == charBehind && nextTextCharPosition < builder.length()) {
                 char nextTextChar = builder.charAt(nextTextCharPosition);
                 if (nextTextChar == charToReplace) {
                     builder.setCharAt(nextTextCharPosition, replacement);
+                    replacementsCount++;
                     i++;
                 }
             }
         }
+        return replacementsCount;
+    }
+
+    public static String replaceEachLetterAfter(String text, LetterAfterRuleSet rules) throws TextProcessingException {
+        checkTextOnNull(text);
+        checkRulesOnNull(rules);
+        ProcessingMetricsListener metricsListener = ProcessingMetrics.getListener();
+        long startTime = ProcessingMetrics.startTime(metricsListener);
+        StringBuilder builder = new StringBuilder(text.length());
+        int replacementsCount = appendEachLetterReplacedAfter(text, rules, builder);
+        ProcessingMetrics.record(metricsListener, ProcessingEngine.STRING,
+                                 ProcessingOperation.REPLACE_EACH_LETTER_AFTER, text.length(), builder.length(), 0, 0,
+                                 replacementsCount, startTime);
         return builder.toString();
     }
 
+    static int appendEachLetterReplacedAfter(CharSequence text, LetterAfterRuleSet rules, StringBuilder builder) {
+        int replacementsCount = 0;
+        int builderOffset = builder.length();
+        builder.append(text);
+        for (int i = builderOffset; i < builder.length() - 1; i++) {
+            char textChar = builder.charAt(i);
+            if (rules.isCharBehind(textChar)) {
+                int nextTextCharPosition = i + 1;
+                int replacement = rules.findReplacement(textChar, builder.charAt(nextTextCharPosition));
+                if (replacement >= 0) {
+                    builder.setCharAt(nextTextCharPosition, (char) replacement);
+                    replacementsCount++;
+                    i++;
+                }
+            }
+        }
+        return replacementsCount;
+    }
+
     public static String replaceEachWordByPredicate(String text, Predicate<String> predicate, String replacement)
             throws TextProcessingException {
+        if (predicate == null) {
+            throw new TextProcessingException("Predicate cannot be null.");
+        }
+        return replaceEachWordByPredicate(text, WordPredicate.adaptStringPredicate(predicate), replacement);
+    }
+
+    public static String replaceEachWordByPredicate(String text, WordSlicePredicate predicate, String replacement)
+            throws TextProcessingException {
         checkTextOnNull(text);
         if (predicate == null) {
             throw new TextProcessingException("Predicate cannot be null.");
@@ -121,49 +123,131 @@ public final class TextProcessingStringUtils {
         if (replacement == null) {
             throw new TextProcessingException("Replacement cannot be null.");
         }
-        StringBuilder builder = new StringBuilder();
+        ProcessingMetricsListener metricsListener = ProcessingMetrics.getListener();
+        long startTime = ProcessingMetrics.startTime(metricsListener);
+        StringBuilder builder = new StringBuilder(text.length());
+        WordSpanCursor wordCursor = new WordSpanCursor();
+        int replacementsCount = appendEachWordReplacedByPredicate(text, predicate, replacement, builder, wordCursor,
+                                                                  CharacterClassifier.getAlphabet());
+        ProcessingMetrics.record(metricsListener, ProcessingEngine.STRING,
+                                 ProcessingOperation.REPLACE_EACH_WORD_BY_PREDICATE, text.length(), builder.length(),
+                                 wordCursor.getSpansCount(), replacementsCount, replacementsCount, startTime);
+        return builder.toString();
+    }
+
+    /**
+     * Same as {@link #replaceEachWordByPredicate(String, WordSlicePredicate, String)}, but the result references
+     * the text and the replacement instead of copying them.
+     */
+    public static PieceTable replaceEachWordByPredicateAsPieces(String text, WordSlicePredicate predicate,
+                                                                String replacement) throws TextProcessingException {
+        checkTextOnNull(text);
+        if (predicate == null) {
+            throw new TextProcessingException("Predicate cannot be null.");
+        }
+        if (replacement == null) {
+            throw new TextProcessingException("Replacement cannot be null.");
+        }
+        ProcessingMetricsListener metricsListener = ProcessingMetrics.getListener();
+        long startTime = ProcessingMetrics.startTime(metricsListener);
+        PieceTable pieces = new PieceTable();
+        WordSpanCursor wordCursor = new WordSpanCursor();
+        int replacementsCount = appendEachWordReplacedByPredicate(text, predicate, replacement, pieces, wordCursor,
+                                                                  CharacterClassifier.getAlphabet());
+        ProcessingMetrics.record(metricsListener, ProcessingEngine.STRING,
+                                 ProcessingOperation.REPLACE_EACH_WORD_BY_PREDICATE, text.length(), pieces.length(),
+                                 wordCursor.getSpansCount(), replacementsCount, replacementsCount, startTime);
+        return pieces;
+    }
+
+    static int appendEachWordReplacedByPredicate(CharSequence text, WordSlicePredicate predicate,
+                                                 CharSequence replacement, PieceTable pieces,
+                                                 WordSpanCursor wordCursor, Alphabet alphabet)
+            throws TextProcessingException {
+        int replacementsCount = 0;
+        int textSource = pieces.addSource(text);
+        int replacementSource = pieces.addSource(replacement);
+        WordPrefilter prefilter = new WordPrefilter(predicate, alphabet);
+        int offset = 0;
+        wordCursor.reset(text, 0, text.length(), alphabet);
+        while (wordCursor.nextWord(prefilter)) {
+            int wordStartPosition = wordCursor.getSpanStart();
+            int wordEndPosition = wordCursor.getSpanEnd();
+            if (predicate.test(text, wordStartPosition, wordEndPosition)) {
+                pieces.appendPiece(textSource, offset, wordStartPosition);
+                pieces.appendPiece(replacementSource, 0, replacement.length());
+                replacementsCount++;
+                offset = wordEndPosition;
+            }
+        }
+        pieces.appendPiece(textSource, offset, text.length());
+        return replacementsCount;
+    }
+
+    static int appendEachWordReplacedByPredicate(CharSequence text, WordSlicePredicate predicate,
+                                                 CharSequence replacement, StringBuilder builder,
+                                                 WordSpanCursor wordCursor, Alphabet alphabet) {
+        int replacementsCount = 0;
+        WordPrefilter prefilter = new WordPrefilter(predicate, alphabet);
         int offset = 0;
-        var optionalWordPositions = findFirstWordPositions(text, offset);
-        while (optionalWordPositions.isPresent()) {
-            var wordPositions = optionalWordPositions.get();
-            int wordStartPosition = wordPositions.getFirst();
-            int wordEndPosition = wordPositions.getSecond();
-            String word = text.substring(wordStartPosition, wordEndPosition);
-            if (predicate.test(word)) {
+        wordCursor.reset(text, 0, text.length(), alphabet);
+        while (wordCursor.nextWord(prefilter)) {
+            int wordStartPosition = wordCursor.getSpanStart();
+            int wordEndPosition = wordCursor.getSpanEnd();
+            if (predicate.test(text, wordStartPosition, wordEndPosition)) {
                 builder.append(text, offset, wordStartPosition);
                 builder.append(replacement);
-            } else {
-                builder.append(text, offset, wordEndPosition);
+                replacementsCount++;
+                offset = wordEndPosition;
             }
-            offset = wordEndPosition;
-            optionalWordPositions = findFirstWordPositions(text, offset);
         }
         builder.append(text, offset, text.length());
-        return builder.toString();
+        return replacementsCount;
     }
 
     public static String removeAllNotAlphabeticExceptSpaces(String text) throws TextProcessingException {
         checkTextOnNull(text);
-        StringBuilder builder = new StringBuilder();
+        ProcessingMetricsListener metricsListener = ProcessingMetrics.getListener();
+        long startTime = ProcessingMetrics.startTime(metricsListener);
+        StringBuilder builder = new StringBuilder(text.length());
+        WordSpanCursor sequenceCursor = new WordSpanCursor();
+        appendNotAlphabeticExceptSpacesRemoved(text, builder, sequenceCursor, CharacterClassifier.getAlphabet());
+        ProcessingMetrics.record(metricsListener, ProcessingEngine.STRING,
+                                 ProcessingOperation.REMOVE_ALL_NOT_ALPHABETIC_EXCEPT_SPACES, text.length(),
+                                 builder.length(), 0, 0, sequenceCursor.getSpansCount(), startTime);
+        return builder.toString();
+    }
+
+    static void appendNotAlphabeticExceptSpacesRemoved(CharSequence text, StringBuilder builder,
+                                                       WordSpanCursor sequenceCursor, Alphabet alphabet) {
         int offset = 0;
-        var optionalNotAlphabeticSequencePositions = findFirstNonAlphabeticSequencePositions(text, offset);
-        while (optionalNotAlphabeticSequencePositions.isPresent()) {
-            var notAlphabeticSequencePositions = optionalNotAlphabeticSequencePositions.get();
-            int positionBeforeSequence = notAlphabeticSequencePositions.getFirst() - 1;
-            int positionAfterSequence = notAlphabeticSequencePositions.getSecond();
+        sequenceCursor.reset(text, 0, text.length(), alphabet);
+        while (sequenceCursor.nextNonAlphabeticSequence()) {
+            int positionBeforeSequence = sequenceCursor.getSpanStart() - 1;
+            int positionAfterSequence = sequenceCursor.getSpanEnd();
             boolean betweenTwoLetterSequences = isValidIndex(positionBeforeSequence, text.length()) &&
                                                 isValidIndex(positionAfterSequence, text.length()) &&
-                                                Character.isLetter(text.charAt(positionBeforeSequence)) &&
-                                                Character.isLetter(text.charAt(positionAfterSequence));
+                                                alphabet.isLetter(text.charAt(positionBeforeSequence)) &&
+                                                alphabet.isLetter(text.charAt(positionAfterSequence));
             builder.append(text, offset, positionBeforeSequence + 1);
             if (betweenTwoLetterSequences) {
                 builder.append(' ');
             }
             offset = positionAfterSequence;
-            optionalNotAlphabeticSequencePositions = findFirstNonAlphabeticSequencePositions(text, offset);
         }
         builder.append(text, offset, text.length());
-        return builder.toString();
+    }
+
+    static void checkPositionInWord(int positionInWord) throws TextProcessingException {
+        if (positionInWord < 0) {
+            throw new TextProcessingException("Replacement position cannot be negative.");
+        }
+    }
+
+    static void checkRulesOnNull(LetterAfterRuleSet rules) throws TextProcessingException {
+        if (rules == null) {
+            throw new TextProcessingException("Rules cannot be null.");
+        }
     }
 
     private static boolean isValidIndex(int index, int dataLength) {
@@ -0,0 +1,324 @@
+package by.epamtc.text.util.processors;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Processors working directly on UTF-8 encoded text, without decoding it to chars first. Positions and lengths
+ * given by the caller are still counted in chars, as in the other engines, so a four-byte sequence counts as the two
+ * chars of its surrogate pair. A {@link ByteBuffer} is processed from its position to its limit, in place if it is
+ * backed by an accessible array.
+ */
+public final class TextProcessingUtf8Utils {
+
+    private TextProcessingUtf8Utils() {
+    }
+
+    public static byte[] replaceLetterByPositionInWord(byte[] text, int positionInWord, char replacement)
+            throws TextProcessingException {
+        checkTextOnNull(text);
+        TextProcessingStringUtils.checkPositionInWord(positionInWord);
+        return replaceLetterByPositionInWord(text, 0, text.length, positionInWord, replacement);
+    }
+
+    public static ByteBuffer replaceLetterByPositionInWord(ByteBuffer text, int positionInWord, char replacement)
+            throws TextProcessingException {
+        checkTextOnNull(text);
+        TextProcessingStringUtils.checkPositionInWord(positionInWord);
+        return processBuffer(text, (bytes, start, end) -> {
+            return replaceLetterByPositionInWord(bytes, start, end, positionInWord, replacement);
+        });
+    }
+
+    private static byte[] replaceLetterByPositionInWord(byte[] text, int start, int end, int positionInWord,
+                                                        char replacement) {
+        ProcessingMetricsListener metricsListener = ProcessingMetrics.getListener();
+        long startTime = ProcessingMetrics.startTime(metricsListener);
+        Alphabet alphabet = CharacterClassifier.getAlphabet();
+        Utf8Builder builder = new Utf8Builder(end - start);
+        int wordsCount = 0;
+        int replacementsCount = 0;
+        int copyOffset = start;
+        int wordCharsCount = 0;
+        int position = start;
+        while (position < end) {
+            int sequenceLength = Utf8Chars.sequenceLength(text, position, end);
+            char textChar = Utf8Chars.decode(text, position, sequenceLength);
+            if (!alphabet.isAlphabeticOrDigit(textChar)) {
+                wordCharsCount = 0;
+            } else {
+                if (wordCharsCount == 0) {
+                    wordsCount++;
+                }
+                if (wordCharsCount++ == positionInWord) {
+                    builder.append(text, copyOffset, position);
+                    builder.append(replacement);
+                    replacementsCount++;
+                    copyOffset = position + sequenceLength;
+                }
+            }
+            position += sequenceLength;
+        }
+        builder.append(text, copyOffset, end);
+        byte[] editedText = builder.toByteArray();
+        ProcessingMetrics.record(metricsListener, ProcessingEngine.UTF_8,
+                                 ProcessingOperation.REPLACE_LETTER_BY_POSITION_IN_WORD, end - start,
+                                 editedText.length, wordsCount, 0, replacementsCount, startTime);
+        return editedText;
+    }
+
+    public static byte[] replaceEachLetterAfter(byte[] text, char charBehind, char charToReplace, char replacement)
+            throws TextProcessingException {
+        checkTextOnNull(text);
+        return replaceEachLetterAfter(text, 0, text.length, charBehind, charToReplace, replacement);
+    }
+
+    public static ByteBuffer replaceEachLetterAfter(ByteBuffer text, char charBehind, char charToReplace,
+                                                    char replacement) throws TextProcessingException {
+        checkTextOnNull(text);
+        return processBuffer(text, (bytes, start, end) -> {
+            return replaceEachLetterAfter(bytes, start, end, charBehind, charToReplace, replacement);
+        });
+    }
+
+    /**
+     * Compares the chars as the other engines do, so the two chars of a four-byte sequence are compared with their
+     * neighbours and with each other one by one. A surrogate left without its pair by a replacement is written as
+     * {@code '?'}, as {@link String#getBytes} does.
+     */
+    private static byte[] replaceEachLetterAfter(byte[] text, int start, int end, char charBehind, char charToReplace,
+                                                 char replacement) {
+        ProcessingMetricsListener metricsListener = ProcessingMetrics.getListener();
+        long startTime = ProcessingMetrics.startTime(metricsListener);
+        Utf8Builder builder = new Utf8Builder(end - start);
+        int replacementsCount = 0;
+        int copyOffset = start;
+        boolean afterCharBehind = false;
+        int position = start;
+        while (position < end) {
+            int sequenceLength = Utf8Chars.sequenceLength(text, position, end);
+            char textChar = Utf8Chars.decode(text, position, sequenceLength);
+            boolean replaced = afterCharBehind && textChar == charToReplace;
+            afterCharBehind = !replaced && textChar == charBehind;
+            if (sequenceLength == Utf8Chars.SURROGATE_PAIR_SEQUENCE_LENGTH) {
+                char lowSurrogate = Utf8Chars.decodeLowSurrogate(text, position);
+                boolean lowSurrogateReplaced = afterCharBehind && lowSurrogate == charToReplace;
+                afterCharBehind = !lowSurrogateReplaced && lowSurrogate == charBehind;
+                if (replaced || lowSurrogateReplaced) {
+                    builder.append(text, copyOffset, position);
+                    builder.append(replaced ? replacement : textChar);
+                    builder.append(lowSurrogateReplaced ? replacement : lowSurrogate);
+                    replacementsCount++;
+                    copyOffset = position + sequenceLength;
+                }
+            } else if (replaced) {
+                builder.append(text, copyOffset, position);
+                builder.append(replacement);
+                replacementsCount++;
+                copyOffset = position + sequenceLength;
+            }
+            position += sequenceLength;
+        }
+        builder.append(text, copyOffset, end);
+        byte[] editedText = builder.toByteArray();
+        ProcessingMetrics.record(metricsListener, ProcessingEngine.UTF_8, ProcessingOperation.REPLACE_EACH_LETTER_AFTER,
+                                 end - start, editedText.length, 0, 0, replacementsCount, startTime);
+        return editedText;
+    }
+
+    public static byte[] replaceEachWordByPredicate(byte[] text, WordSlicePredicate predicate, byte[] replacement)
+            throws TextProcessingException {
+        checkTextOnNull(text);
+        checkPredicateAndReplacement(predicate, replacement);
+        return replaceEachWordByPredicate(text, 0, text.length, predicate, replacement);
+    }
+
+    public static ByteBuffer replaceEachWordByPredicate(ByteBuffer text, WordSlicePredicate predicate,
+                                                        byte[] replacement) throws TextProcessingException {
+        checkTextOnNull(text);
+        checkPredicateAndReplacement(predicate, replacement);
+        return processBuffer(text, (bytes, start, end) -> {
+            return replaceEachWordByPredicate(bytes, start, end, predicate, replacement);
+        });
+    }
+
+    private static byte[] replaceEachWordByPredicate(byte[] text, int start, int end, WordSlicePredicate predicate,
+                                                     byte[] replacement) {
+        ProcessingMetricsListener metricsListener = ProcessingMetrics.getListener();
+        long startTime = ProcessingMetrics.startTime(metricsListener);
+        Alphabet alphabet = CharacterClassifier.getAlphabet();
+        Utf8Builder builder = new Utf8Builder(end - start);
+        WordPrefilter prefilter = new WordPrefilter(predicate, alphabet);
+        int wordsCount = 0;
+        int replacementsCount = 0;
+        int copyOffset = start;
+        int wordStartPosition = -1;
+        char wordFirstChar = 0;
+        int wordLength = 0;
+        int position = start;
+        while (position <= end) {
+            int sequenceLength = 0;
+            char textChar = 0;
+            boolean wordChar = false;
+            if (position < end) {
+                sequenceLength = Utf8Chars.sequenceLength(text, position, end);
+                textChar = Utf8Chars.decode(text, position, sequenceLength);
+                wordChar = alphabet.isAlphabeticOrDigit(textChar);
+            }
+            if (wordChar) {
+                if (wordStartPosition < 0) {
+                    wordStartPosition = position;
+                    wordFirstChar = textChar;
+                    wordLength = 0;
+                }
+                wordLength++;
+            } else if (wordStartPosition >= 0) {
+                wordsCount++;
+                if (prefilter.accepts(wordLength, wordFirstChar) &&
+                    predicate.test(text, wordStartPosition, position)) {
+                    builder.append(text, copyOffset, wordStartPosition);
+                    builder.append(replacement, 0, replacement.length);
+                    replacementsCount++;
+                    copyOffset = position;
+                }
+                wordStartPosition = -1;
+            }
+            if (position == end) {
+                break;
+            }
+            position += sequenceLength;
+        }
+        builder.append(text, copyOffset, end);
+        byte[] editedText = builder.toByteArray();
+        ProcessingMetrics.record(metricsListener, ProcessingEngine.UTF_8,
+                                 ProcessingOperation.REPLACE_EACH_WORD_BY_PREDICATE, end - start, editedText.length,
+                                 wordsCount, replacementsCount, replacementsCount, startTime);
+        return editedText;
+    }
+
+    public static byte[] removeAllNotAlphabeticExceptSpaces(byte[] text) throws TextProcessingException {
+        checkTextOnNull(text);
+        return removeAllNotAlphabeticExceptSpaces(text, 0, text.length);
+    }
+
+    public static ByteBuffer removeAllNotAlphabeticExceptSpaces(ByteBuffer text) throws TextProcessingException {
+        checkTextOnNull(text);
+        return processBuffer(text, TextProcessingUtf8Utils::removeAllNotAlphabeticExceptSpaces);
+    }
+
+    private static byte[] removeAllNotAlphabeticExceptSpaces(byte[] text, int start, int end) {
+        ProcessingMetricsListener metricsListener = ProcessingMetrics.getListener();
+        long startTime = ProcessingMetrics.startTime(metricsListener);
+        Alphabet alphabet = CharacterClassifier.getAlphabet();
+        Utf8Builder builder = new Utf8Builder(end - start);
+        int sequencesCount = 0;
+        int copyOffset = start;
+        boolean letterBeforeSequence = false;
+        int position = start;
+        while (position < end) {
+            int sequenceLength = Utf8Chars.sequenceLength(text, position, end);
+            char textChar = Utf8Chars.decode(text, position, sequenceLength);
+            if (alphabet.isAlphabeticOrSpace(textChar)) {
+                letterBeforeSequence = alphabet.isLetter(textChar);
+                position += sequenceLength;
+                continue;
+            }
+            builder.append(text, copyOffset, position);
+            sequencesCount++;
+            position += sequenceLength;
+            char charAfterSequence = 0;
+            while (position < end) {
+                sequenceLength = Utf8Chars.sequenceLength(text, position, end);
+                charAfterSequence = Utf8Chars.decode(text, position, sequenceLength);
+                if (alphabet.isAlphabeticOrSpace(charAfterSequence)) {
+                    break;
+                }
+                position += sequenceLength;
+            }
+            if (letterBeforeSequence && position < end && alphabet.isLetter(charAfterSequence)) {
+                builder.append(' ');
+            }
+            copyOffset = position;
+        }
+        builder.append(text, copyOffset, end);
+        byte[] editedText = builder.toByteArray();
+        ProcessingMetrics.record(metricsListener, ProcessingEngine.UTF_8,
+                                 ProcessingOperation.REMOVE_ALL_NOT_ALPHABETIC_EXCEPT_SPACES, end - start,
+                                 editedText.length, 0, 0, sequencesCount, startTime);
+        return editedText;
+    }
+
+    /**
+     * Processes the remaining bytes of the buffer without changing its position, copying them out first only if the
+     * buffer has no accessible array.
+     */
+    private static ByteBuffer processBuffer(ByteBuffer text, Utf8Processor processor) {
+        if (text.hasArray()) {
+            int offset = text.arrayOffset();
+            return ByteBuffer.wrap(processor.process(text.array(), offset + text.position(), offset + text.limit()));
+        }
+        byte[] bytes = new byte[text.remaining()];
+        text.duplicate().get(bytes);
+        return ByteBuffer.wrap(processor.process(bytes, 0, bytes.length));
+    }
+
+    private static void checkTextOnNull(byte[] text) throws TextProcessingException {
+        if (text == null) {
+            throw new TextProcessingException("Text cannot be null.");
+        }
+    }
+
+    private static void checkTextOnNull(ByteBuffer text) throws TextProcessingException {
+        if (text == null) {
+            throw new TextProcessingException("Text cannot be null.");
+        }
+    }
+
+    private static void checkPredicateAndReplacement(WordSlicePredicate predicate, byte[] replacement)
+            throws TextProcessingException {
+        if (predicate == null) {
+            throw new TextProcessingException("Predicate cannot be null.");
+        }
+        if (replacement == null) {
+            throw new TextProcessingException("Replacement cannot be null.");
+        }
+    }
+
+    @FunctionalInterface
+    private interface Utf8Processor {
+
+        byte[] process(byte[] text, int start, int end);
+    }
+
+    private static class Utf8Builder {
+
+        private byte[] bytes;
+        private int length;
+
+        Utf8Builder(int capacity) {
+            bytes = new byte[capacity];
+        }
+
+        void append(byte[] source, int fromIndex, int toIndex) {
+            int appendedLength = toIndex - fromIndex;
+            ensureCapacity(length + appendedLength);
+            System.arraycopy(source, fromIndex, bytes, length, appendedLength);
+            length += appendedLength;
+        }
+
+        void append(char character) {
+            ensureCapacity(length + Utf8Chars.encodedLength(character));
+            length += Utf8Chars.encode(character, bytes, length);
+        }
+
+        byte[] toByteArray() {
+            return bytes.length == length ? bytes : Arrays.copyOf(bytes, length);
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(capacity, bytes.length * 2));
+            }
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package by.epamtc.text.util.processors;
+
+public final class TextProcessingViewUtils {
+
+    private TextProcessingViewUtils() {
+    }
+
+    public static EditedTextView replaceLetterByPositionInWord(CharSequence text, int positionInWord,
+                                                               char replacement) throws TextProcessingException {
+        return replaceLetterByPositionInWord(text, positionInWord, replacement, CharacterClassifier.getAlphabet());
+    }
+
+    /**
+     * Same as {@link #replaceLetterByPositionInWord(CharSequence, int, char)}, but the view splits the text into the
+     * words of the given alphabet instead of the default one.
+     */
+    public static EditedTextView replaceLetterByPositionInWord(CharSequence text, int positionInWord,
+                                                               char replacement, Alphabet alphabet)
+            throws TextProcessingException {
+        checkTextOnNull(text);
+        TextProcessingStringUtils.checkPositionInWord(positionInWord);
+        if (alphabet == null) {
+            throw new IllegalArgumentException("Alphabet cannot be null.");
+        }
+        return new LetterByPositionReplacedView(text, 0, text.length(), positionInWord, replacement, alphabet);
+    }
+
+    public static EditedTextView replaceEachLetterAfter(CharSequence text, char charBehind, char charToReplace,
+                                                        char replacement) throws TextProcessingException {
+        checkTextOnNull(text);
+        return new LetterAfterReplacedView(text, 0, text.length(), charBehind, charToReplace, replacement);
+    }
+
+    private static void checkTextOnNull(CharSequence text) throws TextProcessingException {
+        if (text == null) {
+            throw new TextProcessingException("Text cannot be null.");
+        }
+    }
+
+    private static final class LetterByPositionReplacedView extends EditedTextView {
+
+        private final int positionInWord;
+        private final char replacement;
+        private final Alphabet alphabet;
+
+        LetterByPositionReplacedView(CharSequence source, int start, int end, int positionInWord, char replacement,
+                                     Alphabet alphabet) {
+            super(source, start, end);
+            this.positionInWord = positionInWord;
+            this.replacement = replacement;
+            this.alphabet = alphabet;
+        }
+
+        @Override
+        char editedCharAt(int sourceIndex) {
+            char sourceChar = source.charAt(sourceIndex);
+            int wordStartPosition = sourceIndex - positionInWord;
+            if (wordStartPosition < 0 || !alphabet.isAlphabeticOrDigit(sourceChar)) {
+                return sourceChar;
+            }
+            for (int i = wordStartPosition; i < sourceIndex; i++) {
+                if (!alphabet.isAlphabeticOrDigit(source.charAt(i))) {
+                    return sourceChar;
+                }
+            }
+            boolean wordStartsBefore = wordStartPosition > 0 &&
+                                       alphabet.isAlphabeticOrDigit(source.charAt(wordStartPosition - 1));
+            return wordStartsBefore ? sourceChar : replacement;
+        }
+
+        /**
+         * Walks back only once, to the start of the word the first char belongs to; after that the word start is
+         * carried forward, so a char is replaced exactly when it lies at the given position from it.
+         */
+        @Override
+        EditedCharsCursor cursorAt(int sourceIndex) {
+            return new EditedCharsCursor() {
+                private int position = sourceIndex;
+                private int wordStartPosition = findWordStart(sourceIndex);
+
+                @Override
+                public char nextEditedChar() {
+                    char sourceChar = source.charAt(position);
+                    boolean replaced = false;
+                    if (alphabet.isAlphabeticOrDigit(sourceChar)) {
+                        replaced = position - wordStartPosition == positionInWord;
+                    } else {
+                        wordStartPosition = position + 1;
+                    }
+                    position++;
+                    return replaced ? replacement : sourceChar;
+                }
+            };
+        }
+
+        private int findWordStart(int sourceIndex) {
+            int position = sourceIndex;
+            while (position > 0 && alphabet.isAlphabeticOrDigit(source.charAt(position - 1))) {
+                position--;
+            }
+            return position;
+        }
+
+        @Override
+        EditedTextView withRange(int start, int end) {
+            return new LetterByPositionReplacedView(source, start, end, positionInWord, replacement, alphabet);
+        }
+    }
+
+    private static final class LetterAfterReplacedView extends EditedTextView {
+
+        private final char charBehind;
+        private final char charToReplace;
+        private final char replacement;
+
+        LetterAfterReplacedView(CharSequence source, int start, int end, char charBehind, char charToReplace,
+                                char replacement) {
+            super(source, start, end);
+            this.charBehind = charBehind;
+            this.charToReplace = charToReplace;
+            this.replacement = replacement;
+        }
+
+        /**
+         * A char is replaced if it follows the char behind that was not replaced itself. The latter is only possible
+         * when both chars are the same, then every other char of a run of them is replaced, so the length of the
+         * chain of matching pairs ending at the index decides.
+         */
+        @Override
+        char editedCharAt(int sourceIndex) {
+            return isReplaced(sourceIndex) ? replacement : source.charAt(sourceIndex);
+        }
+
+        /**
+         * Walks the chain back only once, for the char before the first one; after that a char is replaced exactly
+         * when it ends a matching pair and the char before it was not replaced.
+         */
+        @Override
+        EditedCharsCursor cursorAt(int sourceIndex) {
+            return new EditedCharsCursor() {
+                private int position = sourceIndex;
+                private boolean previousReplaced = sourceIndex > 0 && isReplaced(sourceIndex - 1);
+
+                @Override
+                public char nextEditedChar() {
+                    char sourceChar = source.charAt(position);
+                    previousReplaced = !previousReplaced && position > 0 && sourceChar == charToReplace &&
+                                       source.charAt(position - 1) == charBehind;
+                    position++;
+                    return previousReplaced ? replacement : sourceChar;
+                }
+            };
+        }
+
+        private boolean isReplaced(int sourceIndex) {
+            int chainLength = 0;
+            int position = sourceIndex;
+            while (position > 0 && source.charAt(position) == charToReplace &&
+                   source.charAt(position - 1) == charBehind) {
+                chainLength++;
+                position--;
+            }
+            return chainLength % 2 == 1;
+        }
+
+        @Override
+        EditedTextView withRange(int start, int end) {
+            return new LetterAfterReplacedView(source, start, end, charBehind, charToReplace, replacement);
+        }
+    }
+}
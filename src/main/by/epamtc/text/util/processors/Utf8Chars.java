@@ -0,0 +1,115 @@
+package by.epamtc.text.util.processors;
+
+/**
+ * Decoding and encoding of single UTF-8 encoded chars. Malformed or truncated sequences are read as one-byte
+ * {@link #REPLACEMENT_CHAR}. A four-byte sequence stands for a surrogate pair: {@link #decode} reads its high
+ * surrogate and {@link #decodeLowSurrogate} its low one, and it counts as two chars. Neither a surrogate nor
+ * {@link #REPLACEMENT_CHAR} is ever taken for a letter, a digit or a space.
+ */
+final class Utf8Chars {
+
+    static final char REPLACEMENT_CHAR = '\uFFFD';
+    static final int SURROGATE_PAIR_SEQUENCE_LENGTH = 4;
+
+    private static final char SURROGATE_REPLACEMENT_CHAR = '?';
+
+    private static final int CONTINUATION_BITS = 6;
+    private static final int CONTINUATION_MASK = 0x3F;
+
+    private Utf8Chars() {
+    }
+
+    static int sequenceLength(byte[] text, int position, int toIndex) {
+        byte leadByte = text[position];
+        int sequenceLength;
+        if (leadByte >= 0) {
+            return 1;
+        } else if ((leadByte & 0xE0) == 0xC0) {
+            sequenceLength = 2;
+        } else if ((leadByte & 0xF0) == 0xE0) {
+            sequenceLength = 3;
+        } else if ((leadByte & 0xF8) == 0xF0) {
+            sequenceLength = SURROGATE_PAIR_SEQUENCE_LENGTH;
+        } else {
+            return 1;
+        }
+        if (position + sequenceLength > toIndex) {
+            return 1;
+        }
+        for (int i = 1; i < sequenceLength; i++) {
+            if ((text[position + i] & 0xC0) != 0x80) {
+                return 1;
+            }
+        }
+        if (sequenceLength == SURROGATE_PAIR_SEQUENCE_LENGTH &&
+            !Character.isSupplementaryCodePoint(decodeCodePoint(text, position))) {
+            return 1;
+        }
+        return sequenceLength;
+    }
+
+    static char decode(byte[] text, int position, int sequenceLength) {
+        byte leadByte = text[position];
+        switch (sequenceLength) {
+            case 1:
+                return leadByte >= 0 ? (char) leadByte : REPLACEMENT_CHAR;
+            case 2:
+                return (char) (((leadByte & 0x1F) << CONTINUATION_BITS) | (text[position + 1] & CONTINUATION_MASK));
+            case 3:
+                return (char) (((leadByte & 0x0F) << (CONTINUATION_BITS * 2)) |
+                               ((text[position + 1] & CONTINUATION_MASK) << CONTINUATION_BITS) |
+                               (text[position + 2] & CONTINUATION_MASK));
+            default:
+                return Character.highSurrogate(decodeCodePoint(text, position));
+        }
+    }
+
+    static char decodeLowSurrogate(byte[] text, int position) {
+        return Character.lowSurrogate(decodeCodePoint(text, position));
+    }
+
+    private static int decodeCodePoint(byte[] text, int position) {
+        return ((text[position] & 0x07) << (CONTINUATION_BITS * 3)) |
+               ((text[position + 1] & CONTINUATION_MASK) << (CONTINUATION_BITS * 2)) |
+               ((text[position + 2] & CONTINUATION_MASK) << CONTINUATION_BITS) |
+               (text[position + 3] & CONTINUATION_MASK);
+    }
+
+    static int countChars(byte[] text, int start, int end) {
+        int charsCount = 0;
+        int position = start;
+        while (position < end) {
+            int sequenceLength = sequenceLength(text, position, end);
+            position += sequenceLength;
+            charsCount += sequenceLength == SURROGATE_PAIR_SEQUENCE_LENGTH ? 2 : 1;
+        }
+        return charsCount;
+    }
+
+    static int encodedLength(char character) {
+        if (character < 0x80 || Character.isSurrogate(character)) {
+            return 1;
+        }
+        return character < 0x800 ? 2 : 3;
+    }
+
+    static int encode(char character, byte[] target, int offset) {
+        if (Character.isSurrogate(character)) {
+            target[offset] = (byte) SURROGATE_REPLACEMENT_CHAR;
+            return 1;
+        }
+        if (character < 0x80) {
+            target[offset] = (byte) character;
+            return 1;
+        }
+        if (character < 0x800) {
+            target[offset] = (byte) (0xC0 | (character >> CONTINUATION_BITS));
+            target[offset + 1] = (byte) (0x80 | (character & CONTINUATION_MASK));
+            return 2;
+        }
+        target[offset] = (byte) (0xE0 | (character >> (CONTINUATION_BITS * 2)));
+        target[offset + 1] = (byte) (0x80 | ((character >> CONTINUATION_BITS) & CONTINUATION_MASK));
+        target[offset + 2] = (byte) (0x80 | (character & CONTINUATION_MASK));
+        return 3;
+    }
+}
@@ -0,0 +1,485 @@
+package by.epamtc.text.util.processors;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable condition on a word built from length, first letter, contained char and script atoms joined with
+ * {@code and}, {@code or} and {@code not}. Unlike a chain of {@link WordSlicePredicate#and} calls, a condition is
+ * {@link #compile() compiled} into a disjunction of flat terms: all the atoms of a term are merged into one length
+ * range, one first letter mask and one set of allowed chars, so a word is tested with a few comparisons and at most
+ * one pass over its chars. Compiled predicates are cached per condition.
+ */
+public abstract class WordCondition {
+
+    private static final int COMPILED_CONDITIONS_CACHE_LIMIT = 4096;
+    private static final int TERMS_LIMIT = 256;
+    private static final Map<WordCondition, WordSlicePredicate> COMPILED_CONDITIONS = new ConcurrentHashMap<>();
+    private static final WordSlicePredicate ANY_WORD = (text, start, end) -> true;
+    private static final WordSlicePredicate NO_WORD = (text, start, end) -> false;
+
+    public enum Script {
+
+        LATIN(Character.UnicodeScript.LATIN),
+        CYRILLIC(Character.UnicodeScript.CYRILLIC);
+
+        private final long[] letters = WordConditionTerm.createCharSet();
+
+        Script(Character.UnicodeScript unicodeScript) {
+            for (int i = 0; i <= Character.MAX_VALUE; i++) {
+                char character = (char) i;
+                if (Character.isLetter(character) && Character.UnicodeScript.of(character) == unicodeScript) {
+                    WordConditionTerm.addChar(letters, character);
+                }
+            }
+        }
+
+        long[] getLetters() {
+            return letters;
+        }
+    }
+
+    WordCondition() {
+    }
+
+    public static WordCondition lengthEquals(int length) {
+        return lengthBetween(length, length);
+    }
+
+    public static WordCondition lengthBetween(int minLength, int maxLength) {
+        if (minLength < 0 || minLength > maxLength) {
+            throw new IllegalArgumentException("Invalid length range: [" + minLength + ", " + maxLength + "].");
+        }
+        return new LengthCondition(minLength, maxLength);
+    }
+
+    public static WordCondition firstLetterIs(FirstLetterClass firstLetterClass) {
+        if (firstLetterClass == null) {
+            throw new IllegalArgumentException("First letter class cannot be null.");
+        }
+        return new FirstLetterCondition(firstLetterClass);
+    }
+
+    public static WordCondition contains(char character) {
+        return new ContainsCondition(character);
+    }
+
+    /**
+     * Condition that every char of the word is a letter of the script.
+     */
+    public static WordCondition lettersOf(Script script) {
+        if (script == null) {
+            throw new IllegalArgumentException("Script cannot be null.");
+        }
+        return new ScriptCondition(script);
+    }
+
+    public WordCondition and(WordCondition other) {
+        return new AndCondition(this, checkConditionOnNull(other));
+    }
+
+    public WordCondition or(WordCondition other) {
+        return new OrCondition(this, checkConditionOnNull(other));
+    }
+
+    public WordCondition not() {
+        return new NotCondition(this);
+    }
+
+    public WordSlicePredicate compile() {
+        WordSlicePredicate predicate = COMPILED_CONDITIONS.get(this);
+        if (predicate == null) {
+            predicate = compileTerms(toTerms(false));
+            if (COMPILED_CONDITIONS.size() < COMPILED_CONDITIONS_CACHE_LIMIT) {
+                WordSlicePredicate cachedPredicate = COMPILED_CONDITIONS.putIfAbsent(this, predicate);
+                if (cachedPredicate != null) {
+                    predicate = cachedPredicate;
+                }
+            }
+        }
+        return predicate;
+    }
+
+    /**
+     * Returns the terms of the condition, or of its negation, in disjunctive normal form. Unsatisfiable terms are
+     * dropped, so an empty list means that no word matches.
+     */
+    abstract List<WordConditionTerm> toTerms(boolean negated);
+
+    private static WordSlicePredicate compileTerms(List<WordConditionTerm> terms) {
+        if (terms.isEmpty()) {
+            return NO_WORD;
+        }
+        for (WordConditionTerm term : terms) {
+            if (term.isUnconstrained()) {
+                return ANY_WORD;
+            }
+        }
+        if (terms.size() == 1) {
+            return terms.get(0);
+        }
+        WordConditionTerm[] termsArray = terms.toArray(new WordConditionTerm[0]);
+        return new WordSlicePredicate() {
+            @Override
+            public boolean test(CharSequence text, int start, int end) {
+                for (WordConditionTerm term : termsArray) {
+                    if (term.test(text, start, end)) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+
+            @Override
+            public boolean test(char[] text, int start, int end) {
+                for (WordConditionTerm term : termsArray) {
+                    if (term.test(text, start, end)) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+
+            @Override
+            public int getMinWordLength() {
+                int minWordLength = Integer.MAX_VALUE;
+                for (WordConditionTerm term : termsArray) {
+                    minWordLength = Math.min(minWordLength, term.getMinWordLength());
+                }
+                return minWordLength;
+            }
+
+            @Override
+            public int getMaxWordLength() {
+                int maxWordLength = 0;
+                for (WordConditionTerm term : termsArray) {
+                    maxWordLength = Math.max(maxWordLength, term.getMaxWordLength());
+                }
+                return maxWordLength;
+            }
+
+            @Override
+            public boolean acceptsFirstLetter(FirstLetterClass firstLetterClass) {
+                for (WordConditionTerm term : termsArray) {
+                    if (term.acceptsFirstLetter(firstLetterClass)) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+        };
+    }
+
+    private static List<WordConditionTerm> conjunction(List<WordConditionTerm> leftTerms,
+                                                      List<WordConditionTerm> rightTerms) {
+        checkTermsCount((long) leftTerms.size() * rightTerms.size());
+        List<WordConditionTerm> terms = new ArrayList<>(leftTerms.size() * rightTerms.size());
+        for (WordConditionTerm leftTerm : leftTerms) {
+            for (WordConditionTerm rightTerm : rightTerms) {
+                WordConditionTerm term = leftTerm.and(rightTerm);
+                if (term.isSatisfiable()) {
+                    terms.add(term);
+                }
+            }
+        }
+        return terms;
+    }
+
+    private static List<WordConditionTerm> disjunction(List<WordConditionTerm> leftTerms,
+                                                      List<WordConditionTerm> rightTerms) {
+        checkTermsCount((long) leftTerms.size() + rightTerms.size());
+        List<WordConditionTerm> terms = new ArrayList<>(leftTerms);
+        terms.addAll(rightTerms);
+        return terms;
+    }
+
+    private static List<WordConditionTerm> satisfiableTerms(WordConditionTerm... terms) {
+        List<WordConditionTerm> satisfiableTerms = new ArrayList<>(terms.length);
+        for (WordConditionTerm term : terms) {
+            if (term.isSatisfiable()) {
+                satisfiableTerms.add(term);
+            }
+        }
+        return satisfiableTerms;
+    }
+
+    private static void checkTermsCount(long termsCount) {
+        if (termsCount > TERMS_LIMIT) {
+            throw new IllegalArgumentException("Condition is too complex to compile.");
+        }
+    }
+
+    private static WordCondition checkConditionOnNull(WordCondition condition) {
+        if (condition == null) {
+            throw new IllegalArgumentException("Condition cannot be null.");
+        }
+        return condition;
+    }
+
+    private static final class LengthCondition extends WordCondition {
+
+        private final int minLength;
+        private final int maxLength;
+
+        LengthCondition(int minLength, int maxLength) {
+            this.minLength = minLength;
+            this.maxLength = maxLength;
+        }
+
+        @Override
+        List<WordConditionTerm> toTerms(boolean negated) {
+            if (!negated) {
+                return satisfiableTerms(WordConditionTerm.withLength(minLength, maxLength));
+            }
+            return satisfiableTerms(WordConditionTerm.withLength(0, minLength - 1),
+                                    WordConditionTerm.withLength(maxLength + 1L, Integer.MAX_VALUE));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            LengthCondition that = (LengthCondition) o;
+            return minLength == that.minLength && maxLength == that.maxLength;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(minLength, maxLength);
+        }
+
+        @Override
+        public String toString() {
+            return "length(" + minLength + ".." + maxLength + ")";
+        }
+    }
+
+    private static final class FirstLetterCondition extends WordCondition {
+
+        private final FirstLetterClass firstLetterClass;
+
+        FirstLetterCondition(FirstLetterClass firstLetterClass) {
+            this.firstLetterClass = firstLetterClass;
+        }
+
+        @Override
+        List<WordConditionTerm> toTerms(boolean negated) {
+            return satisfiableTerms(WordConditionTerm.withFirstLetter(firstLetterClass, negated));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            return firstLetterClass == ((FirstLetterCondition) o).firstLetterClass;
+        }
+
+        @Override
+        public int hashCode() {
+            return firstLetterClass.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "firstLetter(" + firstLetterClass + ")";
+        }
+    }
+
+    private static final class ContainsCondition extends WordCondition {
+
+        private final char character;
+
+        ContainsCondition(char character) {
+            this.character = character;
+        }
+
+        @Override
+        List<WordConditionTerm> toTerms(boolean negated) {
+            return satisfiableTerms(WordConditionTerm.withChar(character, negated));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            return character == ((ContainsCondition) o).character;
+        }
+
+        @Override
+        public int hashCode() {
+            return character;
+        }
+
+        @Override
+        public String toString() {
+            return "contains('" + character + "')";
+        }
+    }
+
+    private static final class ScriptCondition extends WordCondition {
+
+        private final Script script;
+
+        ScriptCondition(Script script) {
+            this.script = script;
+        }
+
+        @Override
+        List<WordConditionTerm> toTerms(boolean negated) {
+            return satisfiableTerms(WordConditionTerm.withCharSet(script.getLetters(), negated));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            return script == ((ScriptCondition) o).script;
+        }
+
+        @Override
+        public int hashCode() {
+            return script.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "lettersOf(" + script + ")";
+        }
+    }
+
+    private static final class AndCondition extends WordCondition {
+
+        private final WordCondition left;
+        private final WordCondition right;
+
+        AndCondition(WordCondition left, WordCondition right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        List<WordConditionTerm> toTerms(boolean negated) {
+            if (negated) {
+                return disjunction(left.toTerms(true), right.toTerms(true));
+            }
+            return conjunction(left.toTerms(false), right.toTerms(false));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            AndCondition that = (AndCondition) o;
+            return left.equals(that.left) && right.equals(that.right);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(getClass(), left, right);
+        }
+
+        @Override
+        public String toString() {
+            return "and(" + left + ", " + right + ")";
+        }
+    }
+
+    private static final class OrCondition extends WordCondition {
+
+        private final WordCondition left;
+        private final WordCondition right;
+
+        OrCondition(WordCondition left, WordCondition right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        List<WordConditionTerm> toTerms(boolean negated) {
+            if (negated) {
+                return conjunction(left.toTerms(true), right.toTerms(true));
+            }
+            return disjunction(left.toTerms(false), right.toTerms(false));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            OrCondition that = (OrCondition) o;
+            return left.equals(that.left) && right.equals(that.right);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(getClass(), left, right);
+        }
+
+        @Override
+        public String toString() {
+            return "or(" + left + ", " + right + ")";
+        }
+    }
+
+    private static final class NotCondition extends WordCondition {
+
+        private final WordCondition condition;
+
+        NotCondition(WordCondition condition) {
+            this.condition = condition;
+        }
+
+        @Override
+        List<WordConditionTerm> toTerms(boolean negated) {
+            return condition.toTerms(!negated);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            return condition.equals(((NotCondition) o).condition);
+        }
+
+        @Override
+        public int hashCode() {
+            return ~condition.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "not(" + condition + ")";
+        }
+    }
+}
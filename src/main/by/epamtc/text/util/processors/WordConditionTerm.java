@@ -0,0 +1,245 @@
+package by.epamtc.text.util.processors;
+
+import java.util.Arrays;
+
+/**
+ * Conjunction of word condition atoms merged into flat checks, ordered from the cheapest one: a length range, a
+ * mask of first letter classes, a set of allowed chars, chars the word must contain and sets the word must have a
+ * char outside of. Instances are immutable once built.
+ */
+final class WordConditionTerm implements WordSlicePredicate {
+
+    private static final int CHAR_SET_LENGTH = (Character.MAX_VALUE + 1) / Long.SIZE;
+    private static final int EMPTY_WORD_CLASS = 1 << FirstLetterClass.values().length;
+    private static final int ALL_FIRST_CHAR_CLASSES = (EMPTY_WORD_CLASS << 1) - 1;
+    private static final char[] NO_CHARS = new char[0];
+    private static final long[][] NO_CHAR_SETS = new long[0][];
+
+    private final int minLength;
+    private final int maxLength;
+    private final int firstCharClasses;
+    private final long[] allowedChars;
+    private final char[] requiredChars;
+    private final long[][] escapedCharSets;
+
+    private WordConditionTerm(int minLength, int maxLength, int firstCharClasses, long[] allowedChars,
+                              char[] requiredChars, long[][] escapedCharSets) {
+        this.minLength = minLength;
+        this.maxLength = maxLength;
+        this.firstCharClasses = normalizeFirstCharClasses(firstCharClasses, minLength, maxLength);
+        this.allowedChars = allowedChars;
+        this.requiredChars = requiredChars;
+        this.escapedCharSets = escapedCharSets;
+    }
+
+    static WordConditionTerm withLength(long minLength, long maxLength) {
+        if (minLength > maxLength) {
+            return new WordConditionTerm(1, 0, 0, null, NO_CHARS, NO_CHAR_SETS);
+        }
+        return new WordConditionTerm((int) minLength, (int) maxLength, ALL_FIRST_CHAR_CLASSES, null, NO_CHARS,
+                                     NO_CHAR_SETS);
+    }
+
+    static WordConditionTerm withFirstLetter(FirstLetterClass firstLetterClass, boolean negated) {
+        int firstCharClass = 1 << firstLetterClass.ordinal();
+        int firstCharClasses = negated ? ALL_FIRST_CHAR_CLASSES & ~firstCharClass : firstCharClass;
+        return new WordConditionTerm(0, Integer.MAX_VALUE, firstCharClasses, null, NO_CHARS, NO_CHAR_SETS);
+    }
+
+    static WordConditionTerm withChar(char character, boolean negated) {
+        if (!negated) {
+            return new WordConditionTerm(0, Integer.MAX_VALUE, ALL_FIRST_CHAR_CLASSES, null, new char[]{character},
+                                         NO_CHAR_SETS);
+        }
+        long[] allowedChars = new long[CHAR_SET_LENGTH];
+        Arrays.fill(allowedChars, -1L);
+        allowedChars[character >>> 6] &= ~(1L << character);
+        return new WordConditionTerm(0, Integer.MAX_VALUE, ALL_FIRST_CHAR_CLASSES, allowedChars, NO_CHARS,
+                                     NO_CHAR_SETS);
+    }
+
+    static WordConditionTerm withCharSet(long[] charSet, boolean negated) {
+        if (!negated) {
+            return new WordConditionTerm(0, Integer.MAX_VALUE, ALL_FIRST_CHAR_CLASSES, charSet, NO_CHARS,
+                                         NO_CHAR_SETS);
+        }
+        return new WordConditionTerm(1, Integer.MAX_VALUE, ALL_FIRST_CHAR_CLASSES, null, NO_CHARS,
+                                     new long[][]{charSet});
+    }
+
+    static long[] createCharSet() {
+        return new long[CHAR_SET_LENGTH];
+    }
+
+    static void addChar(long[] charSet, char character) {
+        charSet[character >>> 6] |= 1L << character;
+    }
+
+    WordConditionTerm and(WordConditionTerm other) {
+        long[] mergedAllowedChars;
+        if (allowedChars == null || other.allowedChars == null) {
+            mergedAllowedChars = allowedChars != null ? allowedChars : other.allowedChars;
+        } else {
+            mergedAllowedChars = new long[CHAR_SET_LENGTH];
+            for (int i = 0; i < CHAR_SET_LENGTH; i++) {
+                mergedAllowedChars[i] = allowedChars[i] & other.allowedChars[i];
+            }
+        }
+        char[] mergedRequiredChars = Arrays.copyOf(requiredChars, requiredChars.length + other.requiredChars.length);
+        System.arraycopy(other.requiredChars, 0, mergedRequiredChars, requiredChars.length,
+                         other.requiredChars.length);
+        long[][] mergedEscapedCharSets = Arrays.copyOf(escapedCharSets,
+                                                       escapedCharSets.length + other.escapedCharSets.length);
+        System.arraycopy(other.escapedCharSets, 0, mergedEscapedCharSets, escapedCharSets.length,
+                         other.escapedCharSets.length);
+        return new WordConditionTerm(Math.max(minLength, other.minLength), Math.min(maxLength, other.maxLength),
+                                     firstCharClasses & other.firstCharClasses, mergedAllowedChars,
+                                     mergedRequiredChars, mergedEscapedCharSets);
+    }
+
+    boolean isSatisfiable() {
+        if (minLength > maxLength || firstCharClasses == 0) {
+            return false;
+        }
+        if (allowedChars != null) {
+            for (char requiredChar : requiredChars) {
+                if (!containsChar(allowedChars, requiredChar)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    boolean isUnconstrained() {
+        return minLength == 0 && maxLength == Integer.MAX_VALUE && firstCharClasses == ALL_FIRST_CHAR_CLASSES &&
+               allowedChars == null && requiredChars.length == 0 && escapedCharSets.length == 0;
+    }
+
+    @Override
+    public int getMinWordLength() {
+        return minLength;
+    }
+
+    @Override
+    public int getMaxWordLength() {
+        return maxLength;
+    }
+
+    @Override
+    public boolean acceptsFirstLetter(FirstLetterClass firstLetterClass) {
+        return (firstCharClasses & (1 << firstLetterClass.ordinal())) != 0;
+    }
+
+    @Override
+    public boolean test(CharSequence text, int start, int end) {
+        int length = end - start;
+        if (length < minLength || length > maxLength) {
+            return false;
+        }
+        if ((firstCharClasses & classifyFirstChar(length == 0, length == 0 ? 0 : text.charAt(start))) == 0) {
+            return false;
+        }
+        if (allowedChars != null) {
+            for (int i = start; i < end; i++) {
+                if (!containsChar(allowedChars, text.charAt(i))) {
+                    return false;
+                }
+            }
+        }
+        for (char requiredChar : requiredChars) {
+            if (!hasCharIn(text, start, end, requiredChar)) {
+                return false;
+            }
+        }
+        for (long[] escapedCharSet : escapedCharSets) {
+            if (!hasCharOutside(text, start, end, escapedCharSet)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean test(char[] text, int start, int end) {
+        int length = end - start;
+        if (length < minLength || length > maxLength) {
+            return false;
+        }
+        if ((firstCharClasses & classifyFirstChar(length == 0, length == 0 ? 0 : text[start])) == 0) {
+            return false;
+        }
+        if (allowedChars != null) {
+            for (int i = start; i < end; i++) {
+                if (!containsChar(allowedChars, text[i])) {
+                    return false;
+                }
+            }
+        }
+        for (char requiredChar : requiredChars) {
+            if (!hasCharIn(text, start, end, requiredChar)) {
+                return false;
+            }
+        }
+        for (long[] escapedCharSet : escapedCharSets) {
+            if (!hasCharOutside(text, start, end, escapedCharSet)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int normalizeFirstCharClasses(int firstCharClasses, int minLength, int maxLength) {
+        if (minLength > 0) {
+            firstCharClasses &= ~EMPTY_WORD_CLASS;
+        }
+        if (maxLength == 0) {
+            firstCharClasses &= EMPTY_WORD_CLASS;
+        }
+        return firstCharClasses;
+    }
+
+    private static int classifyFirstChar(boolean emptyWord, char firstChar) {
+        return emptyWord ? EMPTY_WORD_CLASS : 1 << FirstLetterClass.of(firstChar).ordinal();
+    }
+
+    private static boolean containsChar(long[] charSet, char character) {
+        return (charSet[character >>> 6] & (1L << character)) != 0;
+    }
+
+    private static boolean hasCharIn(CharSequence text, int start, int end, char character) {
+        for (int i = start; i < end; i++) {
+            if (text.charAt(i) == character) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasCharIn(char[] text, int start, int end, char character) {
+        for (int i = start; i < end; i++) {
+            if (text[i] == character) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasCharOutside(CharSequence text, int start, int end, long[] charSet) {
+        for (int i = start; i < end; i++) {
+            if (!containsChar(charSet, text.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasCharOutside(char[] text, int start, int end, long[] charSet) {
+        for (int i = start; i < end; i++) {
+            if (!containsChar(charSet, text[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,6 +1,6 @@
 package by.epamtc.text.util.processors;
 
-import java.util.Set;
+import java.util.Arrays;
 import java.util.function.Predicate;
 
 public class WordPredicate {
@@ -29,15 +29,58 @@ public class WordPredicate {
         }
         return isConsonant(word[0]);
     };
+    public static final WordSlicePredicate VOWEL_PREFIX_PREDICATE_SLICE_IMPLEMENTATION = new WordSlicePredicate() {
+        @Override
+        public boolean test(CharSequence text, int start, int end) {
+            return start < end && isVowel(text.charAt(start));
+        }
+
+        @Override
+        public boolean test(char[] text, int start, int end) {
+            return start < end && isVowel(text[start]);
+        }
+
+        @Override
+        public boolean test(byte[] utf8Text, int start, int end) {
+            return start < end && isVowel(decodeFirstChar(utf8Text, start, end));
+        }
+
+        @Override
+        public int getMinWordLength() {
+            return 1;
+        }
+
+        @Override
+        public boolean acceptsFirstLetter(FirstLetterClass firstLetterClass) {
+            return firstLetterClass == FirstLetterClass.VOWEL;
+        }
+    };
+    public static final WordSlicePredicate CONSONANT_PREFIX_PREDICATE_SLICE_IMPLEMENTATION = new WordSlicePredicate() {
+        @Override
+        public boolean test(CharSequence text, int start, int end) {
+            return start < end && isConsonant(text.charAt(start));
+        }
+
+        @Override
+        public boolean test(char[] text, int start, int end) {
+            return start < end && isConsonant(text[start]);
+        }
+
+        @Override
+        public boolean test(byte[] utf8Text, int start, int end) {
+            return start < end && isConsonant(decodeFirstChar(utf8Text, start, end));
+        }
+
+        @Override
+        public int getMinWordLength() {
+            return 1;
+        }
 
-    private static final Set<Character> ENGLISH_VOWELS = Set.of('a', 'e', 'i', 'o', 'u');
-    private static final Set<Character> RUSSIAN_VOWELS = Set.of('а', 'е', 'ё', 'и', 'о', 'у', 'ы', 'э', 'ю', 'я');
-    private static final Set<Character> ENGLISH_CONSONANTS = Set.of('b', 'c', 'd', 'f', 'g', 'h', 'j', 'k', 'l', 'm',
-                                                                    'n', 'p', 'q', 'r', 's', 't', 'v', 'w', 'x', 'y',
-                                                                    'z');
-    private static final Set<Character> RUSSIAN_CONSONANTS = Set.of('б', 'в', 'г', 'д', 'ж', 'з', 'й', 'к', 'л', 'м',
-                                                                    'н', 'п', 'р', 'с', 'т', 'ф', 'х', 'ц', 'ч', 'ш',
-                                                                    'щ', 'ъ', 'ь');
+        @Override
+        public boolean acceptsFirstLetter(FirstLetterClass firstLetterClass) {
+            return firstLetterClass == FirstLetterClass.CONSONANT;
+        }
+    };
 
     public static Predicate<String> specifyWordAsStringLength(int wordLength) {
         Predicate<String> predicate = word -> word.length() == wordLength;
@@ -49,13 +92,68 @@ public class WordPredicate {
         return predicate;
     }
 
+    public static WordSlicePredicate specifyWordAsSliceLength(int wordLength) {
+        return new WordSlicePredicate() {
+            @Override
+            public boolean test(CharSequence text, int start, int end) {
+                return end - start == wordLength;
+            }
+
+            @Override
+            public boolean test(char[] text, int start, int end) {
+                return end - start == wordLength;
+            }
+
+            @Override
+            public boolean test(byte[] utf8Text, int start, int end) {
+                return Utf8Chars.countChars(utf8Text, start, end) == wordLength;
+            }
+
+            @Override
+            public int getMinWordLength() {
+                return wordLength;
+            }
+
+            @Override
+            public int getMaxWordLength() {
+                return wordLength;
+            }
+        };
+    }
+
+    public static WordSlicePredicate adaptStringPredicate(Predicate<String> predicate) {
+        if (predicate == null) {
+            throw new IllegalArgumentException("Predicate cannot be null.");
+        }
+        return (text, start, end) -> predicate.test(text.subSequence(start, end).toString());
+    }
+
+    public static WordSlicePredicate adaptCharArrayPredicate(Predicate<char[]> predicate) {
+        if (predicate == null) {
+            throw new IllegalArgumentException("Predicate cannot be null.");
+        }
+        return new WordSlicePredicate() {
+            @Override
+            public boolean test(CharSequence text, int start, int end) {
+                return predicate.test(text.subSequence(start, end).toString().toCharArray());
+            }
+
+            @Override
+            public boolean test(char[] text, int start, int end) {
+                return predicate.test(Arrays.copyOfRange(text, start, end));
+            }
+        };
+    }
+
+    private static char decodeFirstChar(byte[] utf8Text, int start, int end) {
+        return Utf8Chars.decode(utf8Text, start, Utf8Chars.sequenceLength(utf8Text, start, end));
+    }
+
     private static boolean isConsonant(char letter) {
-        char lowerCaseLetter = Character.toLowerCase(letter);
-        return ENGLISH_CONSONANTS.contains(lowerCaseLetter) || RUSSIAN_CONSONANTS.contains(lowerCaseLetter);
+        return CharacterClassifier.isConsonant(letter);
     }
 
     private static boolean isVowel(char letter) {
-        char lowerCaseLetter = Character.toLowerCase(letter);
-        return ENGLISH_VOWELS.contains(lowerCaseLetter) || RUSSIAN_VOWELS.contains(lowerCaseLetter);
+        return CharacterClassifier.isVowel(letter);
     }
 }
@@ -0,0 +1,37 @@
+package by.epamtc.text.util.processors;
+
+/**
+ * Length bounds and first letter classes declared by a {@link WordSlicePredicate}, checked on a word span before
+ * the predicate itself is called. A word rejected here costs neither a virtual call nor a copy.
+ * <p>
+ * The first letter is classified with the alphabet the words are split with. The predicates classify it with the
+ * default alphabet, so their first letter classes are only checked when the two are the same.
+ */
+final class WordPrefilter {
+
+    private static final int ALL_FIRST_LETTER_CLASSES = (1 << FirstLetterClass.values().length) - 1;
+
+    private final Alphabet alphabet;
+    private final int minLength;
+    private final int maxLength;
+    private final int firstLetterClasses;
+
+    WordPrefilter(WordSlicePredicate predicate, Alphabet alphabet) {
+        this.alphabet = alphabet;
+        minLength = predicate.getMinWordLength();
+        maxLength = predicate.getMaxWordLength();
+        int firstLetterClasses = 0;
+        for (FirstLetterClass firstLetterClass : FirstLetterClass.values()) {
+            if (predicate.acceptsFirstLetter(firstLetterClass)) {
+                firstLetterClasses |= 1 << firstLetterClass.ordinal();
+            }
+        }
+        this.firstLetterClasses = alphabet == CharacterClassifier.getAlphabet() ? firstLetterClasses
+                                                                                : ALL_FIRST_LETTER_CLASSES;
+    }
+
+    boolean accepts(int wordLength, char firstLetter) {
+        return wordLength >= minLength && wordLength <= maxLength &&
+               (firstLetterClasses & (1 << FirstLetterClass.of(firstLetter, alphabet).ordinal())) != 0;
+    }
+}
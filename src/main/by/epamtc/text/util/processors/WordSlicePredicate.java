@@ -0,0 +1,136 @@
+package by.epamtc.text.util.processors;
+
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Predicate over a word given as the {@code [start, end)} slice of the text it belongs to, so the word does not
+ * have to be copied out of the text before testing.
+ */
+@FunctionalInterface
+public interface WordSlicePredicate {
+
+    boolean test(CharSequence text, int start, int end);
+
+    default boolean test(char[] text, int start, int end) {
+        return test(CharBuffer.wrap(text), start, end);
+    }
+
+    default boolean test(byte[] utf8Text, int start, int end) {
+        String word = new String(utf8Text, start, end - start, StandardCharsets.UTF_8);
+        return test(word, 0, word.length());
+    }
+
+    /**
+     * Returns the least length of a word the predicate can accept. Together with {@link #getMaxWordLength()} and
+     * {@link #acceptsFirstLetter(FirstLetterClass)} it lets the engines reject words on their spans without calling
+     * the predicate, so the declared bounds must hold for every accepted word.
+     */
+    default int getMinWordLength() {
+        return 0;
+    }
+
+    default int getMaxWordLength() {
+        return Integer.MAX_VALUE;
+    }
+
+    default boolean acceptsFirstLetter(FirstLetterClass firstLetterClass) {
+        return true;
+    }
+
+    default WordSlicePredicate and(WordSlicePredicate other) {
+        if (other == null) {
+            throw new IllegalArgumentException("Predicate cannot be null.");
+        }
+        WordSlicePredicate self = this;
+        return new WordSlicePredicate() {
+            @Override
+            public boolean test(CharSequence text, int start, int end) {
+                return self.test(text, start, end) && other.test(text, start, end);
+            }
+
+            @Override
+            public boolean test(char[] text, int start, int end) {
+                return self.test(text, start, end) && other.test(text, start, end);
+            }
+
+            @Override
+            public boolean test(byte[] utf8Text, int start, int end) {
+                return self.test(utf8Text, start, end) && other.test(utf8Text, start, end);
+            }
+
+            @Override
+            public int getMinWordLength() {
+                return Math.max(self.getMinWordLength(), other.getMinWordLength());
+            }
+
+            @Override
+            public int getMaxWordLength() {
+                return Math.min(self.getMaxWordLength(), other.getMaxWordLength());
+            }
+
+            @Override
+            public boolean acceptsFirstLetter(FirstLetterClass firstLetterClass) {
+                return self.acceptsFirstLetter(firstLetterClass) && other.acceptsFirstLetter(firstLetterClass);
+            }
+        };
+    }
+
+    default WordSlicePredicate or(WordSlicePredicate other) {
+        if (other == null) {
+            throw new IllegalArgumentException("Predicate cannot be null.");
+        }
+        WordSlicePredicate self = this;
+        return new WordSlicePredicate() {
+            @Override
+            public boolean test(CharSequence text, int start, int end) {
+                return self.test(text, start, end) || other.test(text, start, end);
+            }
+
+            @Override
+            public boolean test(char[] text, int start, int end) {
+                return self.test(text, start, end) || other.test(text, start, end);
+            }
+
+            @Override
+            public boolean test(byte[] utf8Text, int start, int end) {
+                return self.test(utf8Text, start, end) || other.test(utf8Text, start, end);
+            }
+
+            @Override
+            public int getMinWordLength() {
+                return Math.min(self.getMinWordLength(), other.getMinWordLength());
+            }
+
+            @Override
+            public int getMaxWordLength() {
+                return Math.max(self.getMaxWordLength(), other.getMaxWordLength());
+            }
+
+            @Override
+            public boolean acceptsFirstLetter(FirstLetterClass firstLetterClass) {
+                return self.acceptsFirstLetter(firstLetterClass) || other.acceptsFirstLetter(firstLetterClass);
+            }
+        };
+    }
+
+    default WordSlicePredicate negate() {
+        WordSlicePredicate self = this;
+        return new WordSlicePredicate() {
+            @Override
+            public boolean test(CharSequence text, int start, int end) {
+                return !self.test(text, start, end);
+            }
+
+            @Override
+            public boolean test(char[] text, int start, int end) {
+                return !self.test(text, start, end);
+            }
+
+            @Override
+            public boolean test(byte[] utf8Text, int start, int end) {
+                return !self.test(utf8Text, start, end);
+            }
+        };
+    }
+}
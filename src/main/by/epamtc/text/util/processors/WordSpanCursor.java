@@ -0,0 +1,136 @@
+package by.epamtc.text.util.processors;
+
+/**
+ * Reusable scanner over words and non-alphabetic sequences of a text. The bounds of the last found span are kept
+ * as primitive fields, so scanning does not allocate anything per span. The alphabet is given on each reset, the
+ * default one is used if it is not.
+ */
+public final class WordSpanCursor {
+
+    private Alphabet alphabet;
+    private char[] textArray;
+    private CharSequence textSequence;
+    private int position;
+    private int toIndex;
+    private int spanStart;
+    private int spanEnd;
+    private int spansCount;
+
+    public WordSpanCursor reset(char[] text, int fromIndex, int toIndex) {
+        return reset(text, fromIndex, toIndex, CharacterClassifier.getAlphabet());
+    }
+
+    public WordSpanCursor reset(char[] text, int fromIndex, int toIndex, Alphabet alphabet) {
+        checkRange(text.length, fromIndex, toIndex);
+        this.textArray = text;
+        this.textSequence = null;
+        resetPositions(fromIndex, toIndex, alphabet);
+        return this;
+    }
+
+    public WordSpanCursor reset(CharSequence text, int fromIndex, int toIndex) {
+        return reset(text, fromIndex, toIndex, CharacterClassifier.getAlphabet());
+    }
+
+    public WordSpanCursor reset(CharSequence text, int fromIndex, int toIndex, Alphabet alphabet) {
+        checkRange(text.length(), fromIndex, toIndex);
+        this.textArray = null;
+        this.textSequence = text;
+        resetPositions(fromIndex, toIndex, alphabet);
+        return this;
+    }
+
+    public boolean nextWord() {
+        int wordStartPosition = position;
+        while (wordStartPosition < toIndex && !alphabet.isAlphabeticOrDigit(charAt(wordStartPosition))) {
+            wordStartPosition++;
+        }
+        if (wordStartPosition >= toIndex) {
+            position = toIndex;
+            return false;
+        }
+        int wordEndPosition = wordStartPosition + 1;
+        while (wordEndPosition < toIndex && alphabet.isAlphabeticOrDigit(charAt(wordEndPosition))) {
+            wordEndPosition++;
+        }
+        setSpan(wordStartPosition, wordEndPosition);
+        return true;
+    }
+
+    /**
+     * Moves to the next word the prefilter accepts. Skipped words are counted as found spans.
+     */
+    boolean nextWord(WordPrefilter prefilter) {
+        while (nextWord()) {
+            if (prefilter.accepts(spanEnd - spanStart, charAt(spanStart))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean nextNonAlphabeticSequence() {
+        int sequenceStartPosition = position;
+        while (sequenceStartPosition < toIndex && alphabet.isAlphabeticOrSpace(charAt(sequenceStartPosition))) {
+            sequenceStartPosition++;
+        }
+        if (sequenceStartPosition >= toIndex) {
+            position = toIndex;
+            return false;
+        }
+        int sequenceEndPosition = sequenceStartPosition + 1;
+        while (sequenceEndPosition < toIndex && !alphabet.isAlphabeticOrSpace(charAt(sequenceEndPosition))) {
+            sequenceEndPosition++;
+        }
+        setSpan(sequenceStartPosition, sequenceEndPosition);
+        return true;
+    }
+
+    public int getSpanStart() {
+        return spanStart;
+    }
+
+    public int getSpanEnd() {
+        return spanEnd;
+    }
+
+    public int getSpanLength() {
+        return spanEnd - spanStart;
+    }
+
+    /**
+     * Returns the number of spans found since the last reset.
+     */
+    public int getSpansCount() {
+        return spansCount;
+    }
+
+    private char charAt(int index) {
+        return textArray != null ? textArray[index] : textSequence.charAt(index);
+    }
+
+    private void setSpan(int start, int end) {
+        spanStart = start;
+        spanEnd = end;
+        position = end;
+        spansCount++;
+    }
+
+    private void resetPositions(int fromIndex, int toIndex, Alphabet alphabet) {
+        if (alphabet == null) {
+            throw new IllegalArgumentException("Alphabet cannot be null.");
+        }
+        this.alphabet = alphabet;
+        this.position = fromIndex;
+        this.toIndex = toIndex;
+        this.spanStart = fromIndex;
+        this.spanEnd = fromIndex;
+        this.spansCount = 0;
+    }
+
+    private static void checkRange(int textLength, int fromIndex, int toIndex) {
+        if (fromIndex < 0 || fromIndex > toIndex || toIndex > textLength) {
+            throw new IndexOutOfBoundsException("Text range is out of bounds.");
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package by.epamtc.text.util.providers;
+
+import java.util.Collections;
+import java.util.List;
+
+public final class FileTreeProcessingStatistics {
+
+    private static final double NANOS_IN_SECOND = 1e9;
+    private static final double BYTES_IN_MEGABYTE = 1 << 20;
+
+    private final long processedFilesCount;
+    private final List<FileException> failures;
+    private final long bytesRead;
+    private final long bytesWritten;
+    private final long elapsedNanos;
+
+    FileTreeProcessingStatistics(long processedFilesCount, List<FileException> failures, long bytesRead,
+                                 long bytesWritten, long elapsedNanos) {
+        this.processedFilesCount = processedFilesCount;
+        this.failures = Collections.unmodifiableList(failures);
+        this.bytesRead = bytesRead;
+        this.bytesWritten = bytesWritten;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getProcessedFilesCount() {
+        return processedFilesCount;
+    }
+
+    public long getFailedFilesCount() {
+        return failures.size();
+    }
+
+    public List<FileException> getFailures() {
+        return failures;
+    }
+
+    public long getBytesRead() {
+        return bytesRead;
+    }
+
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public double getFilesPerSecond() {
+        return processedFilesCount / getElapsedSeconds();
+    }
+
+    public double getMegabytesPerSecond() {
+        return bytesRead / BYTES_IN_MEGABYTE / getElapsedSeconds();
+    }
+
+    private double getElapsedSeconds() {
+        return Math.max(elapsedNanos, 1) / NANOS_IN_SECOND;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Processed %d files (%d failed), read %.2f MB, wrote %.2f MB in %.3f s: "
+                             + "%.1f files/s, %.2f MB/s", processedFilesCount, failures.size(),
+                             bytesRead / BYTES_IN_MEGABYTE, bytesWritten / BYTES_IN_MEGABYTE, getElapsedSeconds(),
+                             getFilesPerSecond(), getMegabytesPerSecond());
+    }
+}
@@ -0,0 +1,255 @@
+package by.epamtc.text.util.providers;
+
+import by.epamtc.text.util.processors.TextOperation;
+import by.epamtc.text.util.processors.TextProcessingException;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.charset.Charset;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class TextFileTreeUtils {
+
+    public static final String DEFAULT_GLOB = "**";
+
+    private static final Set<OpenOption> READ_OPTIONS = Set.of(StandardOpenOption.READ);
+    private static final Set<OpenOption> WRITE_OPTIONS = Set.of(StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                                                                StandardOpenOption.TRUNCATE_EXISTING);
+    private static final long MAX_FILE_SIZE = Integer.MAX_VALUE - 8;
+
+    private TextFileTreeUtils() {
+    }
+
+    /**
+     * Applies the operation to every regular file under {@code inputRoot} whose relative path matches the glob and
+     * writes the result to the same relative path under {@code outputRoot}. Files are read and written with
+     * {@link AsynchronousFileChannel}s bound to the executor, which also runs the operation. At most
+     * {@code maxInFlight} files are processed at a time. A file or directory that cannot be processed is reported
+     * in the statistics and does not stop the others. The output directory may be inside the input one and is then
+     * skipped, but it cannot be the input directory itself or contain it.
+     */
+    public static FileTreeProcessingStatistics processFileTree(Path inputRoot, Path outputRoot, String glob,
+                                                               Charset charset, TextOperation operation,
+                                                               ExecutorService executor, int maxInFlight)
+            throws FileException, TextProcessingException {
+        if (inputRoot == null || outputRoot == null) {
+            throw new FileException("Directory cannot be null.");
+        }
+        if (!Files.isDirectory(inputRoot)) {
+            throw new FileException("Input path is not a directory.");
+        }
+        if (glob == null) {
+            throw new FileException("Glob cannot be null.");
+        }
+        if (charset == null) {
+            throw new FileException("Charset cannot be null.");
+        }
+        if (operation == null) {
+            throw new TextProcessingException("Operation cannot be null.");
+        }
+        if (executor == null) {
+            throw new FileException("Executor cannot be null.");
+        }
+        if (maxInFlight <= 0) {
+            throw new FileException("Max in-flight files count must be positive.");
+        }
+        Path absoluteInputRoot = inputRoot.toAbsolutePath().normalize();
+        Path absoluteOutputRoot = outputRoot.toAbsolutePath().normalize();
+        if (absoluteInputRoot.startsWith(absoluteOutputRoot)) {
+            throw new FileException("Output directory cannot be the input directory or contain it.");
+        }
+        PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + glob);
+        FileTreeStatisticsCollector collector = new FileTreeStatisticsCollector();
+        Semaphore inFlightPermits = new Semaphore(maxInFlight);
+        long startTime = System.nanoTime();
+        try {
+            Files.walkFileTree(absoluteInputRoot, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path directory, BasicFileAttributes attributes) {
+                    return directory.startsWith(absoluteOutputRoot) ? FileVisitResult.SKIP_SUBTREE
+                                                                    : FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(Path inputFile, BasicFileAttributes attributes)
+                        throws InterruptedIOException {
+                    if (!Files.isRegularFile(inputFile) ||
+                        !matcher.matches(absoluteInputRoot.relativize(inputFile))) {
+                        return FileVisitResult.CONTINUE;
+                    }
+                    Path outputFile = absoluteOutputRoot.resolve(absoluteInputRoot.relativize(inputFile));
+                    try {
+                        inFlightPermits.acquire();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new InterruptedIOException("File tree processing was interrupted.");
+                    }
+                    processFileAsync(inputFile, outputFile, charset, operation, executor, collector)
+                            .whenComplete((ignored, e) -> {
+                                if (e != null) {
+                                    collector.addFailure(inputFile, e);
+                                }
+                                inFlightPermits.release();
+                            });
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path path, IOException e) {
+                    collector.addFailure(path, e);
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult postVisitDirectory(Path directory, IOException e) {
+                    if (e != null) {
+                        collector.addFailure(directory, e);
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+            inFlightPermits.acquire(maxInFlight);
+        } catch (InterruptedIOException e) {
+            throw new FileException("File tree processing was interrupted.", e);
+        } catch (IOException e) {
+            throw new FileException("An error occurred while walking directory.", e);
+        } catch (SecurityException e) {
+            throw new FileException("Access is denied.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FileException("File tree processing was interrupted.", e);
+        }
+        return collector.collect(System.nanoTime() - startTime);
+    }
+
+    private static CompletableFuture<Void> processFileAsync(Path inputFile, Path outputFile, Charset charset,
+                                                            TextOperation operation, ExecutorService executor,
+                                                            FileTreeStatisticsCollector collector) {
+        return transferAsync(inputFile, READ_OPTIONS, null, executor).thenApply(inputBuffer -> {
+            collector.bytesRead.add(inputBuffer.position());
+            String text = new String(inputBuffer.array(), 0, inputBuffer.position(), charset);
+            try {
+                byte[] processedText = operation.apply(text).getBytes(charset);
+                Files.createDirectories(outputFile.getParent());
+                return ByteBuffer.wrap(processedText);
+            } catch (TextProcessingException | IOException e) {
+                throw new CompletionException(e);
+            }
+        }).thenCompose(outputBuffer -> transferAsync(outputFile, WRITE_OPTIONS, outputBuffer, executor))
+          .thenAccept(outputBuffer -> {
+              collector.bytesWritten.add(outputBuffer.position());
+              collector.processedFilesCount.increment();
+          });
+    }
+
+    /**
+     * Reads the whole file into a new buffer if {@code buffer} is null, otherwise writes the whole buffer to the
+     * file. The returned buffer is positioned after the transferred bytes.
+     */
+    private static CompletableFuture<ByteBuffer> transferAsync(Path file, Set<OpenOption> options, ByteBuffer buffer,
+                                                               ExecutorService executor) {
+        CompletableFuture<ByteBuffer> result = new CompletableFuture<>();
+        AsynchronousFileChannel channel = null;
+        try {
+            channel = AsynchronousFileChannel.open(file, options, executor);
+            ByteBuffer transferBuffer = buffer;
+            if (transferBuffer == null) {
+                long fileSize = channel.size();
+                if (fileSize > MAX_FILE_SIZE) {
+                    throw new FileException("File is too large.");
+                }
+                transferBuffer = ByteBuffer.allocate((int) fileSize);
+            }
+            TransferHandler handler = new TransferHandler(channel, buffer == null, result);
+            handler.completed(0, transferBuffer);
+        } catch (IOException | SecurityException | FileException e) {
+            closeQuietly(channel);
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    private static void closeQuietly(AsynchronousFileChannel channel) {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    private static final class TransferHandler implements CompletionHandler<Integer, ByteBuffer> {
+
+        private final AsynchronousFileChannel channel;
+        private final boolean reading;
+        private final CompletableFuture<ByteBuffer> result;
+
+        TransferHandler(AsynchronousFileChannel channel, boolean reading, CompletableFuture<ByteBuffer> result) {
+            this.channel = channel;
+            this.reading = reading;
+            this.result = result;
+        }
+
+        @Override
+        public void completed(Integer transferredBytes, ByteBuffer buffer) {
+            if (transferredBytes < 0 || !buffer.hasRemaining()) {
+                try {
+                    channel.close();
+                    result.complete(buffer);
+                } catch (IOException e) {
+                    result.completeExceptionally(e);
+                }
+                return;
+            }
+            if (reading) {
+                channel.read(buffer, buffer.position(), buffer, this);
+            } else {
+                channel.write(buffer, buffer.position(), buffer, this);
+            }
+        }
+
+        @Override
+        public void failed(Throwable e, ByteBuffer buffer) {
+            closeQuietly(channel);
+            result.completeExceptionally(e);
+        }
+    }
+
+    private static final class FileTreeStatisticsCollector {
+
+        private final LongAdder processedFilesCount = new LongAdder();
+        private final LongAdder bytesRead = new LongAdder();
+        private final LongAdder bytesWritten = new LongAdder();
+        private final ConcurrentLinkedQueue<FileException> failures = new ConcurrentLinkedQueue<>();
+
+        void addFailure(Path path, Throwable e) {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            failures.add(new FileException("An error occurred while processing " + path + ".", cause));
+        }
+
+        FileTreeProcessingStatistics collect(long elapsedNanos) {
+            return new FileTreeProcessingStatistics(processedFilesCount.sum(), new ArrayList<>(failures),
+                                                    bytesRead.sum(), bytesWritten.sum(), elapsedNanos);
+        }
+    }
+}
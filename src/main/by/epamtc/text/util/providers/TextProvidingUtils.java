@@ -1,15 +1,34 @@
 package by.epamtc.text.util.providers;
 
+import by.epamtc.text.util.processors.CharacterClassifier;
+import by.epamtc.text.util.processors.TextProcessingException;
+
 import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardOpenOption;
 import java.util.Scanner;
 
 public final class TextProvidingUtils {
 
+    public static final int DEFAULT_WINDOW_LENGTH = 1 << 16;
+    public static final int MAX_WINDOW_LENGTH = 1 << 24;
+
+    private static final long MAPPED_REGION_SIZE = 1L << 26;
+
     private TextProvidingUtils() {
     }
 
@@ -46,4 +65,103 @@ public final class TextProvidingUtils {
             throw new FileException("An error occurred while reading file.", e);
         }
     }
+
+    /**
+     * Reads the file window by window. A window grows while it contains no whitespace, but not beyond
+     * {@link #MAX_WINDOW_LENGTH} or {@code windowLength}, whichever is greater.
+     */
+    public static void readMappedTextFromFile(File file, Charset charset, int windowLength,
+                                              TextWindowHandler handler)
+            throws FileException, TextProcessingException {
+        readMappedTextFromFile(file, charset, windowLength, Math.max(windowLength, MAX_WINDOW_LENGTH), handler);
+    }
+
+    static void readMappedTextFromFile(File file, Charset charset, int windowLength, int maxWindowLength,
+                                       TextWindowHandler handler)
+            throws FileException, TextProcessingException {
+        if (file == null) {
+            throw new FileException("File cannot be null.");
+        }
+        if (charset == null) {
+            throw new FileException("Charset cannot be null.");
+        }
+        if (handler == null) {
+            throw new IllegalArgumentException("Handler cannot be null.");
+        }
+        if (windowLength <= 0 || maxWindowLength < windowLength) {
+            throw new IllegalArgumentException("Window length must be positive.");
+        }
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            CharsetDecoder decoder = charset.newDecoder()
+                                            .onMalformedInput(CodingErrorAction.REPLACE)
+                                            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+            CharBuffer window = CharBuffer.allocate(windowLength);
+            long fileSize = channel.size();
+            long regionPosition = 0;
+            while (regionPosition < fileSize) {
+                long regionSize = Math.min(MAPPED_REGION_SIZE, fileSize - regionPosition);
+                boolean lastRegion = regionPosition + regionSize == fileSize;
+                MappedByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, regionPosition, regionSize);
+                CoderResult result = decoder.decode(region, window, lastRegion);
+                while (result.isOverflow()) {
+                    window = passCompleteWords(window, maxWindowLength, handler);
+                    result = decoder.decode(region, window, lastRegion);
+                }
+                if (result.isError()) {
+                    result.throwException();
+                }
+                regionPosition += region.position();
+            }
+            ByteBuffer noBytes = ByteBuffer.allocate(0);
+            CoderResult result = decoder.decode(noBytes, window, true);
+            while (result.isOverflow()) {
+                window = passCompleteWords(window, maxWindowLength, handler);
+                result = decoder.decode(noBytes, window, true);
+            }
+            while (decoder.flush(window).isOverflow()) {
+                window = passCompleteWords(window, maxWindowLength, handler);
+            }
+            if (window.position() > 0) {
+                handler.handle(window.array(), window.position());
+            }
+        } catch (NoSuchFileException e) {
+            throw new FileException(e);
+        } catch (SecurityException e) {
+            throw new FileException("Read access is denied.", e);
+        } catch (CharacterCodingException e) {
+            throw new FileException("File cannot be decoded.", e);
+        } catch (IOException e) {
+            throw new FileException("An error occurred while reading file.", e);
+        }
+    }
+
+    /**
+     * Passes the window up to its last whitespace. A window without whitespace is extended, or passed whole once
+     * it reaches the maximal length, keeping a trailing high surrogate for the next window.
+     */
+    private static CharBuffer passCompleteWords(CharBuffer window, int maxWindowLength, TextWindowHandler handler)
+            throws TextProcessingException {
+        char[] windowArray = window.array();
+        int splitPosition = window.position();
+        while (splitPosition > 0 && !CharacterClassifier.isWhitespace(windowArray[splitPosition - 1])) {
+            splitPosition--;
+        }
+        window.flip();
+        if (splitPosition == 0 && window.capacity() < maxWindowLength) {
+            int extendedLength = (int) Math.min((long) window.capacity() * 2, maxWindowLength);
+            CharBuffer extendedWindow = CharBuffer.allocate(extendedLength);
+            extendedWindow.put(window);
+            return extendedWindow;
+        }
+        if (splitPosition == 0) {
+            splitPosition = window.limit();
+            if (splitPosition > 1 && Character.isHighSurrogate(windowArray[splitPosition - 1])) {
+                splitPosition--;
+            }
+        }
+        handler.handle(windowArray, splitPosition);
+        window.position(splitPosition);
+        window.compact();
+        return window;
+    }
 }
@@ -0,0 +1,107 @@
+package by.epamtc.text.util.providers;
+
+import by.epamtc.text.util.processors.TextOperation;
+import by.epamtc.text.util.processors.TextProcessingException;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+
+public final class TextStreamingUtils {
+
+    public static final int DEFAULT_CHUNK_LENGTH = 1 << 16;
+    public static final int DEFAULT_MAX_PENDING_LENGTH = 1 << 26;
+
+    private TextStreamingUtils() {
+    }
+
+    public static void processFile(File inputFile, File outputFile, Charset charset, TextOperation operation)
+            throws FileException, TextProcessingException {
+        if (inputFile == null || outputFile == null) {
+            throw new FileException("File cannot be null.");
+        }
+        if (charset == null) {
+            throw new FileException("Charset cannot be null.");
+        }
+        try (Reader reader = Files.newBufferedReader(inputFile.toPath(), charset);
+             Writer writer = Files.newBufferedWriter(outputFile.toPath(), charset)) {
+            processStream(reader, writer, operation, DEFAULT_CHUNK_LENGTH);
+        } catch (SecurityException e) {
+            throw new FileException("Access is denied.", e);
+        } catch (IOException e) {
+            throw new FileException("An error occurred while opening file.", e);
+        }
+    }
+
+    /**
+     * Same as {@link #processStream(Reader, Writer, TextOperation, int, int)} with
+     * {@link #DEFAULT_MAX_PENDING_LENGTH} as the maximum pending length.
+     */
+    public static void processStream(Reader reader, Writer writer, TextOperation operation, int chunkLength)
+            throws FileException, TextProcessingException {
+        processStream(reader, writer, operation, chunkLength, DEFAULT_MAX_PENDING_LENGTH);
+    }
+
+    /**
+     * Reads the text in chunks of {@code chunkLength} chars and applies the operation to the longest read part that
+     * ends at a safe split position of the operation. Chars after the last such position are kept pending until the
+     * next one is read, so a text without safe split positions, e.g. one long word, would be kept whole. Once more
+     * than {@code maxPendingLength} chars are pending, a {@link TextProcessingException} is thrown instead.
+     */
+    public static void processStream(Reader reader, Writer writer, TextOperation operation, int chunkLength,
+                                     int maxPendingLength) throws FileException, TextProcessingException {
+        if (reader == null || writer == null) {
+            throw new FileException("Reader and writer cannot be null.");
+        }
+        if (operation == null) {
+            throw new TextProcessingException("Operation cannot be null.");
+        }
+        if (chunkLength <= 0) {
+            throw new IllegalArgumentException("Chunk length must be positive.");
+        }
+        if (maxPendingLength < chunkLength) {
+            throw new IllegalArgumentException("Max pending length cannot be less than chunk length.");
+        }
+        char[] chunk = new char[chunkLength];
+        StringBuilder pendingText = new StringBuilder(chunkLength * 2);
+        int uncheckedPosition = 1;
+        try {
+            int readLength;
+            while ((readLength = reader.read(chunk)) != -1) {
+                pendingText.append(chunk, 0, readLength);
+                if (pendingText.length() < chunkLength) {
+                    continue;
+                }
+                int splitPosition = findLastSafeSplitPosition(pendingText, operation, uncheckedPosition);
+                if (splitPosition < 0) {
+                    if (pendingText.length() > maxPendingLength) {
+                        throw new TextProcessingException("Text cannot be split within max pending length.");
+                    }
+                    uncheckedPosition = pendingText.length() + 1;
+                    continue;
+                }
+                String processedText = operation.apply(pendingText.substring(0, splitPosition));
+                writer.write(processedText);
+                pendingText.delete(0, splitPosition);
+                uncheckedPosition = 1;
+            }
+            String processedText = operation.apply(pendingText.toString());
+            writer.write(processedText);
+            writer.flush();
+        } catch (IOException e) {
+            throw new FileException("An error occurred while processing stream.", e);
+        }
+    }
+
+    private static int findLastSafeSplitPosition(CharSequence text, TextOperation operation, int lowestPosition) {
+        for (int position = text.length(); position >= lowestPosition; position--) {
+            if (operation.isSafeSplitPosition(text, position)) {
+                return position;
+            }
+        }
+        return -1;
+    }
+}
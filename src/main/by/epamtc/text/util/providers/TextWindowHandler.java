@@ -0,0 +1,15 @@
+package by.epamtc.text.util.providers;
+
+import by.epamtc.text.util.processors.TextProcessingException;
+
+@FunctionalInterface
+public interface TextWindowHandler {
+
+    /**
+     * Receives the next decoded part of the text, which occupies {@code window[0, length)}. Every window except the
+     * last one ends right after a whitespace character, so no word is split between two windows, unless a run
+     * without whitespace is longer than the maximal window length. The array is reused for the following windows
+     * and must not be retained.
+     */
+    void handle(char[] window, int length) throws TextProcessingException;
+}
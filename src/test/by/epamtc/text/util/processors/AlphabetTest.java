@@ -0,0 +1,211 @@
+package by.epamtc.text.util.processors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SuppressWarnings({"unused", "CodeBlock2Expr"})
+class AlphabetTest {
+
+    private static String testText = "Ўсё і ўсе з'ехалі, café Київ - ґанок(2) ЁЖИК word!\tДзень";
+    private static WordSlicePredicate consonantPredicate =
+            WordPredicate.CONSONANT_PREFIX_PREDICATE_SLICE_IMPLEMENTATION;
+
+    private static Stream<Arguments> provideArgumentsForEnginesAgreementTest() {
+        return Stream.of(Arguments.of(Alphabet.LATIN), Arguments.of(Alphabet.RUSSIAN),
+                         Arguments.of(Alphabet.BELARUSIAN), Arguments.of(Alphabet.UKRAINIAN),
+                         Arguments.of(Alphabet.UNICODE), Arguments.of(Alphabet.DEFAULT),
+                         Arguments.of(Alphabet.LATIN.union(Alphabet.BELARUSIAN)));
+    }
+
+    private static Stream<Arguments> provideArgumentsForRemoveAllNotAlphabeticExceptSpacesTest() {
+        return Stream.of(Arguments.of(Alphabet.UNICODE, "Ўсё і ўсе з ехалі café Київ  ґанок ЁЖИК word\tДзень"),
+                         Arguments.of(Alphabet.BELARUSIAN, "Ўсё і ўсе з ехалі  К в  анок ЁЖ К \tДзень"),
+                         Arguments.of(Alphabet.LATIN, "    caf     word\t"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideArgumentsForEnginesAgreementTest")
+    void enginesAgreementTest(Alphabet alphabet) throws TextProcessingException {
+        CharacterClassifier.setAlphabet(alphabet);
+        try {
+            String expectedLetterResult = TextProcessingStringUtils.replaceLetterByPositionInWord(testText, 1, '_');
+            String expectedWordResult = TextProcessingStringUtils.replaceEachWordByPredicate(testText,
+                                                                                             consonantPredicate, "#");
+            String expectedRemovalResult = TextProcessingStringUtils.removeAllNotAlphabeticExceptSpaces(testText);
+
+            char[] textArray = testText.toCharArray();
+            TextProcessingCharArrayUtils.replaceLetterByPositionInWord(textArray, 1, '_');
+            assertEquals(expectedLetterResult, new String(textArray));
+            assertEquals(expectedWordResult, new String(TextProcessingCharArrayUtils.replaceEachWordByPredicate(
+                    testText.toCharArray(), consonantPredicate, "#".toCharArray())));
+            assertEquals(expectedRemovalResult, new String(
+                    TextProcessingCharArrayUtils.removeAllNotAlphabeticExceptSpaces(testText.toCharArray())));
+
+            byte[] utf8Text = testText.getBytes(StandardCharsets.UTF_8);
+            assertEquals(expectedLetterResult, decode(TextProcessingUtf8Utils.replaceLetterByPositionInWord(utf8Text,
+                                                                                                          1, '_')));
+            assertEquals(expectedWordResult, decode(TextProcessingUtf8Utils.replaceEachWordByPredicate(
+                    utf8Text, consonantPredicate, "#".getBytes(StandardCharsets.UTF_8))));
+            assertEquals(expectedRemovalResult, decode(TextProcessingUtf8Utils.removeAllNotAlphabeticExceptSpaces(
+                    utf8Text)));
+
+            for (RegexMatcherBackend backend : RegexMatcherBackend.values()) {
+                TextProcessingRegexUtils.setMatcherBackend(backend);
+                assertEquals(expectedLetterResult,
+                             TextProcessingRegexUtils.replaceLetterByPositionInWord(testText, 1, '_'));
+                assertEquals(expectedWordResult,
+                             TextProcessingRegexUtils.replaceEachWordByPredicate(testText, consonantPredicate, "#"));
+                assertEquals(expectedRemovalResult,
+                             TextProcessingRegexUtils.removeAllNotAlphabeticExceptSpaces(testText));
+            }
+        } finally {
+            TextProcessingRegexUtils.setMatcherBackend(RegexMatcherBackend.JDK);
+            CharacterClassifier.setAlphabet(Alphabet.DEFAULT);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideArgumentsForRemoveAllNotAlphabeticExceptSpacesTest")
+    void removeAllNotAlphabeticExceptSpacesTest(Alphabet alphabet, String expected) throws TextProcessingException {
+        CharacterClassifier.setAlphabet(alphabet);
+        try {
+            assertEquals(expected, TextProcessingRegexUtils.removeAllNotAlphabeticExceptSpaces(testText));
+        } finally {
+            CharacterClassifier.setAlphabet(Alphabet.DEFAULT);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideArgumentsForEnginesAgreementTest")
+    void explicitAlphabetTest(Alphabet alphabet) throws TextProcessingException {
+        String expectedLetterResult;
+        String expectedRemovalResult;
+        String expectedLettersResult;
+        int expectedWordsCount;
+        CharacterClassifier.setAlphabet(alphabet);
+        try {
+            expectedLetterResult = TextProcessingStringUtils.replaceLetterByPositionInWord(testText, 1, '_');
+            expectedRemovalResult = TextProcessingStringUtils.removeAllNotAlphabeticExceptSpaces(testText);
+            expectedLettersResult = TextProcessingStringUtils.replaceEachLetterAfter(expectedLetterResult, 'і', 'ў',
+                                                                                      '#');
+            expectedWordsCount = IndexedText.of(testText).countWords(4);
+        } finally {
+            CharacterClassifier.setAlphabet(Alphabet.DEFAULT);
+        }
+        TextOperation letterOperation = TextOperations.replaceLetterByPositionInWord(1, '_', alphabet);
+        TextPipeline pipeline = TextPipeline.of(letterOperation,
+                                                TextOperations.replaceEachLetterAfter('і', 'ў', '#', alphabet),
+                                                TextOperations.replaceEachWordByPredicate(consonantPredicate, "#"));
+        assertEquals(expectedLetterResult, letterOperation.apply(testText));
+        assertEquals(expectedLetterResult,
+                     TextProcessingViewUtils.replaceLetterByPositionInWord(testText, 1, '_', alphabet).toString());
+        assertEquals(expectedRemovalResult,
+                     TextOperations.removeAllNotAlphabeticExceptSpaces(alphabet).apply(testText));
+        assertEquals(expectedWordsCount, IndexedText.of(testText, alphabet).countWords(4));
+        assertEquals(TextProcessingStringUtils.replaceEachWordByPredicate(expectedLettersResult, consonantPredicate,
+                                                                          "#"),
+                     pipeline.apply(testText));
+    }
+
+    @Test
+    void defaultAlphabetChangeTest() throws TextProcessingException {
+        CharacterClassifier.setAlphabet(Alphabet.BELARUSIAN);
+        try {
+            TextPipeline pipeline = TextPipeline.of(TextOperations.replaceLetterByPositionInWord(0, '_'),
+                                                    TextOperations.replaceEachLetterAfter('і', 'ў', '#'));
+            IndexedText indexedText = IndexedText.of(testText);
+            String expectedPipelineResult = pipeline.apply(testText);
+            int expectedWordsCount = indexedText.countWords(3, FirstLetterClass.CONSONANT);
+            CharacterClassifier.setAlphabet(Alphabet.LATIN);
+            assertEquals(expectedPipelineResult, pipeline.apply(testText));
+            assertEquals(expectedWordsCount, indexedText.countWords(3, FirstLetterClass.CONSONANT));
+        } finally {
+            CharacterClassifier.setAlphabet(Alphabet.DEFAULT);
+        }
+    }
+
+    @Test
+    void mixedAlphabetsPipelineTest() throws TextProcessingException {
+        TextOperation latinOperation = TextOperations.replaceLetterByPositionInWord(0, '_', Alphabet.LATIN);
+        TextOperation belarusianOperation = TextOperations.replaceLetterByPositionInWord(1, '_', Alphabet.BELARUSIAN);
+        TextPipeline pipeline = TextPipeline.of(latinOperation, belarusianOperation);
+        assertEquals(belarusianOperation.apply(latinOperation.apply(testText)), pipeline.apply(testText));
+    }
+
+    @Test
+    void defaultAlphabetTest() throws TextProcessingException {
+        assertEquals(Alphabet.DEFAULT, CharacterClassifier.getAlphabet());
+        assertTrue(Alphabet.DEFAULT.isLetter('ў'));
+        assertTrue(Alphabet.DEFAULT.isLetter('é'));
+        assertFalse(Alphabet.DEFAULT.isConsonant('ў'));
+        assertFalse(Alphabet.DEFAULT.isVowel('і'));
+        assertTrue(Alphabet.DEFAULT.isVowel('Ё'));
+        assertTrue(Alphabet.UNICODE.isConsonant('ў'));
+        String expectedRemovalResult = "Ўсё і ўсе з ехалі café Київ  ґанок ЁЖИК word\tДзень";
+        assertEquals(expectedRemovalResult, TextProcessingStringUtils.removeAllNotAlphabeticExceptSpaces(testText));
+        assertEquals("Ўсё і ўсе #'ехалі, # # - ґанок(2) ЁЖИК #!\t#",
+                     TextProcessingStringUtils.replaceEachWordByPredicate(testText, consonantPredicate, "#"));
+        CharacterClassifier.setAlphabet(Alphabet.UNICODE);
+        try {
+            assertEquals(expectedRemovalResult,
+                         TextProcessingStringUtils.removeAllNotAlphabeticExceptSpaces(testText));
+            assertEquals("# і # #'ехалі, # # - #(2) ЁЖИК #!\t#",
+                         TextProcessingStringUtils.replaceEachWordByPredicate(testText, consonantPredicate, "#"));
+        } finally {
+            CharacterClassifier.setAlphabet(Alphabet.DEFAULT);
+        }
+    }
+
+    @Test
+    void classifyTest() {
+        assertTrue(Alphabet.UNICODE.isLetter('é'));
+        assertFalse(Alphabet.LATIN.isLetter('é'));
+        assertTrue(Alphabet.LATIN.isAlphabeticOrDigit('7'));
+        assertTrue(Alphabet.BELARUSIAN.isConsonant('Ў'));
+        assertTrue(Alphabet.BELARUSIAN.isVowel('і'));
+        assertFalse(Alphabet.BELARUSIAN.isLetter('и'));
+        assertTrue(Alphabet.UKRAINIAN.isVowel('Ї'));
+        assertTrue(Alphabet.UKRAINIAN.isConsonant('ґ'));
+        assertFalse(Alphabet.RUSSIAN.isLetter('w'));
+        assertTrue(Alphabet.LATIN.union(Alphabet.RUSSIAN).isLetter('w'));
+        assertTrue(Alphabet.of("", "ß").isConsonant('ß'));
+        assertTrue(Alphabet.of("", "ß").isAlphabeticOrSpace('\n'));
+        assertTrue(Alphabet.of("A", "B").isVowel('a'));
+        assertTrue(Alphabet.of("A", "B").isConsonant('B'));
+        assertTrue(Alphabet.of("Ё", "Ў").isLetter('ў'));
+        CharacterClassifier.setAlphabet(Alphabet.BELARUSIAN);
+        try {
+            assertEquals(FirstLetterClass.VOWEL, FirstLetterClass.of('І'));
+            assertEquals(FirstLetterClass.OTHER, FirstLetterClass.of('w'));
+        } finally {
+            CharacterClassifier.setAlphabet(Alphabet.DEFAULT);
+        }
+    }
+
+    @Test
+    void alphabetInvalidTest() {
+        assertThrows(IllegalArgumentException.class, () -> Alphabet.of(null, "b"));
+        assertThrows(IllegalArgumentException.class, () -> Alphabet.of("a", "'"));
+        assertThrows(IllegalArgumentException.class, () -> Alphabet.LATIN.union(null));
+        assertThrows(IllegalArgumentException.class, () -> CharacterClassifier.setAlphabet(null));
+        assertThrows(IllegalArgumentException.class, () -> TextOperations.removeAllNotAlphabeticExceptSpaces(null));
+        assertThrows(IllegalArgumentException.class, () -> IndexedText.of(testText, null));
+        assertThrows(IllegalArgumentException.class, () -> {
+            new WordSpanCursor().reset(testText, 0, testText.length(), null);
+        });
+    }
+
+    private static String decode(byte[] utf8Text) {
+        return new String(utf8Text, StandardCharsets.UTF_8);
+    }
+}
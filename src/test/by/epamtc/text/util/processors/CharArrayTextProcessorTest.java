@@ -0,0 +1,78 @@
+package by.epamtc.text.util.processors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SuppressWarnings({"unused", "CodeBlock2Expr"})
+class CharArrayTextProcessorTest {
+
+    private static WordSlicePredicate consonantPrefixWordPredicate =
+            WordPredicate.specifyWordAsSliceLength(4)
+                         .and(WordPredicate.CONSONANT_PREFIX_PREDICATE_SLICE_IMPLEMENTATION);
+
+    private static Stream<Arguments> provideTexts() {
+        return Stream.of(Arguments.of("First(1) word, second(2) word, third(3) word - six(6) words!"),
+                         Arguments.of("Рарара  рама, (ра)ма - карандаш... Ёлка ёж Эра"),
+                         Arguments.of(""));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideTexts")
+    void processingValidTest(String testText) throws TextProcessingException {
+        String expectedResult = TextProcessingStringUtils.replaceLetterByPositionInWord(testText, 1, '_');
+        expectedResult = TextProcessingStringUtils.replaceEachLetterAfter(expectedResult, 'р', 'а', 'о');
+        expectedResult = TextProcessingStringUtils.replaceEachWordByPredicate(expectedResult,
+                                                                              consonantPrefixWordPredicate,
+                                                                              "replacement");
+        expectedResult = TextProcessingStringUtils.removeAllNotAlphabeticExceptSpaces(expectedResult);
+        CharArrayTextProcessor processor = new CharArrayTextProcessor(4);
+        for (int i = 0; i < 3; i++) {
+            processor.load(testText)
+                     .replaceLetterByPositionInWord(1, '_')
+                     .replaceEachLetterAfter('р', 'а', 'о')
+                     .replaceEachWordByPredicate(consonantPrefixWordPredicate, "replacement".toCharArray())
+                     .removeAllNotAlphabeticExceptSpaces();
+            assertEquals(expectedResult, processor.toString());
+            assertEquals(expectedResult.length(), processor.getLength());
+        }
+    }
+
+    @Test
+    void loadRangeValidTest() throws TextProcessingException {
+        CharArrayTextProcessor processor = new CharArrayTextProcessor();
+        processor.load("one two three".toCharArray(), 4, 13).replaceEachWordByPredicate(
+                WordPredicate.specifyWordAsSliceLength(3), "2".toCharArray());
+        assertEquals("2 three", processor.toString());
+        assertEquals("", processor.reset().toString());
+    }
+
+    @Test
+    void forCurrentThreadTest() {
+        assertSame(CharArrayTextProcessor.forCurrentThread(), CharArrayTextProcessor.forCurrentThread());
+    }
+
+    @Test
+    void processingInvalidTest() {
+        CharArrayTextProcessor processor = new CharArrayTextProcessor();
+        assertThrows(TextProcessingException.class, () -> {
+            processor.load((CharSequence) null);
+        });
+        assertThrows(TextProcessingException.class, () -> {
+            processor.load("text".toCharArray(), 2, 5);
+        });
+        assertThrows(TextProcessingException.class, () -> {
+            processor.replaceLetterByPositionInWord(-1, '_');
+        });
+        assertThrows(TextProcessingException.class, () -> {
+            processor.replaceEachWordByPredicate(null, new char[0]);
+        });
+    }
+}
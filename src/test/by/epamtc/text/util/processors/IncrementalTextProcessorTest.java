@@ -0,0 +1,74 @@
+package by.epamtc.text.util.processors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SuppressWarnings({"unused", "CodeBlock2Expr"})
+class IncrementalTextProcessorTest {
+
+    private static String testText = "First(1) word, second(2) word,\r\nthird(3) word - six(6) words!\n" +
+                                     "Рарара  рама, (ра)ма - карандаш...\n\n  raaar";
+    private static String[] insertions = {"", " ", "ра", "r", "a", "word ", "(1)", "\n", "рама, ", "xyz"};
+
+    private static Stream<Arguments> provideArgumentsForEditTest() {
+        return Stream.of(Arguments.of(TextOperations.replaceLetterByPositionInWord(2, '_'), 1),
+                         Arguments.of(TextOperations.replaceEachLetterAfter('р', 'а', 'о'), 8),
+                         Arguments.of(TextOperations.replaceEachLetterAfter('a', 'a', 'o'), 3),
+                         Arguments.of(TextOperations.replaceEachLetterAfter(' ', ' ', '_'), 5),
+                         Arguments.of(TextOperations.replaceEachWordByPredicate(
+                                 WordPredicate.specifyWordAsSliceLength(4), "hello world"), 16),
+                         Arguments.of(TextOperations.removeAllNotAlphabeticExceptSpaces(), 4),
+                         Arguments.of(TextPipeline.of(TextOperations.replaceEachLetterAfter('r', 'a', 'o'),
+                                                      TextOperations.removeAllNotAlphabeticExceptSpaces()), 10));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideArgumentsForEditTest")
+    void editTest(TextOperation operation, int blockLength) throws TextProcessingException {
+        IncrementalTextProcessor processor = new IncrementalTextProcessor(operation, blockLength);
+        processor.load(testText);
+        assertEquals(operation.apply(testText), processor.getResult());
+        StringBuilder expectedText = new StringBuilder(testText);
+        Random random = new Random(blockLength);
+        for (int i = 0; i < 300; i++) {
+            int offset = random.nextInt(expectedText.length() + 1);
+            int removedLength = random.nextInt(Math.min(6, expectedText.length() - offset) + 1);
+            String insertedText = insertions[random.nextInt(insertions.length)];
+            expectedText.replace(offset, offset + removedLength, insertedText);
+            processor.edit(offset, removedLength, insertedText);
+            assertEquals(expectedText.toString(), processor.getText());
+            assertEquals(operation.apply(expectedText.toString()), processor.getResult());
+        }
+    }
+
+    @Test
+    void editInvalidTest() throws TextProcessingException {
+        IncrementalTextProcessor processor = new IncrementalTextProcessor(
+                TextOperations.removeAllNotAlphabeticExceptSpaces());
+        processor.load("text");
+        assertThrows(TextProcessingException.class, () -> {
+            processor.edit(3, 2, "");
+        });
+        assertThrows(TextProcessingException.class, () -> {
+            processor.edit(-1, 0, "");
+        });
+        assertThrows(TextProcessingException.class, () -> {
+            processor.edit(0, 0, null);
+        });
+        assertThrows(TextProcessingException.class, () -> {
+            new IncrementalTextProcessor(null);
+        });
+        assertThrows(TextProcessingException.class, () -> {
+            processor.load(null);
+        });
+        assertEquals("text", processor.getResult());
+    }
+}
@@ -0,0 +1,82 @@
+package by.epamtc.text.util.processors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SuppressWarnings({"unused", "CodeBlock2Expr"})
+class IndexedTextTest {
+
+    private static String testText = "First(1) word, second(2) word, third(3) word - six(6) words! " +
+                                     "Ёлка ёж арка 42";
+    private static String longWordsText = "a".repeat(100_000) + " bb, " + "к".repeat(100_000) + " " +
+                                          "d".repeat(70) + "(" + "e".repeat(65) + ")";
+
+    private static Stream<Arguments> provideArgumentsForReplaceEachWordByLengthValidTest() {
+        return Stream.of(Arguments.of(testText, 4, "hello world"),
+                         Arguments.of(testText, 5, ""),
+                         Arguments.of(testText, 2, "_"),
+                         Arguments.of(testText, 1, "one"),
+                         Arguments.of(testText, 100, "none"),
+                         Arguments.of(testText, 0, "none"),
+                         Arguments.of("", 4, "none"),
+                         Arguments.of(longWordsText, 100_000, "x"),
+                         Arguments.of(longWordsText, 70, "y"),
+                         Arguments.of(longWordsText, 65, "z"),
+                         Arguments.of(longWordsText, 2, "_"),
+                         Arguments.of(longWordsText, 99_999, "none"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideArgumentsForReplaceEachWordByLengthValidTest")
+    void replaceEachWordByLengthValidTest(String testText, int wordLength, String replacement)
+            throws TextProcessingException {
+        IndexedText indexedText = IndexedText.of(testText);
+        WordSlicePredicate lengthPredicate = WordPredicate.specifyWordAsSliceLength(wordLength);
+        assertEquals(TextProcessingStringUtils.replaceEachWordByPredicate(testText, lengthPredicate, replacement),
+                     indexedText.replaceEachWordByLength(wordLength, replacement));
+        assertEquals(TextProcessingStringUtils.replaceEachWordByPredicate(
+                             testText, lengthPredicate.and(WordPredicate.VOWEL_PREFIX_PREDICATE_SLICE_IMPLEMENTATION),
+                             replacement),
+                     indexedText.replaceEachWordByLength(wordLength, FirstLetterClass.VOWEL, replacement));
+        assertEquals(TextProcessingStringUtils.replaceEachWordByPredicate(
+                             testText,
+                             lengthPredicate.and(WordPredicate.CONSONANT_PREFIX_PREDICATE_SLICE_IMPLEMENTATION),
+                             replacement),
+                     indexedText.replaceEachWordByLength(wordLength, FirstLetterClass.CONSONANT, replacement));
+        assertEquals(TextProcessingStringUtils.replaceEachWordByPredicate(testText, lengthPredicate, replacement),
+                     indexedText.replaceEachWordByPredicate(lengthPredicate, replacement));
+    }
+
+    @Test
+    void countWordsValidTest() throws TextProcessingException {
+        IndexedText indexedText = IndexedText.of(testText);
+        assertEquals(16, indexedText.countWords());
+        assertEquals(5, indexedText.countWords(4));
+        assertEquals(3, indexedText.countWords(4, FirstLetterClass.CONSONANT));
+        assertEquals(2, indexedText.countWords(4, FirstLetterClass.VOWEL));
+        assertEquals(4, indexedText.countWords(1, FirstLetterClass.OTHER));
+    }
+
+    @Test
+    void indexedTextInvalidTest() {
+        assertThrows(TextProcessingException.class, () -> {
+            IndexedText.of(null);
+        });
+        assertThrows(TextProcessingException.class, () -> {
+            IndexedText.of(testText).replaceEachWordByLength(4, null);
+        });
+        assertThrows(TextProcessingException.class, () -> {
+            IndexedText.of(testText).replaceEachWordByLength(4, null, "replacement");
+        });
+        assertThrows(TextProcessingException.class, () -> {
+            IndexedText.of(testText).replaceEachWordByPredicate(null, "replacement");
+        });
+    }
+}
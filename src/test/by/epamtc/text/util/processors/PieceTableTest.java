@@ -0,0 +1,87 @@
+package by.epamtc.text.util.processors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SuppressWarnings({"unused", "CodeBlock2Expr"})
+class PieceTableTest {
+
+    private static String testText = "First(1) word, second(2) word, third(3) word - six(6) words!";
+    private static WordSlicePredicate consonantPrefixWordPredicate =
+            WordPredicate.specifyWordAsSliceLength(5)
+                         .and(WordPredicate.CONSONANT_PREFIX_PREDICATE_SLICE_IMPLEMENTATION);
+
+    private static Stream<Arguments> provideArgumentsForReplaceEachWordByPredicateAsPiecesTest() {
+        return Stream.of(Arguments.of(testText, WordPredicate.specifyWordAsSliceLength(4), "hello world"),
+                         Arguments.of(testText, consonantPrefixWordPredicate, ""),
+                         Arguments.of(testText, WordPredicate.specifyWordAsSliceLength(1), "$1\\"),
+                         Arguments.of(testText, WordPredicate.specifyWordAsSliceLength(7), "none"),
+                         Arguments.of("word", WordPredicate.specifyWordAsSliceLength(4), ""),
+                         Arguments.of("", WordPredicate.specifyWordAsSliceLength(4), "none"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideArgumentsForReplaceEachWordByPredicateAsPiecesTest")
+    void replaceEachWordByPredicateAsPiecesTest(String testText, WordSlicePredicate predicate, String replacement)
+            throws TextProcessingException, IOException {
+        String expectedResult = TextProcessingStringUtils.replaceEachWordByPredicate(testText, predicate, replacement);
+        PieceTable stringPieces = TextProcessingStringUtils.replaceEachWordByPredicateAsPieces(testText, predicate,
+                                                                                                replacement);
+        PieceTable charArrayPieces = TextProcessingCharArrayUtils.replaceEachWordByPredicateAsPieces(
+                testText.toCharArray(), predicate, replacement.toCharArray());
+        StringWriter writer = new StringWriter();
+        charArrayPieces.writeTo(writer);
+        assertEquals(expectedResult, writer.toString());
+        assertEquals(expectedResult.length(), stringPieces.length());
+        for (int i = 0; i < expectedResult.length(); i++) {
+            assertEquals(expectedResult.charAt(i), stringPieces.charAt(i));
+        }
+        for (int i = 0; i <= expectedResult.length(); i += 3) {
+            assertEquals(expectedResult.substring(i / 2, i), stringPieces.subSequence(i / 2, i).toString());
+        }
+        assertEquals(expectedResult, stringPieces.toString());
+        assertEquals(expectedResult, charArrayPieces.toString());
+        assertEquals(expectedResult, TextProcessingRegexUtils.replaceEachWordByPredicate(testText, predicate,
+                                                                                          replacement));
+    }
+
+    @Test
+    void pieceTableInvalidTest() throws TextProcessingException {
+        PieceTable pieces = TextProcessingStringUtils.replaceEachWordByPredicateAsPieces(
+                "text", WordPredicate.specifyWordAsSliceLength(4), "word");
+        assertThrows(IndexOutOfBoundsException.class, () -> {
+            pieces.charAt(4);
+        });
+        assertThrows(IndexOutOfBoundsException.class, () -> {
+            pieces.subSequence(2, 1);
+        });
+        assertThrows(TextProcessingException.class, () -> {
+            TextProcessingCharArrayUtils.replaceEachWordByPredicateAsPieces(null,
+                                                                            WordPredicate.specifyWordAsSliceLength(4),
+                                                                            new char[0]);
+        });
+    }
+
+    @Test
+    void pieceTableTooLongTest() {
+        String text = "a ".repeat(1_000_000);
+        String replacement = "x".repeat(3000);
+        WordSlicePredicate predicate = WordPredicate.specifyWordAsSliceLength(1);
+        assertThrows(TextProcessingException.class, () -> {
+            TextProcessingStringUtils.replaceEachWordByPredicateAsPieces(text, predicate, replacement);
+        });
+        assertThrows(TextProcessingException.class, () -> {
+            TextProcessingCharArrayUtils.replaceEachWordByPredicateAsPieces(text.toCharArray(), predicate,
+                                                                            replacement.toCharArray());
+        });
+    }
+}
@@ -0,0 +1,307 @@
+package by.epamtc.text.util.processors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SuppressWarnings({"unused", "CodeBlock2Expr"})
+class ProcessingStatisticsTest {
+
+    private static String testText = "First(1) word, second(2) word, third(3) word - six(6) words!";
+    private static ProcessingEngine[] testedEngines = {ProcessingEngine.REGEX, ProcessingEngine.STRING,
+                                                       ProcessingEngine.CHAR_ARRAY, ProcessingEngine.UTF_8};
+    private static WordSlicePredicate lengthPredicate = WordPredicate.specifyWordAsSliceLength(4);
+
+    private static Stream<Arguments> provideArgumentsForOperationStatisticsTest() {
+        return Stream.of(Arguments.of(ProcessingOperation.REPLACE_LETTER_BY_POSITION_IN_WORD, 12, 0, 8),
+                         Arguments.of(ProcessingOperation.REPLACE_EACH_LETTER_AFTER, 0, 0, 4),
+                         Arguments.of(ProcessingOperation.REPLACE_EACH_WORD_BY_PREDICATE, 12, 3, 3),
+                         Arguments.of(ProcessingOperation.REMOVE_ALL_NOT_ALPHABETIC_EXCEPT_SPACES, 0, 0, 8));
+    }
+
+    private static Stream<Arguments> provideArgumentsForProcessingPathTest() {
+        return Stream.of(
+                Arguments.of(ProcessingEngine.STRING, ProcessingOperation.REPLACE_EACH_LETTER_AFTER,
+                             (ProcessingPath) () -> {
+                                 TextOperations.replaceEachLetterAfter('w', 'o', 'a').apply(testText);
+                             }),
+                Arguments.of(ProcessingEngine.STRING, ProcessingOperation.REPLACE_EACH_LETTER_AFTER,
+                             (ProcessingPath) () -> {
+                                 TextProcessingStringUtils.replaceEachLetterAfter(testText, createRules());
+                             }),
+                Arguments.of(ProcessingEngine.STRING, ProcessingOperation.REPLACE_EACH_WORD_BY_PREDICATE,
+                             (ProcessingPath) () -> {
+                                 TextProcessingStringUtils.replaceEachWordByPredicate(testText, word -> true, "w");
+                             }),
+                Arguments.of(ProcessingEngine.STRING, ProcessingOperation.REPLACE_EACH_WORD_BY_PREDICATE,
+                             (ProcessingPath) () -> {
+                                 TextProcessingStringUtils.replaceEachWordByPredicateAsPieces(testText,
+                                                                                              lengthPredicate, "w");
+                             }),
+                Arguments.of(ProcessingEngine.STRING, ProcessingOperation.REMOVE_ALL_NOT_ALPHABETIC_EXCEPT_SPACES,
+                             (ProcessingPath) () -> {
+                                 TextOperations.removeAllNotAlphabeticExceptSpaces().apply(testText);
+                             }),
+                Arguments.of(ProcessingEngine.CHAR_ARRAY, ProcessingOperation.REPLACE_EACH_LETTER_AFTER,
+                             (ProcessingPath) () -> {
+                                 TextProcessingCharArrayUtils.replaceEachLetterAfter(testText.toCharArray(),
+                                                                                     createRules());
+                             }),
+                Arguments.of(ProcessingEngine.CHAR_ARRAY, ProcessingOperation.REPLACE_EACH_WORD_BY_PREDICATE,
+                             (ProcessingPath) () -> {
+                                 TextProcessingCharArrayUtils.replaceEachWordByPredicateInPlace(
+                                         testText.toCharArray(), testText.length(), lengthPredicate,
+                                         "w".toCharArray());
+                             }),
+                Arguments.of(ProcessingEngine.CHAR_ARRAY, ProcessingOperation.REPLACE_EACH_WORD_BY_PREDICATE,
+                             (ProcessingPath) () -> {
+                                 TextProcessingCharArrayUtils.replaceEachWordByPredicateAsPieces(
+                                         testText.toCharArray(), lengthPredicate, "w".toCharArray());
+                             }),
+                Arguments.of(ProcessingEngine.CHAR_ARRAY, ProcessingOperation.REMOVE_ALL_NOT_ALPHABETIC_EXCEPT_SPACES,
+                             (ProcessingPath) () -> {
+                                 TextProcessingCharArrayUtils.removeAllNotAlphabeticExceptSpacesInPlace(
+                                         testText.toCharArray(), testText.length());
+                             }),
+                Arguments.of(ProcessingEngine.CHAR_ARRAY, ProcessingOperation.REPLACE_LETTER_BY_POSITION_IN_WORD,
+                             (ProcessingPath) () -> {
+                                 new CharArrayTextProcessor().load(testText).replaceLetterByPositionInWord(1, 'a');
+                             }),
+                Arguments.of(ProcessingEngine.CHAR_ARRAY, ProcessingOperation.REPLACE_EACH_LETTER_AFTER,
+                             (ProcessingPath) () -> {
+                                 new CharArrayTextProcessor().load(testText).replaceEachLetterAfter(createRules());
+                             }),
+                Arguments.of(ProcessingEngine.CHAR_ARRAY, ProcessingOperation.REPLACE_EACH_WORD_BY_PREDICATE,
+                             (ProcessingPath) () -> {
+                                 new CharArrayTextProcessor().load(testText)
+                                                             .replaceEachWordByPredicate(lengthPredicate,
+                                                                                         "w".toCharArray());
+                             }),
+                Arguments.of(ProcessingEngine.CHAR_ARRAY, ProcessingOperation.REMOVE_ALL_NOT_ALPHABETIC_EXCEPT_SPACES,
+                             (ProcessingPath) () -> {
+                                 new CharArrayTextProcessor().load(testText).removeAllNotAlphabeticExceptSpaces();
+                             }));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideArgumentsForOperationStatisticsTest")
+    void operationStatisticsTest(ProcessingOperation operation, int expectedWordsScanned, int expectedPredicateHits,
+                                 int expectedReplacements) throws TextProcessingException {
+        ProcessingStatistics statistics = new ProcessingStatistics();
+        String expectedResult;
+        ProcessingMetrics.setListener(statistics);
+        try {
+            expectedResult = applyOperation(ProcessingEngine.REGEX, operation);
+            assertEquals(expectedResult, applyOperation(ProcessingEngine.STRING, operation));
+            assertEquals(expectedResult, applyOperation(ProcessingEngine.CHAR_ARRAY, operation));
+            assertEquals(expectedResult, applyOperation(ProcessingEngine.UTF_8, operation));
+        } finally {
+            ProcessingMetrics.setListener(null);
+        }
+        for (ProcessingEngine engine : testedEngines) {
+            OperationStatistics operationStatistics = statistics.getStatistics(engine, operation);
+            assertEquals(1, operationStatistics.getCalls());
+            assertEquals(testText.length(), operationStatistics.getCharsIn());
+            assertEquals(expectedResult.length(), operationStatistics.getCharsOut());
+            assertEquals(expectedWordsScanned, operationStatistics.getWordsScanned());
+            assertEquals(expectedPredicateHits, operationStatistics.getPredicateHits());
+            assertEquals(expectedReplacements, operationStatistics.getReplacements());
+            long[] latencyHistogram = operationStatistics.getLatencyHistogram();
+            long histogramCalls = 0;
+            for (long bucketCalls : latencyHistogram) {
+                histogramCalls += bucketCalls;
+            }
+            assertEquals(1, histogramCalls);
+            assertTrue(operationStatistics.getLatencyMedianNanos() > 0);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideArgumentsForProcessingPathTest")
+    void processingPathTest(ProcessingEngine engine, ProcessingOperation operation, ProcessingPath path)
+            throws TextProcessingException {
+        ProcessingStatistics statistics = new ProcessingStatistics();
+        ProcessingMetrics.setListener(statistics);
+        try {
+            path.run();
+        } finally {
+            ProcessingMetrics.setListener(null);
+        }
+        assertEquals(1, countAllCalls(statistics));
+        assertEquals(1, statistics.getStatistics(engine, operation).getCalls());
+        assertEquals(testText.length(), statistics.getStatistics(engine, operation).getCharsIn());
+    }
+
+    @Test
+    void fusedPipelineStatisticsTest() throws TextProcessingException {
+        TextOperation letterOperation = TextOperations.replaceLetterByPositionInWord(1, 'a');
+        TextOperation wordOperation = TextOperations.replaceEachWordByPredicate(lengthPredicate, "none");
+        ProcessingStatistics expectedStatistics = new ProcessingStatistics();
+        ProcessingMetrics.setListener(expectedStatistics);
+        try {
+            wordOperation.apply(letterOperation.apply(testText));
+        } finally {
+            ProcessingMetrics.setListener(null);
+        }
+        ProcessingStatistics statistics = new ProcessingStatistics();
+        ProcessingMetrics.setListener(statistics);
+        try {
+            TextPipeline.of(letterOperation, wordOperation).apply(testText);
+        } finally {
+            ProcessingMetrics.setListener(null);
+        }
+        assertEquals(2, countAllCalls(statistics));
+        for (ProcessingOperation operation : new ProcessingOperation[]{
+                ProcessingOperation.REPLACE_LETTER_BY_POSITION_IN_WORD,
+                ProcessingOperation.REPLACE_EACH_WORD_BY_PREDICATE}) {
+            OperationStatistics expected = expectedStatistics.getStatistics(ProcessingEngine.STRING, operation);
+            OperationStatistics actual = statistics.getStatistics(ProcessingEngine.STRING, operation);
+            assertEquals(1, actual.getCalls());
+            assertEquals(expected.getCharsIn(), actual.getCharsIn());
+            assertEquals(expected.getCharsOut(), actual.getCharsOut());
+            assertEquals(expected.getWordsScanned(), actual.getWordsScanned());
+            assertEquals(expected.getPredicateHits(), actual.getPredicateHits());
+            assertEquals(expected.getReplacements(), actual.getReplacements());
+        }
+    }
+
+    @Test
+    void parallelStatisticsTest() throws TextProcessingException {
+        String text = (testText + " ").repeat(20);
+        ProcessingStatistics statistics = new ProcessingStatistics();
+        ForkJoinPool pool = new ForkJoinPool(2);
+        ProcessingMetrics.setListener(statistics);
+        try {
+            TextProcessingParallelUtils.apply(text, TextOperations.replaceEachLetterAfter('w', 'o', 'a'), pool, 100);
+        } finally {
+            ProcessingMetrics.setListener(null);
+            pool.shutdownNow();
+        }
+        OperationStatistics operationStatistics =
+                statistics.getStatistics(ProcessingEngine.STRING, ProcessingOperation.REPLACE_EACH_LETTER_AFTER);
+        assertTrue(operationStatistics.getCalls() > 1);
+        assertEquals(countAllCalls(statistics), operationStatistics.getCalls());
+        assertEquals(text.length(), operationStatistics.getCharsIn());
+        assertEquals(80, operationStatistics.getReplacements());
+    }
+
+    @Test
+    void metricsDisabledTest() throws TextProcessingException {
+        ProcessingStatistics statistics = new ProcessingStatistics();
+        ProcessingMetrics.setListener(statistics);
+        ProcessingMetrics.setListener(null);
+        TextProcessingStringUtils.replaceLetterByPositionInWord(testText, 1, 'a');
+        assertEquals(0, statistics.getStatistics(ProcessingEngine.STRING,
+                                                 ProcessingOperation.REPLACE_LETTER_BY_POSITION_IN_WORD).getCalls());
+    }
+
+    @Test
+    void registerMBeansTest() throws JMException {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ProcessingStatistics statistics = new ProcessingStatistics();
+        ObjectName name = new ObjectName("by.epamtc.text:type=OperationStatistics,engine=STRING," +
+                                         "operation=REPLACE_EACH_LETTER_AFTER");
+        statistics.registerMBeans(server);
+        try {
+            assertTrue(server.isRegistered(name));
+            assertEquals(0L, server.getAttribute(name, "Calls"));
+        } finally {
+            statistics.unregisterMBeans(server);
+        }
+        assertFalse(server.isRegistered(name));
+    }
+
+    private static long countAllCalls(ProcessingStatistics statistics) {
+        long callsCount = 0;
+        for (ProcessingEngine engine : ProcessingEngine.values()) {
+            for (ProcessingOperation operation : ProcessingOperation.values()) {
+                callsCount += statistics.getStatistics(engine, operation).getCalls();
+            }
+        }
+        return callsCount;
+    }
+
+    private static LetterAfterRuleSet createRules() throws TextProcessingException {
+        return LetterAfterRuleSet.empty().with('w', 'o', 'a').with('r', 'd', 'k');
+    }
+
+    private static String applyOperation(ProcessingEngine engine, ProcessingOperation operation)
+            throws TextProcessingException {
+        WordSlicePredicate predicate = lengthPredicate;
+        switch (engine) {
+            case REGEX:
+                switch (operation) {
+                    case REPLACE_LETTER_BY_POSITION_IN_WORD:
+                        return TextProcessingRegexUtils.replaceLetterByPositionInWord(testText, 1, 'a');
+                    case REPLACE_EACH_LETTER_AFTER:
+                        return TextProcessingRegexUtils.replaceEachLetterAfter(testText, 'w', 'o', 'a');
+                    case REPLACE_EACH_WORD_BY_PREDICATE:
+                        return TextProcessingRegexUtils.replaceEachWordByPredicate(testText, predicate, "none");
+                    default:
+                        return TextProcessingRegexUtils.removeAllNotAlphabeticExceptSpaces(testText);
+                }
+            case STRING:
+                switch (operation) {
+                    case REPLACE_LETTER_BY_POSITION_IN_WORD:
+                        return TextProcessingStringUtils.replaceLetterByPositionInWord(testText, 1, 'a');
+                    case REPLACE_EACH_LETTER_AFTER:
+                        return TextProcessingStringUtils.replaceEachLetterAfter(testText, 'w', 'o', 'a');
+                    case REPLACE_EACH_WORD_BY_PREDICATE:
+                        return TextProcessingStringUtils.replaceEachWordByPredicate(testText, predicate, "none");
+                    default:
+                        return TextProcessingStringUtils.removeAllNotAlphabeticExceptSpaces(testText);
+                }
+            case UTF_8:
+                byte[] utf8Text = testText.getBytes(StandardCharsets.UTF_8);
+                switch (operation) {
+                    case REPLACE_LETTER_BY_POSITION_IN_WORD:
+                        return decode(TextProcessingUtf8Utils.replaceLetterByPositionInWord(utf8Text, 1, 'a'));
+                    case REPLACE_EACH_LETTER_AFTER:
+                        return decode(TextProcessingUtf8Utils.replaceEachLetterAfter(utf8Text, 'w', 'o', 'a'));
+                    case REPLACE_EACH_WORD_BY_PREDICATE:
+                        return decode(TextProcessingUtf8Utils.replaceEachWordByPredicate(
+                                utf8Text, predicate, "none".getBytes(StandardCharsets.UTF_8)));
+                    default:
+                        return decode(TextProcessingUtf8Utils.removeAllNotAlphabeticExceptSpaces(utf8Text));
+                }
+            default:
+                char[] text = testText.toCharArray();
+                switch (operation) {
+                    case REPLACE_LETTER_BY_POSITION_IN_WORD:
+                        TextProcessingCharArrayUtils.replaceLetterByPositionInWord(text, 1, 'a');
+                        return new String(text);
+                    case REPLACE_EACH_LETTER_AFTER:
+                        TextProcessingCharArrayUtils.replaceEachLetterAfter(text, 'w', 'o', 'a');
+                        return new String(text);
+                    case REPLACE_EACH_WORD_BY_PREDICATE:
+                        return new String(TextProcessingCharArrayUtils.replaceEachWordByPredicate(
+                                text, predicate, "none".toCharArray()));
+                    default:
+                        return new String(TextProcessingCharArrayUtils.removeAllNotAlphabeticExceptSpaces(text));
+                }
+        }
+    }
+
+    private static String decode(byte[] utf8Text) {
+        return new String(utf8Text, StandardCharsets.UTF_8);
+    }
+
+    @FunctionalInterface
+    private interface ProcessingPath {
+
+        void run() throws TextProcessingException;
+    }
+}
@@ -0,0 +1,131 @@
+package by.epamtc.text.util.processors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SuppressWarnings({"unused", "CodeBlock2Expr"})
+class RegexMatcherBackendTest {
+
+    private static String testText = "First(1) word, Второе(2) слово, THIRD_3 Ёжик - six(6) wordы! İstanbul, ǅungla";
+
+    private static Stream<Arguments> provideArgumentsForCompileTest() {
+        int unicodeCaseFlags = Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE;
+        return Stream.of(Arguments.of("[a-zа-яё0-9]+", Pattern.CASE_INSENSITIVE),
+                         Arguments.of("[^a-zа-яё ]+", Pattern.CASE_INSENSITIVE),
+                         Arguments.of("[a-zа-яё0-9]+", unicodeCaseFlags),
+                         Arguments.of("[^a-zа-яё ]+", unicodeCaseFlags),
+                         Arguments.of("[\\w\\-]+", unicodeCaseFlags),
+                         Arguments.of("[^\\s\\d]+", 0),
+                         Arguments.of("[ǅİi.]+", unicodeCaseFlags),
+                         Arguments.of("[-a]+", Pattern.CASE_INSENSITIVE),
+                         Arguments.of("[\\p{javaLetter}\\p{javaDigit}]+", 0),
+                         Arguments.of("[^\\p{javaLetter}\\p{javaWhitespace}]+", unicodeCaseFlags),
+                         Arguments.of("[\\p{javaLetter}\\p{javaDigit}" + CharClassRunPattern.BMP_INTERSECTION + "]+",
+                                      0),
+                         Arguments.of("[^\\p{javaLetter}" + CharClassRunPattern.BMP_INTERSECTION + "]+", 0));
+    }
+
+    private static Stream<Arguments> provideArgumentsForSupplementaryCharsTest() {
+        return Stream.of(Arguments.of("a\uD835\uDC00b c!d", "a\uD835\uDC00b c!d", "a b c d"),
+                         Arguments.of("ab\uD835\uDFCE9 x\uD835\uDC00", "a_\uD835\uDFCE9 x\uD835\uDC00",
+                                      "ab x"),
+                         Arguments.of("\uD835\uDC00\uD835\uDC01", "\uD835\uDC00\uD835\uDC01", ""));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideArgumentsForCompileTest")
+    void compileTest(String regex, int flags) {
+        SpanPattern dfaPattern = RegexMatcherBackend.DFA.compile(regex, flags);
+        SpanPattern jdkPattern = RegexMatcherBackend.JDK.compile(regex, flags);
+        assertTrue(dfaPattern instanceof CharClassRunPattern);
+        for (int i = 0; i <= Character.MAX_VALUE; i++) {
+            String character = String.valueOf((char) i);
+            assertEquals(jdkPattern.matcher(character).find(), dfaPattern.matcher(character).find());
+        }
+        SpanMatcher dfaMatcher = dfaPattern.matcher(testText);
+        SpanMatcher jdkMatcher = jdkPattern.matcher(testText);
+        while (jdkMatcher.find()) {
+            assertTrue(dfaMatcher.find());
+            assertEquals(jdkMatcher.start(), dfaMatcher.start());
+            assertEquals(jdkMatcher.end(), dfaMatcher.end());
+        }
+        assertFalse(dfaMatcher.find());
+        assertThrows(IllegalStateException.class, dfaMatcher::start);
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideArgumentsForSupplementaryCharsTest")
+    void supplementaryCharsTest(String text, String expectedLetterResult, String expectedRemovalResult)
+            throws TextProcessingException {
+        SpanMatcher dfaMatcher = RegexMatcherBackend.DFA.compile("[^\\p{javaLetter}" +
+                                                                 CharClassRunPattern.BMP_INTERSECTION + "]+", 0)
+                                                        .matcher(text);
+        SpanMatcher jdkMatcher = RegexMatcherBackend.JDK.compile("[^\\p{javaLetter}" +
+                                                                 CharClassRunPattern.BMP_INTERSECTION + "]+", 0)
+                                                        .matcher(text);
+        while (jdkMatcher.find()) {
+            assertTrue(dfaMatcher.find());
+            assertEquals(jdkMatcher.start(), dfaMatcher.start());
+            assertEquals(jdkMatcher.end(), dfaMatcher.end());
+        }
+        assertFalse(dfaMatcher.find());
+        assertEquals(expectedLetterResult, TextProcessingStringUtils.replaceLetterByPositionInWord(text, 1, '_'));
+        assertEquals(expectedRemovalResult, TextProcessingStringUtils.removeAllNotAlphabeticExceptSpaces(text));
+        char[] textArray = text.toCharArray();
+        TextProcessingCharArrayUtils.replaceLetterByPositionInWord(textArray, 1, '_');
+        assertEquals(expectedLetterResult, new String(textArray));
+        assertEquals(expectedRemovalResult,
+                     new String(TextProcessingCharArrayUtils.removeAllNotAlphabeticExceptSpaces(text.toCharArray())));
+        try {
+            for (RegexMatcherBackend backend : RegexMatcherBackend.values()) {
+                TextProcessingRegexUtils.setMatcherBackend(backend);
+                assertEquals(expectedLetterResult, TextProcessingRegexUtils.replaceLetterByPositionInWord(text, 1,
+                                                                                                           '_'));
+                assertEquals(expectedRemovalResult, TextProcessingRegexUtils.removeAllNotAlphabeticExceptSpaces(text));
+            }
+        } finally {
+            TextProcessingRegexUtils.setMatcherBackend(RegexMatcherBackend.JDK);
+        }
+    }
+
+    @Test
+    void compileUnsupportedPatternTest() {
+        assertFalse(RegexMatcherBackend.DFA.compile("[a-z]*", 0) instanceof CharClassRunPattern);
+        assertFalse(RegexMatcherBackend.DFA.compile("[a-z[0-9]]+", 0) instanceof CharClassRunPattern);
+        assertFalse(RegexMatcherBackend.DFA.compile("[a-z]+", Pattern.COMMENTS) instanceof CharClassRunPattern);
+        assertFalse(RegexMatcherBackend.DFA.compile("[\\p{L}]+", 0) instanceof CharClassRunPattern);
+        assertFalse(RegexMatcherBackend.DFA.compile("[\\p{javaLetter}-z]+", 0) instanceof CharClassRunPattern);
+        assertTrue(RegexMatcherBackend.DFA.compile("word", 0).matcher("a word").find());
+    }
+
+    @Test
+    void setMatcherBackendTest() throws TextProcessingException {
+        WordSlicePredicate predicate = WordPredicate.specifyWordAsSliceLength(4)
+                                                    .and(WordPredicate.CONSONANT_PREFIX_PREDICATE_SLICE_IMPLEMENTATION);
+        String expectedLetterResult = TextProcessingRegexUtils.replaceLetterByPositionInWord(testText, 2, '_');
+        String expectedWordResult = TextProcessingRegexUtils.replaceEachWordByPredicate(testText, predicate, "$1");
+        String expectedRemovalResult = TextProcessingRegexUtils.removeAllNotAlphabeticExceptSpaces(testText);
+        TextProcessingRegexUtils.setMatcherBackend(RegexMatcherBackend.DFA);
+        try {
+            assertEquals(RegexMatcherBackend.DFA, TextProcessingRegexUtils.getMatcherBackend());
+            assertEquals(expectedLetterResult, TextProcessingRegexUtils.replaceLetterByPositionInWord(testText, 2,
+                                                                                                       '_'));
+            assertEquals(expectedWordResult, TextProcessingRegexUtils.replaceEachWordByPredicate(testText, predicate,
+                                                                                                  "$1"));
+            assertEquals(expectedRemovalResult, TextProcessingRegexUtils.removeAllNotAlphabeticExceptSpaces(testText));
+        } finally {
+            TextProcessingRegexUtils.setMatcherBackend(RegexMatcherBackend.JDK);
+        }
+        assertThrows(IllegalArgumentException.class, () -> TextProcessingRegexUtils.setMatcherBackend(null));
+    }
+}
@@ -0,0 +1,69 @@
+package by.epamtc.text.util.processors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SuppressWarnings({"unused", "CodeBlock2Expr"})
+class TextPipelineTest {
+
+    private static String testText = "First(1) word, second(2) word, third(3) word - six(6) words!\n" +
+                                     "Рарара  рама, (ра)ма - карандаш...  raaar\taa a  драма ";
+    private static WordSlicePredicate consonantPrefixWordPredicate = WordPredicate
+            .specifyWordAsSliceLength(4)
+            .and(WordPredicate.CONSONANT_PREFIX_PREDICATE_SLICE_IMPLEMENTATION);
+
+    private static Stream<Arguments> provideArgumentsForApplyTest() {
+        return Stream.of(
+                Arguments.of((Object) new TextOperation[]{TextOperations.replaceLetterByPositionInWord(2, '_'),
+                                                          TextOperations.replaceEachLetterAfter('р', 'а', 'о'),
+                                                          TextOperations.replaceEachWordByPredicate(
+                                                                  consonantPrefixWordPredicate, "")}),
+                Arguments.of((Object) new TextOperation[]{TextOperations.replaceLetterByPositionInWord(1, ' '),
+                                                          TextOperations.replaceEachWordByPredicate(
+                                                                  WordPredicate.specifyWordAsSliceLength(1), "a-b"),
+                                                          TextOperations.replaceEachLetterAfter('a', 'a', 'o')}),
+                Arguments.of((Object) new TextOperation[]{TextOperations.replaceEachLetterAfter('d', ' ', '!'),
+                                                          TextOperations.replaceLetterByPositionInWord(0, '_'),
+                                                          TextOperations.removeAllNotAlphabeticExceptSpaces(),
+                                                          TextOperations.replaceLetterByPositionInWord(0, 'X'),
+                                                          TextOperations.replaceEachWordByPredicate(
+                                                                  WordPredicate.specifyWordAsSliceLength(3),
+                                                                  "three")}),
+                Arguments.of((Object) new TextOperation[]{TextOperations.removeAllNotAlphabeticExceptSpaces()}),
+                Arguments.of((Object) new TextOperation[0]));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideArgumentsForApplyTest")
+    void applyTest(TextOperation[] operations) throws TextProcessingException {
+        String expectedResult = testText;
+        for (TextOperation operation : operations) {
+            expectedResult = operation.apply(expectedResult);
+        }
+        TextPipeline pipeline = TextPipeline.of(operations);
+        assertEquals(expectedResult, pipeline.apply(testText));
+        String repeatedText = testText.repeat(20);
+        assertEquals(pipeline.apply(repeatedText),
+                     TextProcessingParallelUtils.apply(repeatedText, pipeline, ForkJoinPool.commonPool(), 7));
+    }
+
+    @Test
+    void applyInvalidTest() {
+        TextPipeline pipeline = TextPipeline.of(TextOperations.replaceEachLetterAfter('a', 'b', 'c'),
+                                                TextOperations.replaceLetterByPositionInWord(-1, '_'));
+        assertThrows(TextProcessingException.class, () -> {
+            pipeline.apply(testText);
+        });
+        assertThrows(TextProcessingException.class, () -> {
+            pipeline.apply(null);
+        });
+    }
+}
@@ -0,0 +1,114 @@
+package by.epamtc.text.util.processors;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SuppressWarnings({"unused", "CodeBlock2Expr"})
+class TextProcessingBatchUtilsTest {
+
+    private static TextOperation operation = TextPipeline.of(TextOperations.replaceEachLetterAfter('r', 'a', 'o'),
+                                                             TextOperations.removeAllNotAlphabeticExceptSpaces());
+
+    @Test
+    void processValidTest() throws TextProcessingException {
+        List<String> documents = IntStream.range(0, 200)
+                                          .mapToObj(i -> "document(" + i + ") rarara, " + "word ".repeat(i % 7))
+                                          .collect(Collectors.toList());
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<TextProcessingResult<String>> results = TextProcessingBatchUtils.process(documents, operation,
+                                                                                          executor, 3);
+            assertEquals(documents.size(), results.size());
+            for (int i = 0; i < documents.size(); i++) {
+                assertEquals(i, results.get(i).getIndex());
+                assertEquals(operation.apply(documents.get(i)), results.get(i).getText());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void processFailedDocumentTest() throws TextProcessingException {
+        List<String> documents = Arrays.asList("first rab", null, "third rab");
+        List<TextProcessingResult<String>> results = TextProcessingBatchUtils.process(documents, operation);
+        assertEquals("first rob", results.get(0).getText());
+        assertTrue(!results.get(1).isSuccessful());
+        assertThrows(TextProcessingException.class, () -> {
+            results.get(1).getText();
+        });
+        assertEquals("third rob", results.get(2).getText());
+    }
+
+    @Test
+    void processRuntimeExceptionTest() throws TextProcessingException {
+        TextOperation failingOperation = text -> {
+            if (text.isEmpty()) {
+                throw new IllegalStateException("Empty document.");
+            }
+            return text.toUpperCase();
+        };
+        List<TextProcessingResult<String>> results = TextProcessingBatchUtils.process(List.of("first", "", "third"),
+                                                                                      failingOperation);
+        assertEquals("FIRST", results.get(0).getText());
+        assertTrue(!results.get(1).isSuccessful());
+        assertTrue(results.get(1).getException().getCause() instanceof IllegalStateException);
+        assertEquals("THIRD", results.get(2).getText());
+    }
+
+    @Test
+    void processStreamValidTest() throws TextProcessingException {
+        List<Integer> resultsIndices = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            TextProcessingBatchUtils.process(IntStream.range(0, 50).mapToObj(i -> "ra " + i), operation, executor, 1,
+                                             result -> resultsIndices.add(result.getIndex()));
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(IntStream.range(0, 50).boxed().collect(Collectors.toList()), resultsIndices);
+    }
+
+    @Test
+    void processCharArraysValidTest() throws TextProcessingException {
+        List<char[]> documents = Arrays.asList("rara(1)".toCharArray(), null, "".toCharArray());
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<TextProcessingResult<char[]>> results = TextProcessingBatchUtils.processCharArrays(
+                    documents, processor -> processor.replaceEachLetterAfter('r', 'a', 'o')
+                                                     .removeAllNotAlphabeticExceptSpaces(), executor, 2);
+            assertEquals("roro", new String(results.get(0).getText()));
+            assertTrue(!results.get(1).isSuccessful());
+            assertEquals("", new String(results.get(2).getText()));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void processInvalidTest() {
+        assertThrows(TextProcessingException.class, () -> {
+            TextProcessingBatchUtils.process((Iterable<String>) null, operation);
+        });
+        assertThrows(TextProcessingException.class, () -> {
+            TextProcessingBatchUtils.process(List.of("text"), null);
+        });
+        assertThrows(TextProcessingException.class, () -> {
+            TextProcessingBatchUtils.process(List.of("text"), operation, null, 1);
+        });
+        assertThrows(TextProcessingException.class, () -> {
+            TextProcessingBatchUtils.process(List.of("text"), operation, Executors.newSingleThreadExecutor(), 0);
+        });
+    }
+}
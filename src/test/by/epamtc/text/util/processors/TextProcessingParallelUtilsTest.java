@@ -0,0 +1,61 @@
+package by.epamtc.text.util.processors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SuppressWarnings({"unused", "CodeBlock2Expr"})
+class TextProcessingParallelUtilsTest {
+
+    private static final ForkJoinPool pool = new ForkJoinPool(4);
+
+    private static String testText = ("First(1) word, second(2) word, third(3) word - six(6) words!\n" +
+                                      "Рарара  рама, (ра)ма - карандаш...  raaar\taa a  ").repeat(50);
+
+    private static Stream<Arguments> provideArgumentsForApplyTest() {
+        return Stream.of(Arguments.of(TextOperations.replaceLetterByPositionInWord(2, '_'), 1),
+                         Arguments.of(TextOperations.replaceLetterByPositionInWord(0, '_'), 37),
+                         Arguments.of(TextOperations.replaceEachLetterAfter('р', 'а', 'о'), 5),
+                         Arguments.of(TextOperations.replaceEachLetterAfter('a', 'a', 'o'), 3),
+                         Arguments.of(TextOperations.replaceEachLetterAfter(' ', ' ', '_'), 8),
+                         Arguments.of(TextOperations.replaceEachWordByPredicate(
+                                 WordPredicate.specifyWordAsSliceLength(4), "hello world"), 16),
+                         Arguments.of(TextOperations.removeAllNotAlphabeticExceptSpaces(), 2),
+                         Arguments.of(TextOperations.removeAllNotAlphabeticExceptSpaces(), 100000));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideArgumentsForApplyTest")
+    void applyTest(TextOperation operation, int segmentLength) throws TextProcessingException {
+        String processedText = TextProcessingParallelUtils.apply(testText, operation, pool, segmentLength);
+        assertEquals(operation.apply(testText), processedText);
+    }
+
+    @Test
+    void findSegmentBoundsTest() {
+        TextOperation operation = TextOperations.replaceLetterByPositionInWord(2, '_');
+        String text = "a".repeat(1 << 20) + " word word word";
+        int[] segmentBounds = TextProcessingParallelUtils.findSegmentBounds(text, 0, text.length(), operation, 4);
+        assertArrayEquals(new int[]{0, (1 << 20) + 1, (1 << 20) + 6, (1 << 20) + 11, text.length()}, segmentBounds);
+        assertArrayEquals(new int[]{3, 7}, TextProcessingParallelUtils.findSegmentBounds("ab cd ef", 3, 7,
+                                                                                         operation, 10));
+    }
+
+    @Test
+    void applyInvalidTest() {
+        assertThrows(TextProcessingException.class, () -> {
+            TextProcessingParallelUtils.apply(null, TextOperations.removeAllNotAlphabeticExceptSpaces(), pool, 10);
+        });
+        assertThrows(TextProcessingException.class, () -> {
+            TextProcessingParallelUtils.replaceLetterByPositionInWord(testText, -1, '_', pool);
+        });
+    }
+}
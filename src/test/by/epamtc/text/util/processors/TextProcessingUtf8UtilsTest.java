@@ -0,0 +1,142 @@
+package by.epamtc.text.util.processors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SuppressWarnings({"unused", "CodeBlock2Expr"})
+class TextProcessingUtf8UtilsTest {
+
+    private static Stream<Arguments> provideTexts() {
+        return Stream.of(Arguments.of("First(1) word, second(2) word, third(3) word - six(6) words!"),
+                         Arguments.of("Рарара  рама, (ра)ма - карандаш... Ёлка ёж Эра"),
+                         Arguments.of("Mixed текст: café, naïve €5 😀emoji😀 раз"),
+                         Arguments.of(""));
+    }
+
+    private static Stream<Arguments> provideArgumentsForReplaceEachLetterAfterSupplementaryTest() {
+        return Stream.of(Arguments.of('a', '\uD83D', '_'),
+                         Arguments.of('\uD83D', '\uDE00', '_'),
+                         Arguments.of('\uDE00', '\uD83D', 'o'),
+                         Arguments.of('\uFFFD', 'b', '_'),
+                         Arguments.of('\uDE00', 'b', '_'));
+    }
+
+    private static Stream<Arguments> provideBuffers() {
+        String testText = "Mixed текст: café, naïve €5 😀emoji😀 раз";
+        byte[] utf8Text = toUtf8("(" + testText + ")");
+        ByteBuffer directBuffer = ByteBuffer.allocateDirect(utf8Text.length).put(utf8Text);
+        return Stream.of(Arguments.of(testText, ByteBuffer.wrap(utf8Text, 1, utf8Text.length - 2)),
+                         Arguments.of(testText, ByteBuffer.wrap(utf8Text).position(1).slice()
+                                                          .limit(utf8Text.length - 2)),
+                         Arguments.of(testText, ByteBuffer.wrap(utf8Text, 1, utf8Text.length - 2).asReadOnlyBuffer()),
+                         Arguments.of(testText, directBuffer.position(1).limit(utf8Text.length - 1)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideTexts")
+    void replaceLetterByPositionInWordValidTest(String testText) throws TextProcessingException {
+        byte[] processedText = TextProcessingUtf8Utils.replaceLetterByPositionInWord(toUtf8(testText), 1, 'ж');
+        assertEquals(TextProcessingStringUtils.replaceLetterByPositionInWord(testText, 1, 'ж'),
+                     fromUtf8(processedText));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideTexts")
+    void replaceEachLetterAfterValidTest(String testText) throws TextProcessingException {
+        byte[] processedText = TextProcessingUtf8Utils.replaceEachLetterAfter(toUtf8(testText), 'р', 'а', 'о');
+        assertEquals(TextProcessingStringUtils.replaceEachLetterAfter(testText, 'р', 'а', 'о'),
+                     fromUtf8(processedText));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideTexts")
+    void replaceEachWordByPredicateValidTest(String testText) throws TextProcessingException {
+        WordSlicePredicate predicate = WordPredicate.specifyWordAsSliceLength(4)
+                                                    .and(WordPredicate.CONSONANT_PREFIX_PREDICATE_SLICE_IMPLEMENTATION);
+        byte[] processedText = TextProcessingUtf8Utils.replaceEachWordByPredicate(toUtf8(testText), predicate,
+                                                                                  toUtf8("слово"));
+        assertEquals(TextProcessingStringUtils.replaceEachWordByPredicate(testText, predicate, "слово"),
+                     fromUtf8(processedText));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideTexts")
+    void removeAllNotAlphabeticExceptSpacesValidTest(String testText) throws TextProcessingException {
+        byte[] processedText = TextProcessingUtf8Utils.removeAllNotAlphabeticExceptSpaces(toUtf8(testText));
+        assertEquals(TextProcessingStringUtils.removeAllNotAlphabeticExceptSpaces(testText), fromUtf8(processedText));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideArgumentsForReplaceEachLetterAfterSupplementaryTest")
+    void replaceEachLetterAfterSupplementaryTest(char charBehind, char charToReplace, char replacement)
+            throws TextProcessingException {
+        String testText = "a😀b 😀😀 x😀\uFFFDb";
+        byte[] processedText = TextProcessingUtf8Utils.replaceEachLetterAfter(toUtf8(testText), charBehind,
+                                                                              charToReplace, replacement);
+        assertArrayEquals(toUtf8(TextProcessingStringUtils.replaceEachLetterAfter(testText, charBehind, charToReplace,
+                                                                                  replacement)), processedText);
+    }
+
+    @Test
+    void supplementaryCharLengthTest() {
+        WordSlicePredicate predicate = WordPredicate.specifyWordAsSliceLength(3);
+        assertTrue(predicate.test("a😀", 0, 3));
+        assertTrue(predicate.test(toUtf8("a😀"), 0, 5));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideBuffers")
+    void processBufferTest(String testText, ByteBuffer utf8Text) throws TextProcessingException {
+        int position = utf8Text.position();
+        WordSlicePredicate predicate = WordPredicate.specifyWordAsSliceLength(4);
+        assertEquals(TextProcessingStringUtils.replaceLetterByPositionInWord(testText, 1, 'ж'),
+                     fromUtf8(TextProcessingUtf8Utils.replaceLetterByPositionInWord(utf8Text, 1, 'ж')));
+        assertEquals(TextProcessingStringUtils.replaceEachLetterAfter(testText, 'a', 'ï', 'i'),
+                     fromUtf8(TextProcessingUtf8Utils.replaceEachLetterAfter(utf8Text, 'a', 'ï', 'i')));
+        assertEquals(TextProcessingStringUtils.replaceEachWordByPredicate(testText, predicate, "слово"),
+                     fromUtf8(TextProcessingUtf8Utils.replaceEachWordByPredicate(utf8Text, predicate,
+                                                                                 toUtf8("слово"))));
+        assertEquals(TextProcessingStringUtils.removeAllNotAlphabeticExceptSpaces(testText),
+                     fromUtf8(TextProcessingUtf8Utils.removeAllNotAlphabeticExceptSpaces(utf8Text)));
+        assertEquals(position, utf8Text.position());
+    }
+
+    @Test
+    void processingInvalidTest() {
+        assertThrows(TextProcessingException.class, () -> {
+            TextProcessingUtf8Utils.replaceLetterByPositionInWord(toUtf8("text"), -1, '_');
+        });
+        assertThrows(TextProcessingException.class, () -> {
+            TextProcessingUtf8Utils.replaceEachWordByPredicate(toUtf8("text"), null, new byte[0]);
+        });
+        assertThrows(TextProcessingException.class, () -> {
+            TextProcessingUtf8Utils.removeAllNotAlphabeticExceptSpaces((byte[]) null);
+        });
+        assertThrows(TextProcessingException.class, () -> {
+            TextProcessingUtf8Utils.removeAllNotAlphabeticExceptSpaces((ByteBuffer) null);
+        });
+    }
+
+    private static byte[] toUtf8(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String fromUtf8(byte[] text) {
+        return new String(text, StandardCharsets.UTF_8);
+    }
+
+    private static String fromUtf8(ByteBuffer text) {
+        return StandardCharsets.UTF_8.decode(text).toString();
+    }
+}
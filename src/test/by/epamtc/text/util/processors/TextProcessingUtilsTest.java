@@ -5,6 +5,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.nio.charset.StandardCharsets;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -40,7 +41,26 @@ class TextProcessingUtilsTest {
         return Stream.of(
                 Arguments.of(testText, 'r', 'd', 'k', "First(1) work, second(2) work, thirk(3) work - six(6) works!"),
                 Arguments.of(testText, 't', 'd', 'k', testText), Arguments.of("abbbbb", 'a', 'b', 'a', "aabbbb"),
-                Arguments.of("", 'a', 'a', 'a', ""));
+                Arguments.of("aaaaa", 'a', 'a', 'b', "ababa"), Arguments.of("ab.b", '.', 'b', 'x', "ab.x"),
+                Arguments.of("a**b*", '*', '*', '+', "a*+b*"), Arguments.of("word", 'r', 'd', '$', "wor$"),
+                Arguments.of("\\d", '\\', 'd', '\\', "\\\\"), Arguments.of("", 'a', 'a', 'a', ""));
+    }
+
+    private static Stream<Arguments> provideArgumentsForReplaceEachLetterAfterByRulesValidTest()
+            throws TextProcessingException {
+        LetterAfterRuleSet rules = LetterAfterRuleSet.empty()
+                                                     .with('r', 'a', 'o')
+                                                     .with('р', 'а', 'о')
+                                                     .with('a', 'r', 'R')
+                                                     .with('o', 'o', '0')
+                                                     .with('r', 'a', 'o');
+        return Stream.of(Arguments.of("rarara raar arar", rules, "rororo roaR aRaR"),
+                         Arguments.of("Рарара рама", rules, "Рароро рома"),
+                         Arguments.of("ooo oooo", rules, "o0o o0o0"),
+                         Arguments.of(testText, rules, testText),
+                         Arguments.of("r", rules, "r"),
+                         Arguments.of("", rules, ""),
+                         Arguments.of("rarara", LetterAfterRuleSet.empty(), "rarara"));
     }
 
     private static Stream<Arguments> provideArgumentsForReplaceEachWordAsStringByPredicateValidTest() {
@@ -112,6 +132,34 @@ class TextProcessingUtilsTest {
                              emptyReplacement, ""));
     }
 
+    private static Stream<Arguments> provideArgumentsForReplaceEachWordAsSliceByPredicateValidTest() {
+        return Stream.of(
+                Arguments.of(testText, WordPredicate.specifyWordAsSliceLength(4), "hello world",
+                             "First(1) hello world, second(2) hello world, third(3) hello world - six(6) words!"),
+                Arguments.of(testText, WordPredicate.specifyWordAsSliceLength(5)
+                                                    .and(WordPredicate.CONSONANT_PREFIX_PREDICATE_SLICE_IMPLEMENTATION),
+                             "", "(1) word, second(2) word, (3) word - six(6) !"),
+                Arguments.of(testText, WordPredicate.specifyWordAsSliceLength(4)
+                                                    .and(WordPredicate.VOWEL_PREFIX_PREDICATE_SLICE_IMPLEMENTATION),
+                             "", testText),
+                Arguments.of(testText, WordPredicate.VOWEL_PREFIX_PREDICATE_SLICE_IMPLEMENTATION.negate()
+                                                    .and(WordPredicate.specifyWordAsSliceLength(1).negate()),
+                             "_", "_(1) _, _(2) _, _(3) _ - _(6) _!"),
+                Arguments.of("", WordPredicate.specifyWordAsSliceLength(7), "", ""));
+    }
+
+    private static Stream<Arguments> provideArgumentsForReplaceEachWordInPlaceByPredicateValidTest() {
+        return Stream.of(
+                Arguments.of(testText, WordPredicate.specifyWordAsSliceLength(5)
+                                                    .and(WordPredicate.CONSONANT_PREFIX_PREDICATE_SLICE_IMPLEMENTATION),
+                             "", "(1) word, second(2) word, (3) word - six(6) !"),
+                Arguments.of(testText, WordPredicate.specifyWordAsSliceLength(4), "four",
+                             "First(1) four, second(2) four, third(3) four - six(6) words!"),
+                Arguments.of(testText, WordPredicate.specifyWordAsSliceLength(6), "2nd",
+                             "First(1) word, 2nd(2) word, third(3) word - six(6) words!"),
+                Arguments.of("", WordPredicate.specifyWordAsSliceLength(7), "", ""));
+    }
+
     private static Stream<Arguments> provideArgumentsForReplaceEachWordAsStringByPredicateInvalidTest() {
         return Stream.of(
                 Arguments.of(null, (Predicate<String>) s -> true, "replacement", TextProcessingException.class),
@@ -191,6 +239,45 @@ class TextProcessingUtilsTest {
     }
 
     @SuppressWarnings("ConstantConditions")
+    @ParameterizedTest
+    @MethodSource("provideArgumentsForReplaceEachLetterAfterValidTest")
+    void replaceEachLetterAfterBySingleRuleValidTest(String testText, char charBefore, char charToReplace,
+                                                     char replacement, String expectedResult)
+            throws TextProcessingException {
+        LetterAfterRuleSet rules = LetterAfterRuleSet.empty().with(charBefore, charToReplace, replacement);
+        String processedTextString = TextProcessingStringUtils.replaceEachLetterAfter(testText, rules);
+        char[] processedTextArray = testText.toCharArray();
+        TextProcessingCharArrayUtils.replaceEachLetterAfter(processedTextArray, rules);
+        assertEquals(expectedResult, processedTextString);
+        assertEquals(expectedResult, new String(processedTextArray));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideArgumentsForReplaceEachLetterAfterByRulesValidTest")
+    void replaceEachLetterAfterByRulesValidTest(String testText, LetterAfterRuleSet rules, String expectedResult)
+            throws TextProcessingException {
+        String processedTextString = TextProcessingStringUtils.replaceEachLetterAfter(testText, rules);
+        char[] processedTextArray = testText.toCharArray();
+        TextProcessingCharArrayUtils.replaceEachLetterAfter(processedTextArray, rules);
+        String processedTextOperation = TextOperations.replaceEachLetterAfter(rules).apply(testText);
+        assertEquals(expectedResult, processedTextString);
+        assertEquals(expectedResult, new String(processedTextArray));
+        assertEquals(expectedResult, processedTextOperation);
+    }
+
+    @Test
+    void replaceEachLetterAfterByRulesInvalidTest() {
+        assertThrows(TextProcessingException.class, () -> {
+            LetterAfterRuleSet.empty().with('r', 'a', 'o').with('r', 'a', 'e');
+        });
+        assertThrows(TextProcessingException.class, () -> {
+            TextProcessingStringUtils.replaceEachLetterAfter("text", null);
+        });
+        assertThrows(TextProcessingException.class, () -> {
+            TextProcessingCharArrayUtils.replaceEachLetterAfter("text".toCharArray(), null);
+        });
+    }
+
     @Test
     void replaceEachLetterAfterInvalidTestTextAsString() {
         String testText = null;
@@ -264,6 +351,23 @@ class TextProcessingUtilsTest {
         assertEquals(expectedResult, processedTextString);
     }
 
+    @ParameterizedTest
+    @MethodSource("provideArgumentsForReplaceEachWordAsSliceByPredicateValidTest")
+    void replaceEachWordAsSliceByPredicateValidTest(String testText, WordSlicePredicate predicate, String replacement,
+                                                    String expectedResult) throws TextProcessingException {
+        String processedTextRegex = TextProcessingRegexUtils.replaceEachWordByPredicate(testText, predicate,
+                                                                                        replacement);
+        String processedTextString = TextProcessingStringUtils.replaceEachWordByPredicate(testText, predicate,
+                                                                                          replacement);
+        char[] processedTextArray = TextProcessingCharArrayUtils.replaceEachWordByPredicate(testText.toCharArray(),
+                                                                                            predicate,
+                                                                                            replacement.toCharArray());
+        String processedTextCharArray = new String(processedTextArray);
+        assertEquals(expectedResult, processedTextRegex);
+        assertEquals(expectedResult, processedTextString);
+        assertEquals(expectedResult, processedTextCharArray);
+    }
+
     @ParameterizedTest
     @MethodSource("provideArgumentsForReplaceEachWordAsStringByPredicateInvalidTest")
     void replaceEachWordAsStringByPredicateInvalidTest(String testText, Predicate<String> predicate, String replacement,
@@ -294,9 +398,122 @@ class TextProcessingUtilsTest {
         char[] testTextArray = testText.toCharArray();
         char[] processedTextArray = TextProcessingCharArrayUtils.removeAllNotAlphabeticExceptSpaces(testTextArray);
         String processedTextCharArray = new String(processedTextArray);
+        char[] inPlaceTextArray = (testText + "(tail)").toCharArray();
+        int inPlaceLength = TextProcessingCharArrayUtils.removeAllNotAlphabeticExceptSpacesInPlace(inPlaceTextArray,
+                                                                                                  testText.length());
+        String processedTextInPlace = new String(inPlaceTextArray, 0, inPlaceLength);
         assertEquals(expectedResult, processedTextRegex);
         assertEquals(expectedResult, processedTextString);
         assertEquals(expectedResult, processedTextCharArray);
+        assertEquals(expectedResult, processedTextInPlace);
+    }
+
+    @Test
+    void removeAllNonAlphabeticExceptSpacesKeepsNullCharTest() throws TextProcessingException {
+        char[] testTextArray = "word\0word!".toCharArray();
+        char[] processedTextArray = TextProcessingCharArrayUtils.removeAllNotAlphabeticExceptSpaces(testTextArray);
+        assertEquals("word word", new String(processedTextArray));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideArgumentsForReplaceEachWordInPlaceByPredicateValidTest")
+    void replaceEachWordInPlaceByPredicateValidTest(String testText, WordSlicePredicate predicate, String replacement,
+                                                    String expectedResult) throws TextProcessingException {
+        char[] testTextArray = (testText + " tail").toCharArray();
+        int processedLength = TextProcessingCharArrayUtils.replaceEachWordByPredicateInPlace(testTextArray,
+                                                                                            testText.length(),
+                                                                                            predicate,
+                                                                                            replacement.toCharArray());
+        assertEquals(expectedResult, new String(testTextArray, 0, processedLength));
+    }
+
+    @Test
+    void replaceEachWordInPlaceByPredicateInvalidTest() {
+        char[] testTextArray = "abcd e f g".toCharArray();
+        assertThrows(TextProcessingException.class, () -> {
+            TextProcessingCharArrayUtils.replaceEachWordByPredicateInPlace(testTextArray, testTextArray.length,
+                                                                           (text, start, end) -> true,
+                                                                           "xx".toCharArray());
+        });
+        assertEquals("abcd e f g", new String(testTextArray));
+        assertThrows(TextProcessingException.class, () -> {
+            TextProcessingCharArrayUtils.replaceEachWordByPredicateInPlace("a b".toCharArray(), 3,
+                                                                           WordPredicate.specifyWordAsSliceLength(1),
+                                                                           "word".toCharArray());
+        });
+        assertThrows(TextProcessingException.class, () -> {
+            TextProcessingCharArrayUtils.replaceEachWordByPredicateInPlace("text".toCharArray(), 5,
+                                                                           WordPredicate.specifyWordAsSliceLength(1),
+                                                                           new char[0]);
+        });
+    }
+
+    @Test
+    void replaceEachWordByPredicatePrefilterTest() throws TextProcessingException {
+        int[] testsCount = new int[1];
+        WordSlicePredicate predicate = new WordSlicePredicate() {
+            @Override
+            public boolean test(CharSequence text, int start, int end) {
+                testsCount[0]++;
+                return end - start == 4 && CharacterClassifier.isConsonant(text.charAt(start));
+            }
+
+            @Override
+            public int getMinWordLength() {
+                return 4;
+            }
+
+            @Override
+            public int getMaxWordLength() {
+                return 4;
+            }
+
+            @Override
+            public boolean acceptsFirstLetter(FirstLetterClass firstLetterClass) {
+                return firstLetterClass == FirstLetterClass.CONSONANT;
+            }
+        };
+        String expectedResult = "First(1) , second(2) , third(3)  - six(6) words!";
+        assertEquals(expectedResult, TextProcessingRegexUtils.replaceEachWordByPredicate(testText, predicate, ""));
+        assertEquals(expectedResult, TextProcessingStringUtils.replaceEachWordByPredicate(testText, predicate, ""));
+        assertEquals(expectedResult, new String(TextProcessingCharArrayUtils.replaceEachWordByPredicate(
+                testText.toCharArray(), predicate, new char[0])));
+        byte[] processedUtf8Text = TextProcessingUtf8Utils.replaceEachWordByPredicate(
+                testText.getBytes(StandardCharsets.UTF_8), predicate, new byte[0]);
+        assertEquals(expectedResult, new String(processedUtf8Text, StandardCharsets.UTF_8));
+        assertEquals(3 * 4, testsCount[0]);
+        assertEquals(4, predicate.and(WordPredicate.VOWEL_PREFIX_PREDICATE_SLICE_IMPLEMENTATION).getMinWordLength());
+        assertEquals(1, predicate.or(WordPredicate.specifyWordAsSliceLength(1)).getMinWordLength());
+    }
+
+    @Test
+    void charArrayRangeTest() throws TextProcessingException {
+        int fromIndex = 2;
+        int toIndex = testText.length() - 3;
+        String range = testText.substring(fromIndex, toIndex);
+        String prefix = testText.substring(0, fromIndex);
+        String suffix = testText.substring(toIndex);
+
+        char[] testTextArray = testText.toCharArray();
+        TextProcessingCharArrayUtils.replaceLetterByPositionInWord(testTextArray, fromIndex, toIndex, 1, '_');
+        assertEquals(prefix + TextProcessingStringUtils.replaceLetterByPositionInWord(range, 1, '_') + suffix,
+                     new String(testTextArray));
+
+        testTextArray = testText.toCharArray();
+        TextProcessingCharArrayUtils.replaceEachLetterAfter(testTextArray, fromIndex, toIndex, 'o', 'r', 'R');
+        assertEquals(prefix + TextProcessingStringUtils.replaceEachLetterAfter(range, 'o', 'r', 'R') + suffix,
+                     new String(testTextArray));
+
+        WordSlicePredicate predicate = WordPredicate.specifyWordAsSliceLength(4);
+        assertEquals(TextProcessingStringUtils.replaceEachWordByPredicate(range, predicate, "#"),
+                     new String(TextProcessingCharArrayUtils.replaceEachWordByPredicate(
+                             testText.toCharArray(), fromIndex, toIndex, predicate, "#".toCharArray())));
+        assertEquals(TextProcessingStringUtils.removeAllNotAlphabeticExceptSpaces(range),
+                     new String(TextProcessingCharArrayUtils.removeAllNotAlphabeticExceptSpaces(
+                             testText.toCharArray(), fromIndex, toIndex)));
+        assertThrows(TextProcessingException.class, () -> {
+            TextProcessingCharArrayUtils.removeAllNotAlphabeticExceptSpaces(testText.toCharArray(), 5, 2);
+        });
     }
 
     @Test
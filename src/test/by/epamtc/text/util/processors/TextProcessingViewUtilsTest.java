@@ -0,0 +1,123 @@
+package by.epamtc.text.util.processors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SuppressWarnings({"unused", "CodeBlock2Expr"})
+class TextProcessingViewUtilsTest {
+
+    private static String testText = "First(1) word, second(2) word, third(3) word - six(6) words! " +
+                                     "Рарара  рама, (ра)ма - карандаш... aaaaa raaar";
+
+    private static Stream<Arguments> provideArgumentsForReplaceLetterByPositionInWordTest() {
+        return Stream.of(Arguments.of(testText, 0, '_'),
+                         Arguments.of(testText, 2, '_'),
+                         Arguments.of(testText, 5, '_'),
+                         Arguments.of("", 1, '_'));
+    }
+
+    private static Stream<Arguments> provideArgumentsForReplaceEachLetterAfterTest() {
+        return Stream.of(Arguments.of(testText, 'р', 'а', 'о'),
+                         Arguments.of(testText, 'a', 'a', 'o'),
+                         Arguments.of(testText, 'a', 'r', 'a'),
+                         Arguments.of(testText, ' ', ' ', '_'),
+                         Arguments.of("aaaaaaaa aaaaaaa", 'a', 'a', 'a'),
+                         Arguments.of("", 'a', 'a', 'o'));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideArgumentsForReplaceLetterByPositionInWordTest")
+    void replaceLetterByPositionInWordTest(String testText, int replacementPosition, char replacement)
+            throws TextProcessingException, IOException {
+        String expectedResult = TextProcessingStringUtils.replaceLetterByPositionInWord(testText, replacementPosition,
+                                                                                        replacement);
+        EditedTextView view = TextProcessingViewUtils.replaceLetterByPositionInWord(testText, replacementPosition,
+                                                                                    replacement);
+        assertViewEquals(expectedResult, view);
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideArgumentsForReplaceEachLetterAfterTest")
+    void replaceEachLetterAfterTest(String testText, char charBehind, char charToReplace, char replacement)
+            throws TextProcessingException, IOException {
+        String expectedResult = TextProcessingStringUtils.replaceEachLetterAfter(testText, charBehind, charToReplace,
+                                                                                 replacement);
+        EditedTextView view = TextProcessingViewUtils.replaceEachLetterAfter(testText, charBehind, charToReplace,
+                                                                             replacement);
+        assertViewEquals(expectedResult, view);
+    }
+
+    @Test
+    void replaceEachLetterAfterLongRunTest() throws TextProcessingException, IOException {
+        String testText = " ".repeat(200_000);
+        String expectedResult = TextProcessingStringUtils.replaceEachLetterAfter(testText, ' ', ' ', '_');
+        EditedTextView view = TextProcessingViewUtils.replaceEachLetterAfter(testText, ' ', ' ', '_');
+        assertEquals(expectedResult, view.toString());
+        assertEquals(expectedResult.substring(100_001), view.subSequence(100_001, 200_000).toString());
+        assertEquals(expectedResult.charAt(199_999), view.charAt(199_999));
+        StringWriter writer = new StringWriter();
+        view.writeTo(writer);
+        assertEquals(expectedResult, writer.toString());
+        assertEquals(expectedResult, view.chars().collect(StringBuilder::new, StringBuilder::appendCodePoint,
+                                                          StringBuilder::append).toString());
+    }
+
+    @Test
+    void replaceLetterByPositionInWordLongWordTest() throws TextProcessingException, IOException {
+        String testText = "a".repeat(200_000) + " " + "b".repeat(200_000);
+        String expectedResult = TextProcessingStringUtils.replaceLetterByPositionInWord(testText, 150_000, '_');
+        EditedTextView view = TextProcessingViewUtils.replaceLetterByPositionInWord(testText, 150_000, '_');
+        assertEquals(expectedResult, view.toString());
+        assertEquals(expectedResult.substring(100_001, 350_001), view.subSequence(100_001, 350_001).toString());
+        assertEquals(expectedResult.charAt(350_001), view.charAt(350_001));
+        StringWriter writer = new StringWriter();
+        view.writeTo(writer);
+        assertEquals(expectedResult, writer.toString());
+        assertEquals(expectedResult, view.chars().collect(StringBuilder::new, StringBuilder::appendCodePoint,
+                                                          StringBuilder::append).toString());
+    }
+
+    @Test
+    void viewInvalidTest() {
+        assertThrows(TextProcessingException.class, () -> {
+            TextProcessingViewUtils.replaceLetterByPositionInWord(null, 1, '_');
+        });
+        assertThrows(TextProcessingException.class, () -> {
+            TextProcessingViewUtils.replaceLetterByPositionInWord("text", -1, '_');
+        });
+        assertThrows(TextProcessingException.class, () -> {
+            TextProcessingViewUtils.replaceEachLetterAfter(null, 'a', 'b', 'c');
+        });
+        assertThrows(IndexOutOfBoundsException.class, () -> {
+            TextProcessingViewUtils.replaceEachLetterAfter("text", 'a', 'b', 'c').charAt(4);
+        });
+    }
+
+    private static void assertViewEquals(String expectedResult, EditedTextView view) throws IOException {
+        assertEquals(expectedResult, view.toString());
+        assertEquals(expectedResult.length(), view.length());
+        for (int i = 0; i < expectedResult.length(); i++) {
+            assertEquals(expectedResult.charAt(i), view.charAt(i));
+        }
+        for (int i = 0; i <= expectedResult.length(); i += 7) {
+            CharSequence subSequence = view.subSequence(i / 3, i);
+            assertEquals(expectedResult.substring(i / 3, i), subSequence.toString());
+            assertEquals(expectedResult.substring(i / 3 + i / 7, i), subSequence.subSequence(i / 7, i - i / 3)
+                                                                                .toString());
+        }
+        StringWriter writer = new StringWriter();
+        view.writeTo(writer);
+        assertEquals(expectedResult, writer.toString());
+        assertEquals(expectedResult, view.chars().collect(StringBuilder::new, StringBuilder::appendCodePoint,
+                                                          StringBuilder::append).toString());
+    }
+}
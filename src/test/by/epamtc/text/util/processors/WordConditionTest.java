@@ -0,0 +1,117 @@
+package by.epamtc.text.util.processors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SuppressWarnings({"unused", "CodeBlock2Expr"})
+class WordConditionTest {
+
+    private static String testText = "First(1) word, second(2) слово, third(3) Ёжик - six(6) wordы! Apple, орех, я";
+    private static WordSlicePredicate latinPredicate = lettersOfScriptPredicate(Character.UnicodeScript.LATIN);
+    private static WordSlicePredicate cyrillicPredicate = lettersOfScriptPredicate(Character.UnicodeScript.CYRILLIC);
+
+    private static Stream<Arguments> provideArgumentsForCompileTest() {
+        return Stream.of(Arguments.of(WordCondition.lengthEquals(4), WordPredicate.specifyWordAsSliceLength(4)),
+                         Arguments.of(WordCondition.lengthEquals(5)
+                                                   .and(WordCondition.firstLetterIs(FirstLetterClass.CONSONANT)),
+                                      WordPredicate.specifyWordAsSliceLength(5)
+                                                   .and(WordPredicate.CONSONANT_PREFIX_PREDICATE_SLICE_IMPLEMENTATION)),
+                         Arguments.of(WordCondition.lengthBetween(2, 4).not(),
+                                      lengthBetweenPredicate(2, 4).negate()),
+                         Arguments.of(WordCondition.firstLetterIs(FirstLetterClass.VOWEL)
+                                                   .or(WordCondition.contains('o')),
+                                      WordPredicate.VOWEL_PREFIX_PREDICATE_SLICE_IMPLEMENTATION
+                                                   .or(containsPredicate('o'))),
+                         Arguments.of(WordCondition.firstLetterIs(FirstLetterClass.OTHER).not(),
+                                      firstLetterPredicate(FirstLetterClass.OTHER).negate()),
+                         Arguments.of(WordCondition.contains('o').not().and(WordCondition.lengthBetween(1, 3)),
+                                      containsPredicate('o').negate().and(lengthBetweenPredicate(1, 3))),
+                         Arguments.of(WordCondition.lettersOf(WordCondition.Script.LATIN), latinPredicate),
+                         Arguments.of(WordCondition.lettersOf(WordCondition.Script.CYRILLIC).not(),
+                                      cyrillicPredicate.negate()),
+                         Arguments.of(WordCondition.lettersOf(WordCondition.Script.LATIN)
+                                                   .or(WordCondition.lettersOf(WordCondition.Script.CYRILLIC))
+                                                   .not()
+                                                   .and(WordCondition.contains('d').or(WordCondition.contains('w'))),
+                                      latinPredicate.or(cyrillicPredicate).negate()
+                                                    .and(containsPredicate('d').or(containsPredicate('w')))),
+                         Arguments.of(WordCondition.lengthEquals(3).and(WordCondition.lengthEquals(4)),
+                                      (WordSlicePredicate) (text, start, end) -> false),
+                         Arguments.of(WordCondition.lengthEquals(3).or(WordCondition.lengthEquals(3).not()),
+                                      (WordSlicePredicate) (text, start, end) -> true));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideArgumentsForCompileTest")
+    void compileTest(WordCondition condition, WordSlicePredicate expectedPredicate) throws TextProcessingException {
+        WordSlicePredicate predicate = condition.compile();
+        char[] textArray = testText.toCharArray();
+        WordSpanCursor wordCursor = new WordSpanCursor().reset(testText, 0, testText.length());
+        while (wordCursor.nextWord()) {
+            int start = wordCursor.getSpanStart();
+            int end = wordCursor.getSpanEnd();
+            boolean expectedResult = expectedPredicate.test(testText, start, end);
+            assertEquals(expectedResult, predicate.test(testText, start, end));
+            assertEquals(expectedResult, predicate.test(textArray, start, end));
+            byte[] utf8Word = testText.substring(start, end).getBytes(StandardCharsets.UTF_8);
+            assertEquals(expectedResult, predicate.test(utf8Word, 0, utf8Word.length));
+        }
+        assertEquals(expectedPredicate.test("", 0, 0), predicate.test("", 0, 0));
+        assertEquals(TextProcessingStringUtils.replaceEachWordByPredicate(testText, expectedPredicate, "#"),
+                     TextProcessingStringUtils.replaceEachWordByPredicate(testText, predicate, "#"));
+    }
+
+    @Test
+    void compileCacheTest() {
+        WordCondition condition = WordCondition.lengthEquals(4)
+                                               .and(WordCondition.firstLetterIs(FirstLetterClass.CONSONANT));
+        WordCondition equalCondition = WordCondition.lengthEquals(4)
+                                                    .and(WordCondition.firstLetterIs(FirstLetterClass.CONSONANT));
+        assertEquals(condition, equalCondition);
+        assertEquals(condition.hashCode(), equalCondition.hashCode());
+        assertSame(condition.compile(), equalCondition.compile());
+    }
+
+    @Test
+    void conditionInvalidTest() {
+        assertThrows(IllegalArgumentException.class, () -> WordCondition.lengthBetween(3, 2));
+        assertThrows(IllegalArgumentException.class, () -> WordCondition.lengthEquals(-1));
+        assertThrows(IllegalArgumentException.class, () -> WordCondition.firstLetterIs(null));
+        assertThrows(IllegalArgumentException.class, () -> WordCondition.lettersOf(null));
+        assertThrows(IllegalArgumentException.class, () -> WordCondition.contains('a').and(null));
+        assertThrows(IllegalArgumentException.class, () -> {
+            WordCondition condition = WordCondition.lengthBetween(1, 2).or(WordCondition.lengthBetween(4, 5));
+            for (int i = 0; i < 8; i++) {
+                condition = condition.and(WordCondition.contains((char) ('a' + i))
+                                                       .or(WordCondition.contains((char) ('A' + i))));
+            }
+            condition.compile();
+        });
+    }
+
+    private static WordSlicePredicate lengthBetweenPredicate(int minLength, int maxLength) {
+        return (text, start, end) -> end - start >= minLength && end - start <= maxLength;
+    }
+
+    private static WordSlicePredicate firstLetterPredicate(FirstLetterClass firstLetterClass) {
+        return (text, start, end) -> start < end && FirstLetterClass.of(text.charAt(start)) == firstLetterClass;
+    }
+
+    private static WordSlicePredicate containsPredicate(char character) {
+        return (text, start, end) -> text.subSequence(start, end).toString().indexOf(character) >= 0;
+    }
+
+    private static WordSlicePredicate lettersOfScriptPredicate(Character.UnicodeScript script) {
+        return (text, start, end) -> text.subSequence(start, end).chars().allMatch(
+                character -> Character.isLetter(character) && Character.UnicodeScript.of(character) == script);
+    }
+}
@@ -0,0 +1,140 @@
+package by.epamtc.text.util.providers;
+
+import by.epamtc.text.util.processors.TextOperation;
+import by.epamtc.text.util.processors.TextOperations;
+import by.epamtc.text.util.processors.TextProcessingException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SuppressWarnings({"unused", "CodeBlock2Expr"})
+class TextFileTreeUtilsTest {
+
+    private static String testText = "First(1) word, second(2) word,\r\nthird(3) word - six(6) words!\n" +
+                                     "Рарара  рама, (ра)ма - карандаш...\n\n  raaar";
+    private static TextOperation operation = TextOperations.replaceEachLetterAfter('р', 'а', 'о');
+
+    @Test
+    void processFileTreeTest() throws IOException, FileException, TextProcessingException {
+        Path inputRoot = Files.createTempDirectory("input");
+        Path outputRoot = inputRoot.resolve("output");
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Files.createDirectories(inputRoot.resolve("nested/deeper"));
+            Files.write(inputRoot.resolve("first.txt"), testText.getBytes(StandardCharsets.UTF_8));
+            Files.write(inputRoot.resolve("nested/deeper/second.txt"), testText.getBytes(StandardCharsets.UTF_8));
+            Files.write(inputRoot.resolve("nested/skipped.md"), testText.getBytes(StandardCharsets.UTF_8));
+            Files.write(inputRoot.resolve("empty.txt"), new byte[0]);
+            FileTreeProcessingStatistics statistics = TextFileTreeUtils.processFileTree(inputRoot, outputRoot,
+                                                                                        "**.txt",
+                                                                                        StandardCharsets.UTF_8,
+                                                                                        operation, executor, 1);
+            assertEquals(3, statistics.getProcessedFilesCount());
+            assertEquals(0, statistics.getFailedFilesCount());
+            String expectedResult = operation.apply(testText);
+            assertEquals(expectedResult, Files.readString(outputRoot.resolve("first.txt")));
+            assertEquals(expectedResult, Files.readString(outputRoot.resolve("nested/deeper/second.txt")));
+            assertEquals("", Files.readString(outputRoot.resolve("empty.txt")));
+            assertTrue(Files.notExists(outputRoot.resolve("nested/skipped.md")));
+        } finally {
+            executor.shutdownNow();
+            deleteDirectory(inputRoot);
+        }
+    }
+
+    @Test
+    void processFileTreeUnreadableDirectoryTest() throws IOException, FileException, TextProcessingException {
+        Path inputRoot = Files.createTempDirectory("input");
+        Path outputRoot = Files.createTempDirectory("output");
+        Path unreadableDirectory = inputRoot.resolve("unreadable");
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Files.createDirectories(unreadableDirectory);
+            Files.write(inputRoot.resolve("first.txt"), testText.getBytes(StandardCharsets.UTF_8));
+            Files.write(unreadableDirectory.resolve("second.txt"), testText.getBytes(StandardCharsets.UTF_8));
+            Files.setPosixFilePermissions(unreadableDirectory, Set.of());
+            boolean unreadable = !Files.isReadable(unreadableDirectory);
+            FileTreeProcessingStatistics statistics = TextFileTreeUtils.processFileTree(inputRoot, outputRoot,
+                                                                                        "**.txt",
+                                                                                        StandardCharsets.UTF_8,
+                                                                                        operation, executor, 1);
+            assertEquals(operation.apply(testText), Files.readString(outputRoot.resolve("first.txt")));
+            assertEquals(unreadable ? 1 : 2, statistics.getProcessedFilesCount());
+            assertEquals(unreadable ? 1 : 0, statistics.getFailedFilesCount());
+        } finally {
+            executor.shutdownNow();
+            Files.setPosixFilePermissions(unreadableDirectory, PosixFilePermissions.fromString("rwx------"));
+            deleteDirectory(inputRoot);
+            deleteDirectory(outputRoot);
+        }
+    }
+
+    @Test
+    void processFileTreeInvalidTest() throws IOException {
+        Path inputRoot = Files.createTempDirectory("input");
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            assertThrows(FileException.class, () -> {
+                TextFileTreeUtils.processFileTree(null, Path.of("output"), "**", StandardCharsets.UTF_8, operation,
+                                                  executor, 1);
+            });
+            assertThrows(FileException.class, () -> {
+                TextFileTreeUtils.processFileTree(Path.of("no such directory"), Path.of("output"), "**",
+                                                  StandardCharsets.UTF_8, operation, executor, 1);
+            });
+            assertThrows(FileException.class, () -> {
+                TextFileTreeUtils.processFileTree(inputRoot, inputRoot, "**", StandardCharsets.UTF_8, operation,
+                                                  executor, 1);
+            });
+            assertThrows(FileException.class, () -> {
+                TextFileTreeUtils.processFileTree(inputRoot, inputRoot.getParent(), "**", StandardCharsets.UTF_8,
+                                                  operation, executor, 1);
+            });
+            assertThrows(FileException.class, () -> {
+                TextFileTreeUtils.processFileTree(inputRoot, Path.of("output"), null, StandardCharsets.UTF_8,
+                                                  operation, executor, 1);
+            });
+            assertThrows(FileException.class, () -> {
+                TextFileTreeUtils.processFileTree(inputRoot, Path.of("output"), "**", null, operation, executor, 1);
+            });
+            assertThrows(FileException.class, () -> {
+                TextFileTreeUtils.processFileTree(inputRoot, Path.of("output"), "**", StandardCharsets.UTF_8,
+                                                  operation, null, 1);
+            });
+            assertThrows(FileException.class, () -> {
+                TextFileTreeUtils.processFileTree(inputRoot, Path.of("output"), "**", StandardCharsets.UTF_8,
+                                                  operation, executor, 0);
+            });
+        } finally {
+            executor.shutdownNow();
+            deleteDirectory(inputRoot);
+        }
+    }
+
+    private static void deleteDirectory(Path directory) throws IOException {
+        if (Files.notExists(directory)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            List<Path> sortedPaths = paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList());
+            for (Path path : sortedPaths) {
+                Files.delete(path);
+            }
+        }
+    }
+}
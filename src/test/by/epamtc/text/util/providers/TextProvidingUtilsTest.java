@@ -0,0 +1,106 @@
+package by.epamtc.text.util.providers;
+
+import by.epamtc.text.util.processors.TextProcessingException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SuppressWarnings({"unused", "CodeBlock2Expr"})
+class TextProvidingUtilsTest {
+
+    private static String testText = "First(1) word, second(2) word,\r\nthird(3) word - six(6) words!\n" +
+                                     "Рарара  рама, (ра)ма - карандаш...\n\n  raaar";
+
+    private static Stream<Arguments> provideArgumentsForReadMappedTextFromFileTest() {
+        return Stream.of(Arguments.of(testText, StandardCharsets.UTF_8, 1),
+                         Arguments.of(testText, StandardCharsets.UTF_8, 7),
+                         Arguments.of(testText, StandardCharsets.UTF_8, TextProvidingUtils.DEFAULT_WINDOW_LENGTH),
+                         Arguments.of(testText, StandardCharsets.UTF_16, 5),
+                         Arguments.of("abcdefg hijklmn", StandardCharsets.UTF_8, 8),
+                         Arguments.of("abcdefgh ijklmn ", StandardCharsets.UTF_8, 8),
+                         Arguments.of("word", StandardCharsets.UTF_8, 16));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideArgumentsForReadMappedTextFromFileTest")
+    void readMappedTextFromFileTest(String text, Charset charset, int windowLength)
+            throws IOException, FileException, TextProcessingException {
+        List<String> windows = readWindows(text, charset, windowLength, Integer.MAX_VALUE);
+        assertEquals(text, String.join("", windows));
+        for (int i = 0; i < windows.size() - 1; i++) {
+            String window = windows.get(i);
+            assertTrue(Character.isWhitespace(window.charAt(window.length() - 1)));
+        }
+    }
+
+    @Test
+    void readMappedTextFromFileWindowBoundaryTest() throws IOException, FileException, TextProcessingException {
+        assertEquals(List.of("abcdefg ", "hijklmn"), readWindows("abcdefg hijklmn", StandardCharsets.UTF_8, 8,
+                                                                 Integer.MAX_VALUE));
+        assertEquals(List.of("abcdefgh ", "ijklmnopqrstu"), readWindows("abcdefgh ijklmnopqrstu",
+                                                                        StandardCharsets.UTF_8, 8,
+                                                                        Integer.MAX_VALUE));
+    }
+
+    @Test
+    void readMappedTextFromEmptyFileTest() throws IOException, FileException, TextProcessingException {
+        assertEquals(List.of(), readWindows("", StandardCharsets.UTF_8, 8, Integer.MAX_VALUE));
+        assertEquals(List.of(), readWindows("", StandardCharsets.UTF_16, 8, Integer.MAX_VALUE));
+    }
+
+    @Test
+    void readMappedTextFromFileMaxWindowTest() throws IOException, FileException, TextProcessingException {
+        String text = "abcdefghij😀kl mn";
+        List<String> windows = readWindows(text, StandardCharsets.UTF_8, 2, 4);
+        assertEquals(text, String.join("", windows));
+        for (String window : windows) {
+            assertTrue(window.length() <= 4);
+            assertTrue(!Character.isHighSurrogate(window.charAt(window.length() - 1)));
+        }
+    }
+
+    @Test
+    void readMappedTextFromFileInvalidTest() {
+        TextWindowHandler handler = (window, length) -> {
+        };
+        assertThrows(FileException.class, () -> {
+            TextProvidingUtils.readMappedTextFromFile(null, StandardCharsets.UTF_8, 8, handler);
+        });
+        assertThrows(FileException.class, () -> {
+            TextProvidingUtils.readMappedTextFromFile(new File("no such file"), StandardCharsets.UTF_8, 8, handler);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            TextProvidingUtils.readMappedTextFromFile(new File("no such file"), StandardCharsets.UTF_8, 0, handler);
+        });
+    }
+
+    private static List<String> readWindows(String text, Charset charset, int windowLength, int maxWindowLength)
+            throws IOException, FileException, TextProcessingException {
+        Path file = Files.createTempFile("mapped", ".txt");
+        try {
+            Files.write(file, text.getBytes(charset));
+            List<String> windows = new ArrayList<>();
+            TextProvidingUtils.readMappedTextFromFile(file.toFile(), charset, windowLength,
+                                                      Math.max(windowLength, maxWindowLength),
+                                                      (window, length) -> windows.add(new String(window, 0, length)));
+            return windows;
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package by.epamtc.text.util.providers;
+
+import by.epamtc.text.util.processors.TextOperation;
+import by.epamtc.text.util.processors.TextOperations;
+import by.epamtc.text.util.processors.TextProcessingException;
+import by.epamtc.text.util.processors.WordPredicate;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SuppressWarnings("CodeBlock2Expr")
+class TextStreamingUtilsTest {
+
+    private static String testText = "First(1) word, second(2) word,\r\nthird(3) word - six(6) words!\n" +
+                                     "Рарара  рама, (ра)ма - карандаш...\n\n  raaar";
+
+    private static Stream<Arguments> provideArgumentsForProcessStreamTest() {
+        return Stream.of(Arguments.of(TextOperations.replaceLetterByPositionInWord(2, '_'), 1),
+                         Arguments.of(TextOperations.replaceLetterByPositionInWord(2, '_'), 7),
+                         Arguments.of(TextOperations.replaceEachLetterAfter('р', 'а', 'о'), 1),
+                         Arguments.of(TextOperations.replaceEachLetterAfter('a', 'a', 'o'), 3),
+                         Arguments.of(TextOperations.replaceEachLetterAfter(' ', ' ', '_'), 2),
+                         Arguments.of(TextOperations.replaceEachWordByPredicate(
+                                 WordPredicate.specifyWordAsStringLength(4), "hello world"), 5),
+                         Arguments.of(TextOperations.removeAllNotAlphabeticExceptSpaces(), 1),
+                         Arguments.of(TextOperations.removeAllNotAlphabeticExceptSpaces(), 16),
+                         Arguments.of(TextOperations.removeAllNotAlphabeticExceptSpaces(), 1024));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideArgumentsForProcessStreamTest")
+    void processStreamTest(TextOperation operation, int chunkLength) throws FileException, TextProcessingException {
+        StringWriter writer = new StringWriter();
+        TextStreamingUtils.processStream(new StringReader(testText), writer, operation, chunkLength);
+        assertEquals(operation.apply(testText), writer.toString());
+    }
+
+    @Test
+    void processStreamMaxPendingLengthTest() throws FileException, TextProcessingException {
+        TextOperation operation = TextOperations.replaceLetterByPositionInWord(2, '_');
+        String longWordText = "word " + "a".repeat(100) + " word";
+        StringWriter writer = new StringWriter();
+        TextStreamingUtils.processStream(new StringReader(longWordText), writer, operation, 8, 101);
+        assertEquals(operation.apply(longWordText), writer.toString());
+        assertThrows(TextProcessingException.class, () -> {
+            TextStreamingUtils.processStream(new StringReader(longWordText), new StringWriter(), operation, 8, 64);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            TextStreamingUtils.processStream(new StringReader(longWordText), new StringWriter(), operation, 8, 4);
+        });
+    }
+}
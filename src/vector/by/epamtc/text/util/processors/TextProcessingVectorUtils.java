@@ -0,0 +1,213 @@
+package by.epamtc.text.util.processors;
+
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.util.Arrays;
+
+/**
+ * Vectorized versions of the per-character scans of {@link TextProcessingCharArrayUtils}, built on the incubating
+ * Vector API. Characters are compared as 16-bit lanes, whole blocks without a match are skipped at once, and the
+ * lanes the vector code cannot classify on its own are checked by the scalar lookup table. Results are identical to
+ * the scalar engine.
+ * <p>
+ * The vector code recognizes ASCII whitespace, and the Latin and Cyrillic letter ranges only when the current
+ * alphabet contains the whole range; all other chars are left to the lookup table.
+ */
+public final class TextProcessingVectorUtils {
+
+    private static final VectorSpecies<Short> SPECIES = ShortVector.SPECIES_PREFERRED;
+
+    private static final short LOWER_CASE_BIT = 0x20;
+    private static final short CYRILLIC_LETTERS_START = 0x0400;
+    private static final short CYRILLIC_LETTERS_END = 0x0481;
+    private static final short ASCII_CONTROL_WHITESPACES_START = 0x09;
+    private static final short ASCII_CONTROL_WHITESPACES_END = 0x0D;
+    private static final short ASCII_SEPARATOR_WHITESPACES_START = 0x1C;
+    private static final short ASCII_SEPARATOR_WHITESPACES_END = 0x20;
+
+    private static volatile FastPathRanges fastPathRanges = new FastPathRanges(Alphabet.DEFAULT);
+
+    private TextProcessingVectorUtils() {
+    }
+
+    public static void replaceEachLetterAfter(char[] text, char charBehind, char charToReplace, char replacement)
+            throws TextProcessingException {
+        checkTextOnNull(text);
+        replaceEachLetterAfter(text, 0, text.length, charBehind, charToReplace, replacement);
+    }
+
+    public static void replaceEachLetterAfter(char[] text, int fromIndex, int toIndex, char charBehind,
+                                              char charToReplace, char replacement) throws TextProcessingException {
+        checkTextRange(text, fromIndex, toIndex);
+        ProcessingMetricsListener metricsListener = ProcessingMetrics.getListener();
+        long startTime = ProcessingMetrics.startTime(metricsListener);
+        int replacementsCount = 0;
+        int laneCount = SPECIES.length();
+        int position = fromIndex;
+        while (position + laneCount < toIndex) {
+            ShortVector chars = ShortVector.fromCharArray(SPECIES, text, position);
+            ShortVector nextChars = ShortVector.fromCharArray(SPECIES, text, position + 1);
+            VectorMask<Short> pairsMask = chars.compare(VectorOperators.EQ, (short) charBehind)
+                                               .and(nextChars.compare(VectorOperators.EQ, (short) charToReplace));
+            if (!pairsMask.anyTrue()) {
+                position += laneCount;
+                continue;
+            }
+            int pairPosition = position + pairsMask.firstTrue();
+            text[pairPosition + 1] = replacement;
+            replacementsCount++;
+            position = pairPosition + 2;
+        }
+        for (int i = position; i < toIndex; i++) {
+            int nextTextCharPosition = i + 1;
+            if (text[i] == charBehind && nextTextCharPosition < toIndex &&
+                text[nextTextCharPosition] == charToReplace) {
+                text[nextTextCharPosition] = replacement;
+                replacementsCount++;
+                i++;
+            }
+        }
+        ProcessingMetrics.record(metricsListener, ProcessingEngine.VECTOR,
+                                 ProcessingOperation.REPLACE_EACH_LETTER_AFTER, toIndex - fromIndex,
+                                 toIndex - fromIndex, 0, 0, replacementsCount, startTime);
+    }
+
+    public static char[] removeAllNotAlphabeticExceptSpaces(char[] text) throws TextProcessingException {
+        checkTextOnNull(text);
+        return removeAllNotAlphabeticExceptSpaces(text, 0, text.length);
+    }
+
+    public static char[] removeAllNotAlphabeticExceptSpaces(char[] text, int fromIndex, int toIndex)
+            throws TextProcessingException {
+        checkTextRange(text, fromIndex, toIndex);
+        ProcessingMetricsListener metricsListener = ProcessingMetrics.getListener();
+        long startTime = ProcessingMetrics.startTime(metricsListener);
+        Alphabet alphabet = CharacterClassifier.getAlphabet();
+        FastPathRanges ranges = getFastPathRanges(alphabet);
+        int sequencesCount = 0;
+        char[] editedText = new char[toIndex - fromIndex];
+        int editedTextOffset = 0;
+        int textOffset = fromIndex;
+        while (textOffset < toIndex) {
+            int sequenceStartPosition = findNotAlphabeticOrSpace(text, textOffset, toIndex, alphabet, ranges);
+            int keptLength = sequenceStartPosition - textOffset;
+            System.arraycopy(text, textOffset, editedText, editedTextOffset, keptLength);
+            editedTextOffset += keptLength;
+            if (sequenceStartPosition == toIndex) {
+                break;
+            }
+            sequencesCount++;
+            int sequenceEndPosition = sequenceStartPosition + 1;
+            while (sequenceEndPosition < toIndex &&
+                   !alphabet.isAlphabeticOrSpace(text[sequenceEndPosition])) {
+                sequenceEndPosition++;
+            }
+            boolean betweenTwoLetterSequences = sequenceStartPosition > fromIndex && sequenceEndPosition < toIndex &&
+                                                alphabet.isLetter(text[sequenceStartPosition - 1]) &&
+                                                alphabet.isLetter(text[sequenceEndPosition]);
+            if (betweenTwoLetterSequences) {
+                editedText[editedTextOffset] = ' ';
+                editedTextOffset++;
+            }
+            textOffset = sequenceEndPosition;
+        }
+        ProcessingMetrics.record(metricsListener, ProcessingEngine.VECTOR,
+                                 ProcessingOperation.REMOVE_ALL_NOT_ALPHABETIC_EXCEPT_SPACES, toIndex - fromIndex,
+                                 editedTextOffset, 0, 0, sequencesCount, startTime);
+        return Arrays.copyOf(editedText, editedTextOffset);
+    }
+
+    private static FastPathRanges getFastPathRanges(Alphabet alphabet) {
+        FastPathRanges ranges = fastPathRanges;
+        if (ranges.alphabet != alphabet) {
+            ranges = new FastPathRanges(alphabet);
+            fastPathRanges = ranges;
+        }
+        return ranges;
+    }
+
+    private static int findNotAlphabeticOrSpace(char[] text, int fromIndex, int toIndex, Alphabet alphabet,
+                                                FastPathRanges ranges) {
+        int laneCount = SPECIES.length();
+        int position = fromIndex;
+        while (position + laneCount <= toIndex) {
+            ShortVector chars = ShortVector.fromCharArray(SPECIES, text, position);
+            VectorMask<Short> unknownCharsMask = computeKnownAlphabeticOrSpaceMask(chars, ranges).not();
+            if (!unknownCharsMask.anyTrue()) {
+                position += laneCount;
+                continue;
+            }
+            int unknownCharPosition = position + unknownCharsMask.firstTrue();
+            if (!alphabet.isAlphabeticOrSpace(text[unknownCharPosition])) {
+                return unknownCharPosition;
+            }
+            position = unknownCharPosition + 1;
+        }
+        while (position < toIndex && alphabet.isAlphabeticOrSpace(text[position])) {
+            position++;
+        }
+        return position;
+    }
+
+    private static VectorMask<Short> computeKnownAlphabeticOrSpaceMask(ShortVector chars, FastPathRanges ranges) {
+        VectorMask<Short> controlWhitespacesMask = chars
+                .compare(VectorOperators.GE, ASCII_CONTROL_WHITESPACES_START)
+                .and(chars.compare(VectorOperators.LE, ASCII_CONTROL_WHITESPACES_END));
+        VectorMask<Short> separatorWhitespacesMask = chars
+                .compare(VectorOperators.GE, ASCII_SEPARATOR_WHITESPACES_START)
+                .and(chars.compare(VectorOperators.LE, ASCII_SEPARATOR_WHITESPACES_END));
+        VectorMask<Short> knownCharsMask = controlWhitespacesMask.or(separatorWhitespacesMask);
+        if (ranges.latinLetters) {
+            ShortVector lowerCaseChars = chars.lanewise(VectorOperators.OR, LOWER_CASE_BIT);
+            knownCharsMask = knownCharsMask.or(lowerCaseChars.compare(VectorOperators.GE, (short) 'a')
+                                                             .and(lowerCaseChars.compare(VectorOperators.LE,
+                                                                                         (short) 'z')));
+        }
+        if (ranges.cyrillicLetters) {
+            knownCharsMask = knownCharsMask.or(chars.compare(VectorOperators.GE, CYRILLIC_LETTERS_START)
+                                                    .and(chars.compare(VectorOperators.LE, CYRILLIC_LETTERS_END)));
+        }
+        return knownCharsMask;
+    }
+
+    private static void checkTextOnNull(char[] text) throws TextProcessingException {
+        if (text == null) {
+            throw new TextProcessingException("Text cannot be null.");
+        }
+    }
+
+    private static void checkTextRange(char[] text, int fromIndex, int toIndex) throws TextProcessingException {
+        checkTextOnNull(text);
+        if (fromIndex < 0 || fromIndex > toIndex || toIndex > text.length) {
+            throw new TextProcessingException("Text range is out of bounds.");
+        }
+    }
+
+    /**
+     * Letter ranges of the vector fast path that the alphabet contains as a whole.
+     */
+    private static final class FastPathRanges {
+
+        private final Alphabet alphabet;
+        private final boolean latinLetters;
+        private final boolean cyrillicLetters;
+
+        FastPathRanges(Alphabet alphabet) {
+            this.alphabet = alphabet;
+            latinLetters = containsLetters(alphabet, 'a', 'z') && containsLetters(alphabet, 'A', 'Z');
+            cyrillicLetters = containsLetters(alphabet, (char) CYRILLIC_LETTERS_START, (char) CYRILLIC_LETTERS_END);
+        }
+
+        private static boolean containsLetters(Alphabet alphabet, char firstLetter, char lastLetter) {
+            for (char letter = firstLetter; letter <= lastLetter; letter++) {
+                if (!alphabet.isLetter(letter)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
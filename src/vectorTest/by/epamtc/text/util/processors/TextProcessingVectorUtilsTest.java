@@ -0,0 +1,131 @@
+package by.epamtc.text.util.processors;
+
+import jdk.incubator.vector.ShortVector;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SuppressWarnings({"unused", "CodeBlock2Expr"})
+class TextProcessingVectorUtilsTest {
+
+    private static final int LANE_COUNT = ShortVector.SPECIES_PREFERRED.length();
+    private static final int RANDOM_TEXTS_PER_LENGTH = 20;
+
+    private static String fastPathChars = "abcxyzABCXYZ \t\n\r\u001C\u001FЀабвгдеёжАБВЯЁҁ";
+    private static String otherChars = "0123456789.,!?-_()[]{}@`'\"\u0000\u007F éÉіўґ\u0482\u048A\u03FF\u00A0\u2003" +
+                                       "\u4E2D\uD83D\uDE00\uFFFF";
+
+    private static Stream<Arguments> provideArgumentsForRandomTextTest() {
+        return Stream.of(Arguments.of(fastPathChars, 1L), Arguments.of(fastPathChars + otherChars, 2L),
+                         Arguments.of(otherChars, 3L), Arguments.of("aab", 4L), Arguments.of("a  bé", 5L));
+    }
+
+    private static Stream<Arguments> provideArgumentsForAlphabetAgreementTest() {
+        return Stream.of(Arguments.of(Alphabet.LATIN), Arguments.of(Alphabet.RUSSIAN),
+                         Arguments.of(Alphabet.BELARUSIAN), Arguments.of(Alphabet.UKRAINIAN),
+                         Arguments.of(Alphabet.UNICODE), Arguments.of(Alphabet.DEFAULT),
+                         Arguments.of(Alphabet.LATIN.union(Alphabet.BELARUSIAN)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideArgumentsForRandomTextTest")
+    void randomTextTest(String alphabet, long seed) throws TextProcessingException {
+        assertSameRandomResults(alphabet, seed);
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideArgumentsForAlphabetAgreementTest")
+    void alphabetAgreementTest(Alphabet alphabet) throws TextProcessingException {
+        CharacterClassifier.setAlphabet(alphabet);
+        try {
+            assertSameRandomResults(fastPathChars + otherChars, 6L);
+            assertSameRandomResults(fastPathChars, 7L);
+        } finally {
+            CharacterClassifier.setAlphabet(Alphabet.DEFAULT);
+        }
+    }
+
+    @Test
+    void laneBoundaryTest() throws TextProcessingException {
+        for (int boundary = LANE_COUNT - 1; boundary <= 2 * LANE_COUNT; boundary++) {
+            char[] text = "a".repeat(3 * LANE_COUNT).toCharArray();
+            text[boundary] = '!';
+            text[boundary - 1] = 'r';
+            text[boundary + 1] = 'a';
+            assertSameResults(text, 'r', '!', 0, text.length);
+            assertSameResults(text, '!', 'a', 0, text.length);
+            text[boundary] = 'é';
+            assertSameResults(text, 'a', 'a', 0, text.length);
+        }
+    }
+
+    @Test
+    void vectorStatisticsTest() throws TextProcessingException {
+        char[] text = "ab aab, ba!".repeat(LANE_COUNT).toCharArray();
+        ProcessingStatistics statistics = new ProcessingStatistics();
+        ProcessingMetrics.setListener(statistics);
+        try {
+            TextProcessingVectorUtils.replaceEachLetterAfter(text.clone(), 'a', 'b', 'c');
+            TextProcessingVectorUtils.removeAllNotAlphabeticExceptSpaces(text);
+        } finally {
+            ProcessingMetrics.setListener(null);
+        }
+        OperationStatistics letterStatistics = statistics.getStatistics(ProcessingEngine.VECTOR,
+                                                                        ProcessingOperation.REPLACE_EACH_LETTER_AFTER);
+        assertEquals(1, letterStatistics.getCalls());
+        assertEquals(2L * LANE_COUNT, letterStatistics.getReplacements());
+        OperationStatistics removalStatistics = statistics.getStatistics(
+                ProcessingEngine.VECTOR, ProcessingOperation.REMOVE_ALL_NOT_ALPHABETIC_EXCEPT_SPACES);
+        assertEquals(1, removalStatistics.getCalls());
+        assertEquals(text.length, removalStatistics.getCharsIn());
+    }
+
+    @Test
+    void vectorUtilsInvalidTest() {
+        assertThrows(TextProcessingException.class, () -> {
+            TextProcessingVectorUtils.removeAllNotAlphabeticExceptSpaces(null);
+        });
+        assertThrows(TextProcessingException.class, () -> {
+            TextProcessingVectorUtils.replaceEachLetterAfter("text".toCharArray(), 3, 2, 'a', 'b', 'c');
+        });
+    }
+
+    private static void assertSameRandomResults(String alphabet, long seed) throws TextProcessingException {
+        Random random = new Random(seed);
+        for (int length = 0; length <= 3 * LANE_COUNT + 2; length++) {
+            for (int i = 0; i < RANDOM_TEXTS_PER_LENGTH; i++) {
+                char[] text = new char[length];
+                for (int j = 0; j < length; j++) {
+                    text[j] = alphabet.charAt(random.nextInt(alphabet.length()));
+                }
+                char charBehind = alphabet.charAt(random.nextInt(alphabet.length()));
+                char charToReplace = alphabet.charAt(random.nextInt(alphabet.length()));
+                assertSameResults(text, charBehind, charToReplace, 0, length);
+                if (length > 2) {
+                    assertSameResults(text, charBehind, charToReplace, 1, length - 1);
+                }
+            }
+        }
+    }
+
+    private static void assertSameResults(char[] text, char charBehind, char charToReplace, int fromIndex,
+                                          int toIndex) throws TextProcessingException {
+        assertArrayEquals(TextProcessingCharArrayUtils.removeAllNotAlphabeticExceptSpaces(text, fromIndex, toIndex),
+                          TextProcessingVectorUtils.removeAllNotAlphabeticExceptSpaces(text, fromIndex, toIndex));
+        char[] expectedText = text.clone();
+        char[] vectorText = text.clone();
+        TextProcessingCharArrayUtils.replaceEachLetterAfter(expectedText, fromIndex, toIndex, charBehind,
+                                                            charToReplace, '#');
+        TextProcessingVectorUtils.replaceEachLetterAfter(vectorText, fromIndex, toIndex, charBehind, charToReplace,
+                                                         '#');
+        assertArrayEquals(expectedText, vectorText);
+    }
+}